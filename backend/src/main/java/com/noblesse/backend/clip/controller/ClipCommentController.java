@@ -0,0 +1,44 @@
+package com.noblesse.backend.clip.controller;
+
+import com.noblesse.backend.clip.dto.ClipCoCommentRegistRequestDTO;
+import com.noblesse.backend.clip.dto.ClipCommentRegistRequestDTO;
+import com.noblesse.backend.clip.service.ClipCoCommentService;
+import com.noblesse.backend.clip.service.ClipCommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/clips")
+@Tag(name = "Clip Comment Controller")
+public class ClipCommentController {
+
+    private final ClipCommentService clipCommentService;
+    private final ClipCoCommentService clipCoCommentService;
+
+    public ClipCommentController(ClipCommentService clipCommentService, ClipCoCommentService clipCoCommentService) {
+        this.clipCommentService = clipCommentService;
+        this.clipCoCommentService = clipCoCommentService;
+    }
+
+    @Operation(summary = "클립 댓글 일괄 등록")
+    @PostMapping(value = "/comments/bulk")
+    public ResponseEntity<List<Long>> registClipComments(@RequestBody List<ClipCommentRegistRequestDTO> requests) {
+        List<Long> clipCommentIds = clipCommentService.registClipComments(requests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(clipCommentIds);
+    }
+
+    @Operation(summary = "클립 대댓글 일괄 등록")
+    @PostMapping(value = "/co-comments/bulk")
+    public ResponseEntity<List<Long>> registClipCoComments(@RequestBody List<ClipCoCommentRegistRequestDTO> requests) {
+        List<Long> clipCoCommentIds = clipCoCommentService.registClipCoComments(requests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(clipCoCommentIds);
+    }
+}
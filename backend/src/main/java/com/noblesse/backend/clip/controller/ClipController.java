@@ -0,0 +1,150 @@
+package com.noblesse.backend.clip.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.dto.ClipRegistRequestDTO;
+import com.noblesse.backend.clip.dto.ClipThreadDTO;
+import com.noblesse.backend.clip.ingestion.ClipIngestionPipeline;
+import com.noblesse.backend.clip.ingestion.ClipIngestionStatsDTO;
+import com.noblesse.backend.clip.service.ClipService;
+import com.noblesse.backend.clip.service.ClipThreadService;
+import com.noblesse.backend.clip.streaming.ClipStreamingService;
+import com.noblesse.backend.clip.streaming.ClipStreamingStatsDTO;
+import com.noblesse.backend.common.batch.BatchResultDTO;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.common.export.NdjsonWriter;
+import com.noblesse.backend.counter.ClipViewCounterService;
+import com.noblesse.backend.counter.ClipViewStatsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/clips")
+@Tag(name = "Clip Controller")
+public class ClipController {
+
+    private final ClipService clipService;
+    private final ClipThreadService clipThreadService;
+    private final ObjectMapper objectMapper;
+    private final ClipIngestionPipeline clipIngestionPipeline;
+    private final ClipViewCounterService clipViewCounterService;
+    private final ClipStreamingService clipStreamingService;
+
+    public ClipController(ClipService clipService, ClipThreadService clipThreadService, ObjectMapper objectMapper,
+                          ClipIngestionPipeline clipIngestionPipeline, ClipViewCounterService clipViewCounterService,
+                          ClipStreamingService clipStreamingService) {
+        this.clipService = clipService;
+        this.clipThreadService = clipThreadService;
+        this.objectMapper = objectMapper;
+        this.clipIngestionPipeline = clipIngestionPipeline;
+        this.clipViewCounterService = clipViewCounterService;
+        this.clipStreamingService = clipStreamingService;
+    }
+
+    @Operation(summary = "클립 등록 (PENDING 으로 접수 후 비동기 처리)")
+    @PostMapping
+    public ResponseEntity<ClipDTO> registClip(@RequestBody ClipRegistRequestDTO clipRegistRequestDTO) {
+        ClipDTO clip = clipService.insertClip(clipRegistRequestDTO);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(clip);
+    }
+
+    @Operation(summary = "클립 처리 파이프라인 상태 조회")
+    @GetMapping(value = "/ingestion/stats")
+    public ResponseEntity<ClipIngestionStatsDTO> getIngestionStats() {
+        return ResponseEntity.ok(clipIngestionPipeline.getStats());
+    }
+
+    @Operation(summary = "클립 ID 목록으로 클립 일괄 조회")
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResultDTO<ClipDTO>> getClipsByIds(@RequestParam("ids") List<Long> ids) {
+        BatchResultDTO<ClipDTO> clips = clipService.findClipsByClipIds(ids);
+        return ResponseEntity.ok(clips);
+    }
+
+    @Operation(summary = "공개 클립 피드 커서 기반 조회 (minDuration/maxDuration: 재생 시간 범위, 초)")
+    @GetMapping(value = "/feed")
+    public ResponseEntity<CursorPageDTO<ClipDTO>> getClipFeed(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "userId", required = false) Long userId,
+            @RequestParam(value = "tripId", required = false) Long tripId,
+            @RequestParam(value = "minDuration", required = false) Integer minDuration,
+            @RequestParam(value = "maxDuration", required = false) Integer maxDuration
+    ) {
+        CursorPageDTO<ClipDTO> clips = clipService.findClipFeed(cursor, size, userId, tripId, minDuration, maxDuration);
+        return ResponseEntity.ok(clips);
+    }
+
+    @Operation(summary = "특정 사용자의 공개 클립 목록 커서 기반 조회")
+    @GetMapping(value = "/user/{userId}")
+    public ResponseEntity<CursorPageDTO<ClipDTO>> getClipsByUserId(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        CursorPageDTO<ClipDTO> clips = clipService.findClipsByUserId(userId, cursor, size);
+        return ResponseEntity.ok(clips);
+    }
+
+    @Operation(summary = "클립과 댓글/대댓글 스레드 조회 (댓글 커서 기반 페이지)")
+    @GetMapping(value = "/{clipId}/thread")
+    public ResponseEntity<ClipThreadDTO> getClipThread(
+            @PathVariable("clipId") Long clipId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        ClipThreadDTO thread = clipThreadService.findClipThread(clipId, cursor, size);
+        return ResponseEntity.ok(thread);
+    }
+
+    @Operation(summary = "클립 조회 기록")
+    @PostMapping(value = "/{clipId}/views")
+    public ResponseEntity<Void> recordClipView(@PathVariable("clipId") Long clipId) {
+        clipViewCounterService.recordView(clipId);
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(summary = "클립 조회수 조회")
+    @GetMapping(value = "/{clipId}/views")
+    public ResponseEntity<Long> getClipViewCount(@PathVariable("clipId") Long clipId) {
+        return ResponseEntity.ok(clipViewCounterService.getViewCount(clipId));
+    }
+
+    @Operation(summary = "클립 조회수 카운터 상태 조회")
+    @GetMapping(value = "/views/stats")
+    public ResponseEntity<ClipViewStatsDTO> getClipViewStats() {
+        return ResponseEntity.ok(clipViewCounterService.getStats());
+    }
+
+    @Operation(summary = "클립 파일 스트리밍 (Range 요청 지원)")
+    @RequestMapping(value = "/{clipId}/stream", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void streamClip(@PathVariable("clipId") Long clipId,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        clipStreamingService.stream(clipId, request, response);
+    }
+
+    @Operation(summary = "클립 스트리밍 상태 조회")
+    @GetMapping(value = "/stream/stats")
+    public ResponseEntity<ClipStreamingStatsDTO> getStreamingStats() {
+        return ResponseEntity.ok(clipStreamingService.getStats());
+    }
+
+    @Operation(summary = "전체 클립 NDJSON 스트리밍 내보내기")
+    @GetMapping(value = "/export")
+    public void exportClips(HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonWriter.CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream());
+        clipService.exportAll(writer::write);
+        writer.flush();
+    }
+}
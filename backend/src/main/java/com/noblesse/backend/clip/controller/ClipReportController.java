@@ -0,0 +1,47 @@
+package com.noblesse.backend.clip.controller;
+
+import com.noblesse.backend.clip.dto.ClipReportRegistRequestDTO;
+import com.noblesse.backend.clip.report.ClipReportSummaryDTO;
+import com.noblesse.backend.clip.service.ClipReportService;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/clips")
+@Tag(name = "Clip Report Controller")
+public class ClipReportController {
+
+    private final ClipReportService clipReportService;
+
+    public ClipReportController(ClipReportService clipReportService) {
+        this.clipReportService = clipReportService;
+    }
+
+    @Operation(summary = "클립 신고 등록 (임계치 이상이면 클립 자동 비공개)")
+    @PostMapping(value = "/reports")
+    public ResponseEntity<Void> registClipReport(@RequestBody ClipReportRegistRequestDTO clipReportRegistRequestDTO) {
+        clipReportService.registClipReport(clipReportRegistRequestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    @Operation(summary = "신고가 많은 클립 현황 조회")
+    @GetMapping(value = "/reports/summary")
+    public ResponseEntity<List<ClipReportSummaryDTO>> getMostReportedClips(
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        List<ClipReportSummaryDTO> summaries = clipReportService.findMostReportedClips(CursorPageDTO.boundSize(size));
+        return ResponseEntity.ok(summaries);
+    }
+
+    @Operation(summary = "클립별 신고 카테고리 현황 조회")
+    @GetMapping(value = "/{clipId}/reports/summary")
+    public ResponseEntity<ClipReportSummaryDTO> getClipReportSummary(@PathVariable("clipId") Long clipId) {
+        return ResponseEntity.ok(clipReportService.findClipReportSummary(clipId));
+    }
+}
@@ -0,0 +1,72 @@
+package com.noblesse.backend.clip.controller;
+
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.upload.ClipUploadCreateRequestDTO;
+import com.noblesse.backend.clip.upload.ClipUploadService;
+import com.noblesse.backend.clip.upload.ClipUploadStatusDTO;
+import com.noblesse.backend.oauth2.security.JwtUserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping(value = "/api/clips/uploads")
+@Tag(name = "Clip Upload Controller")
+public class ClipUploadController {
+
+    private final ClipUploadService clipUploadService;
+
+    public ClipUploadController(ClipUploadService clipUploadService) {
+        this.clipUploadService = clipUploadService;
+    }
+
+    @Operation(summary = "청크 업로드 시작 (청크 크기와 청크 수 반환)")
+    @PostMapping
+    public ResponseEntity<ClipUploadStatusDTO> createUpload(@AuthenticationPrincipal JwtUserPrincipal principal,
+                                                            @RequestBody ClipUploadCreateRequestDTO clipUploadCreateRequestDTO) {
+        ClipUploadStatusDTO status = clipUploadService.createUpload(principal.userId(), clipUploadCreateRequestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(status);
+    }
+
+    @Operation(summary = "업로드 진행 상태 조회 (이어 올릴 청크 확인)")
+    @GetMapping(value = "/{uploadId}")
+    public ResponseEntity<ClipUploadStatusDTO> getUploadStatus(@AuthenticationPrincipal JwtUserPrincipal principal,
+                                                               @PathVariable("uploadId") String uploadId) {
+        return ResponseEntity.ok(clipUploadService.getStatus(principal.userId(), uploadId));
+    }
+
+    @Operation(summary = "청크 업로드 (본문은 application/octet-stream)")
+    @PutMapping(value = "/{uploadId}/chunks/{chunkIndex}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ClipUploadStatusDTO> uploadChunk(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @PathVariable("uploadId") String uploadId,
+            @PathVariable("chunkIndex") int chunkIndex,
+            HttpServletRequest request
+    ) throws IOException {
+        ClipUploadStatusDTO status = clipUploadService.writeChunk(principal.userId(), uploadId, chunkIndex, request.getInputStream());
+        return ResponseEntity.ok(status);
+    }
+
+    @Operation(summary = "업로드 완료 및 클립 등록")
+    @PostMapping(value = "/{uploadId}/complete")
+    public ResponseEntity<ClipDTO> completeUpload(@AuthenticationPrincipal JwtUserPrincipal principal,
+                                                  @PathVariable("uploadId") String uploadId) {
+        ClipDTO clip = clipUploadService.completeUpload(principal.userId(), uploadId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(clip);
+    }
+
+    @Operation(summary = "업로드 취소")
+    @DeleteMapping(value = "/{uploadId}")
+    public ResponseEntity<Void> cancelUpload(@AuthenticationPrincipal JwtUserPrincipal principal,
+                                             @PathVariable("uploadId") String uploadId) {
+        clipUploadService.cancelUpload(principal.userId(), uploadId);
+        return ResponseEntity.noContent().build();
+    }
+}
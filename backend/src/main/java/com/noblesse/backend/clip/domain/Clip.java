@@ -6,10 +6,17 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity(name = "Clip")
-@Table(name = "clip")
+@Table(name = "clip", indexes = {
+        @Index(name = "idx_clip_opened_upload_datetime", columnList = "IS_OPENED, UPLOAD_DATETIME, CLIP_ID"),
+        @Index(name = "idx_clip_user_opened_upload_datetime", columnList = "USER_ID, IS_OPENED, UPLOAD_DATETIME, CLIP_ID"),
+        @Index(name = "idx_clip_trip_opened_upload_datetime", columnList = "TRIP_ID, IS_OPENED, UPLOAD_DATETIME, CLIP_ID"),
+        @Index(name = "idx_clip_status_upload_datetime", columnList = "STATUS, UPLOAD_DATETIME")
+})
 public class Clip {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "clip_id_generator", table = "id_generator", pkColumnName = "SEQUENCE_NAME",
+            valueColumnName = "NEXT_VAL", pkColumnValue = "CLIP", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "clip_id_generator")
     @Column(name = "CLIP_ID") // 클립 PK code
     private Long clipId;
 
@@ -32,6 +39,38 @@ public class Clip {
     @Column(name = "TRIP_ID") // 해당 여행 TRIP_CODE
     private Long tripId;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS") // 처리 상태 (PENDING -> READY / FAILED)
+    private ClipStatus status;
+
+    @Column(name = "CONTENT_TYPE") // 클립 Content-Type (처리 완료 후 채워짐)
+    private String contentType;
+
+    @Column(name = "CONTENT_LENGTH") // 클립 크기 (bytes, 처리 완료 후 채워짐)
+    private Long contentLength;
+
+    @Column(name = "DURATION_MILLIS") // 재생 시간 (ms, MP4/MOV 헤더에서 추출)
+    private Long durationMillis;
+
+    @Column(name = "VIDEO_WIDTH") // 영상 가로 해상도
+    private Integer videoWidth;
+
+    @Column(name = "VIDEO_HEIGHT") // 영상 세로 해상도
+    private Integer videoHeight;
+
+    @Column(name = "VIDEO_CODEC") // 영상 코덱 (avc1, hvc1 등 sample entry 타입)
+    private String videoCodec;
+
+    // 카운터 컬럼은 EngagementCounterService 가 batch UPDATE 로 반영하므로 JPA 로는 쓰지 않는다.
+    @Column(name = "COMMENT_COUNT", insertable = false, updatable = false) // 댓글 수
+    private Long commentCount = 0L;
+
+    @Column(name = "CO_COMMENT_COUNT", insertable = false, updatable = false) // 대댓글 수
+    private Long coCommentCount = 0L;
+
+    @Column(name = "REPORT_COUNT", insertable = false, updatable = false) // 신고 수
+    private Long reportCount = 0L;
+
     protected Clip() {}
 
     public Clip(String clipTitle, String clipUrl, Boolean isOpened, Long userId, Long tripId) {
@@ -40,6 +79,7 @@ public class Clip {
         this.isOpened = isOpened;
         this.userId = userId;
         this.tripId = tripId;
+        this.status = ClipStatus.PENDING;
     }
 
     public Long getClipId() {
@@ -70,6 +110,46 @@ public class Clip {
         return tripId;
     }
 
+    public ClipStatus getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Long getContentLength() {
+        return contentLength;
+    }
+
+    public Long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public Integer getVideoWidth() {
+        return videoWidth;
+    }
+
+    public Integer getVideoHeight() {
+        return videoHeight;
+    }
+
+    public String getVideoCodec() {
+        return videoCodec;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public Long getCoCommentCount() {
+        return coCommentCount;
+    }
+
+    public Long getReportCount() {
+        return reportCount;
+    }
+
     @Override
     public String toString() {
         return "Clip{" +
@@ -80,6 +160,7 @@ public class Clip {
                 ", isOpened=" + isOpened +
                 ", userId=" + userId +
                 ", tripId=" + tripId +
+                ", status=" + status +
                 '}';
     }
 }
@@ -1,5 +1,6 @@
 package com.noblesse.backend.clip.domain;
 
+import com.noblesse.backend.counter.EngagementCounterListener;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -7,10 +8,15 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity(name = "ClipCoComment")
-@Table(name = "CLIP_CO_COMMENT")
+@Table(name = "CLIP_CO_COMMENT", indexes = {
+        @Index(name = "idx_clip_co_comment_comment_written_datetime", columnList = "CLIP_COMMENT_ID, WRITTEN_DATETIME, CLIP_CO_COMMENT_ID")
+})
+@EntityListeners(EngagementCounterListener.class)
 public class ClipCoComment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "clip_co_comment_id_generator", table = "id_generator", pkColumnName = "SEQUENCE_NAME",
+            valueColumnName = "NEXT_VAL", pkColumnValue = "CLIP_CO_COMMENT", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "clip_co_comment_id_generator")
     @Column(name = "CLIP_CO_COMMENT_ID")
     private Long clipCoCommentId;
 
@@ -1,5 +1,6 @@
 package com.noblesse.backend.clip.domain;
 
+import com.noblesse.backend.counter.EngagementCounterListener;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -7,10 +8,16 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity(name = "ClipComment")
-@Table(name = "CLIP_COMMENT")
+@Table(name = "CLIP_COMMENT", indexes = {
+        @Index(name = "idx_clip_comment_clip_written_datetime", columnList = "CLIP_ID, WRITTEN_DATETIME, CLIP_COMMENT_ID")
+})
+@EntityListeners(EngagementCounterListener.class)
 public class ClipComment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC batch 가 꺼지므로 id_generator 테이블에서 50 개씩 미리 할당받는다.
+    @TableGenerator(name = "clip_comment_id_generator", table = "id_generator", pkColumnName = "SEQUENCE_NAME",
+            valueColumnName = "NEXT_VAL", pkColumnValue = "CLIP_COMMENT", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "clip_comment_id_generator")
     @Column(name = "CLIP_COMMENT_ID") // CLIP COMMENT PK
     private Long clipCommentId;
 
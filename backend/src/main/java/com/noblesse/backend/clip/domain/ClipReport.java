@@ -6,7 +6,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity(name = "ClipReport")
-@Table(name = "CLIP_REPORT")
+@Table(name = "CLIP_REPORT", indexes = {
+        @Index(name = "idx_clip_report_clip_category", columnList = "CLIP_ID, REPORT_CATEGORY_ID")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_clip_report_user_clip", columnNames = {"USER_ID", "CLIP_ID"})
+})
 public class ClipReport {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,7 @@
+package com.noblesse.backend.clip.domain;
+
+public enum ClipStatus {
+    PENDING,    // 업로드 접수, 검증/메타데이터 추출 대기
+    READY,      // 검증 완료, 피드 노출 가능
+    FAILED      // 검증 실패
+}
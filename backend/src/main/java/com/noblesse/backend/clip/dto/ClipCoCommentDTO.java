@@ -0,0 +1,20 @@
+package com.noblesse.backend.clip.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ClipCoCommentDTO {
+    private Long clipCoCommentId;
+    private String clipCoCommentContent;
+    private LocalDateTime writtenDatetime;
+    private LocalDateTime modifiedDatetime;
+    private Long userId;
+    private Long clipCommentId;
+}
@@ -0,0 +1,32 @@
+package com.noblesse.backend.clip.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ClipCommentDTO {
+    private Long clipCommentId;
+    private String clipCommentContent;
+    private LocalDateTime writtenDatetime;
+    private LocalDateTime modifiedDatetime;
+    private Long userId;
+    private Long clipId;
+    private List<ClipCoCommentDTO> coComments;
+
+    // Projection 용 생성자 (JPQL 생성자 표현식)
+    public ClipCommentDTO(Long clipCommentId, String clipCommentContent, LocalDateTime writtenDatetime, LocalDateTime modifiedDatetime, Long userId, Long clipId) {
+        this.clipCommentId = clipCommentId;
+        this.clipCommentContent = clipCommentContent;
+        this.writtenDatetime = writtenDatetime;
+        this.modifiedDatetime = modifiedDatetime;
+        this.userId = userId;
+        this.clipId = clipId;
+    }
+}
@@ -0,0 +1,49 @@
+package com.noblesse.backend.clip.dto;
+
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.domain.ClipStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ClipDTO {
+    private Long clipId;
+    private String clipTitle;
+    private String clipUrl;
+    private Boolean isOpened;
+    private LocalDateTime uploadDatetime;
+    private Long userId;
+    private Long tripId;
+    private Long commentCount;
+    private Long coCommentCount;
+    private Long reportCount;
+    private ClipStatus status;
+    private Long durationMillis;
+    private Integer videoWidth;
+    private Integer videoHeight;
+    private String videoCodec;
+
+    // Entity로부터 DTO를 생성하는 생성자
+    public ClipDTO(Clip clip) {
+        this.clipId = clip.getClipId();
+        this.clipTitle = clip.getClipTitle();
+        this.clipUrl = clip.getClipUrl();
+        this.isOpened = clip.getOpened();
+        this.uploadDatetime = clip.getUploadDatetime();
+        this.userId = clip.getUserId();
+        this.tripId = clip.getTripId();
+        this.commentCount = clip.getCommentCount();
+        this.coCommentCount = clip.getCoCommentCount();
+        this.reportCount = clip.getReportCount();
+        this.status = clip.getStatus();
+        this.durationMillis = clip.getDurationMillis();
+        this.videoWidth = clip.getVideoWidth();
+        this.videoHeight = clip.getVideoHeight();
+        this.videoCodec = clip.getVideoCodec();
+    }
+}
@@ -0,0 +1,14 @@
+package com.noblesse.backend.clip.dto;
+
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClipThreadDTO {
+    private ClipDTO clip;
+    private CursorPageDTO<ClipCommentDTO> comments;    // 댓글은 작성순, 각 댓글에 대댓글(coComments)이 채워져 있다.
+}
@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ClipNotFoundException extends IllegalArgumentException {
+    public ClipNotFoundException(Long id) {
+        super(String.format("클립 ID %d 를 찾을 수 없어요...", id));
+    }
+}
@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateClipReportException extends IllegalStateException {
+    public DuplicateClipReportException(Long userId, Long clipId) {
+        super(String.format("사용자 ID %d 는 이미 클립 ID %d 를 신고했어요...", userId, clipId));
+    }
+}
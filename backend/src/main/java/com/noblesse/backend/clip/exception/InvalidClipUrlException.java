@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidClipUrlException extends IllegalArgumentException {
+    public InvalidClipUrlException(String clipUrl) {
+        super(String.format("클립 URL %s 로는 클립을 등록할 수 없어요...", clipUrl));
+    }
+}
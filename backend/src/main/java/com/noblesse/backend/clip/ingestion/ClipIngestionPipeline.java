@@ -0,0 +1,163 @@
+package com.noblesse.backend.clip.ingestion;
+
+import com.noblesse.backend.clip.repository.ClipRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PENDING 상태로 저장된 클립을 검증하고 메타데이터를 추출해 READY(실패 시 FAILED)로 바꾸는 비동기 파이프라인
+ * 워커 수 + 대기열 크기만큼의 슬롯을 요청 시점에 먼저 확보하고(reserve), 슬롯이 없으면 저장 전에 거절하여
+ * 요청 스레드(Tomcat)가 대기열 때문에 막히지 않도록 한다.
+ * Java 17 기준이라 가상 스레드 대신 고정 크기 플랫폼 스레드 풀을 사용한다.
+ */
+@Component
+public class ClipIngestionPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ClipIngestionPipeline.class);
+
+    private final ClipRepository clipRepository;
+    private final ClipMetadataExtractor clipMetadataExtractor;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final Set<Long> inFlightClipIds = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    public ClipIngestionPipeline(
+            ClipRepository clipRepository,
+            ClipMetadataExtractor clipMetadataExtractor,
+            @Value("${clip.ingestion.workers:4}") int workers,
+            @Value("${clip.ingestion.queue-capacity:200}") int queueCapacity
+    ) {
+        this.clipRepository = clipRepository;
+        this.clipMetadataExtractor = clipMetadataExtractor;
+        this.slots = new Semaphore(workers + queueCapacity);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기열 크기는 slots 가 제한하므로 큐 자체는 거절 없이 받는다.
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "clip-ingestion-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    /** 처리 슬롯을 하나 확보하는 메서드 (슬롯이 없으면 ClipIngestionRejectedException) */
+    public void reserve() {
+        if (!slots.tryAcquire()) {
+            rejected.increment();
+            throw new ClipIngestionRejectedException();
+        }
+    }
+
+    /** 확보한 슬롯을 사용하지 않고 반납하는 메서드 (저장 실패 등) */
+    public void cancelReservation() {
+        slots.release();
+    }
+
+    /** 슬롯을 확보한 클립을 처리 대기열에 넣는 메서드 */
+    public void submit(Long clipId) {
+        if (!inFlightClipIds.add(clipId)) {
+            slots.release();
+            return;
+        }
+
+        long enqueuedAt = System.nanoTime();
+        submitted.increment();
+        executor.execute(() -> process(clipId, enqueuedAt));
+    }
+
+    /** 재시작 등으로 처리되지 않고 남은 PENDING 클립을 다시 대기열에 넣는 메서드 */
+    @Scheduled(initialDelayString = "${clip.ingestion.pending-sweep-interval-ms:60000}",
+            fixedDelayString = "${clip.ingestion.pending-sweep-interval-ms:60000}")
+    public void resubmitPendingClips() {
+        List<Long> pendingClipIds = clipRepository.findPendingClipIdsUploadedBefore(
+                LocalDateTime.now().minusMinutes(1), PageRequest.ofSize(slots.availablePermits() + 1));
+
+        for (Long clipId : pendingClipIds) {
+            if (inFlightClipIds.contains(clipId)) {
+                continue;
+            }
+            if (!slots.tryAcquire()) {
+                break;
+            }
+            submit(clipId);
+        }
+    }
+
+    public ClipIngestionStatsDTO getStats() {
+        long finished = completed.sum() + failed.sum();
+        return ClipIngestionStatsDTO.builder()
+                .queueDepth(executor.getQueue().size())
+                .activeWorkers(executor.getActiveCount())
+                .availableSlots(slots.availablePermits())
+                .submitted(submitted.sum())
+                .completed(completed.sum())
+                .failed(failed.sum())
+                .rejected(rejected.sum())
+                .averageLatencyMillis(finished == 0 ? 0 : totalLatencyNanos.sum() / (double) finished / 1_000_000)
+                .maxLatencyMillis(maxLatencyNanos.get() / 1_000_000.0)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void process(Long clipId, long enqueuedAt) {
+        try {
+            String clipUrl = clipRepository.findClipUrlByClipId(clipId).orElse(null);
+            if (clipUrl == null) {
+                return;
+            }
+
+            ClipMetadata metadata = clipMetadataExtractor.extract(clipUrl);
+            Mp4Metadata media = metadata.media();
+            clipRepository.markReady(clipId, metadata.contentType(), metadata.contentLength(),
+                    media.durationMillis(), media.width(), media.height(), media.codec());
+            completed.increment();
+        } catch (ClipValidationException e) {
+            clipRepository.markFailed(clipId);
+            failed.increment();
+            log.info("Clip {} failed validation: {}", clipId, e.getMessage());
+        } catch (RuntimeException e) {
+            // DB 오류 등 일시적인 실패는 PENDING 으로 남겨 다음 sweep 에서 다시 처리한다.
+            failed.increment();
+            log.warn("Clip {} ingestion failed", clipId, e);
+        } finally {
+            long latency = System.nanoTime() - enqueuedAt;
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+            inFlightClipIds.remove(clipId);
+            slots.release();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.ingestion;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ClipIngestionRejectedException extends IllegalStateException {
+    public ClipIngestionRejectedException() {
+        super("클립 처리 대기열이 가득 찼어요... 잠시 후 다시 시도해 주세요.");
+    }
+}
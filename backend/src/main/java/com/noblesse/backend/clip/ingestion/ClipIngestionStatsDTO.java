@@ -0,0 +1,20 @@
+package com.noblesse.backend.clip.ingestion;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClipIngestionStatsDTO {
+    private int queueDepth;
+    private int activeWorkers;
+    private int availableSlots;
+    private long submitted;
+    private long completed;
+    private long failed;
+    private long rejected;
+    private double averageLatencyMillis;
+    private double maxLatencyMillis;
+}
@@ -0,0 +1,9 @@
+package com.noblesse.backend.clip.ingestion;
+
+public record ClipMetadata(String contentType, Long contentLength, Mp4Metadata media) {
+
+    // 원격 URL 은 HEAD 응답만 보므로 영상 정보가 없다.
+    public ClipMetadata(String contentType, Long contentLength) {
+        this(contentType, contentLength, Mp4Metadata.EMPTY);
+    }
+}
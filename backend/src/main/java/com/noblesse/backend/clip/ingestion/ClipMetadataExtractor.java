@@ -0,0 +1,182 @@
+package com.noblesse.backend.clip.ingestion;
+
+import com.noblesse.backend.clip.storage.ClipFileNotFoundException;
+import com.noblesse.backend.clip.storage.ClipStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 클립 URL 을 검증하고 메타데이터(Content-Type, Content-Length)를 추출하는 컴포넌트
+ * 본문은 내려받지 않고 HEAD 요청만 보내며, 로컬 저장소의 클립(local:)은 파일 속성과 MP4 헤더(재생 시간, 해상도, 코덱)만 읽는다.
+ * 사용자가 보낸 URL 로 서버가 요청을 보내므로, 호스트가 루프백/링크 로컬/사설 주소로 해석되면 요청 전에 거절하고
+ * 리다이렉트는 자동으로 따라가지 않고 hop 마다 같은 검사를 거친다. (clip.ingestion.allowed-hosts 에 있는 호스트는 예외)
+ * 검사 후 HttpClient 가 이름을 다시 해석하므로 DNS rebinding 까지 막지는 못한다.
+ */
+@Component
+public class ClipMetadataExtractor {
+
+    private static final int MAX_REDIRECTS = 3;
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final ClipStorage clipStorage;
+    private final Set<String> allowedHosts;
+
+    public ClipMetadataExtractor(@Value("${clip.ingestion.head-timeout:5s}") Duration requestTimeout, ClipStorage clipStorage,
+                                 @Value("${clip.ingestion.allowed-hosts:}") List<String> allowedHosts) {
+        this.clipStorage = clipStorage;
+        this.requestTimeout = requestTimeout;
+        this.allowedHosts = allowedHosts.stream()
+                .map(host -> host.trim().toLowerCase(Locale.ROOT))
+                .filter(host -> !host.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    public ClipMetadata extract(String clipUrl) {
+        if (clipStorage.isLocal(clipUrl)) {
+            return extractLocal(clipUrl);
+        }
+
+        URI uri = parse(clipUrl);
+        for (int redirects = 0; ; redirects++) {
+            checkPublicHost(clipUrl, uri);
+            HttpResponse<Void> response = head(clipUrl, uri);
+
+            int statusCode = response.statusCode();
+            if (isRedirect(statusCode)) {
+                if (redirects == MAX_REDIRECTS) {
+                    throw new ClipValidationException(clipUrl, "too many redirects");
+                }
+                String location = response.headers().firstValue("Location")
+                        .orElseThrow(() -> new ClipValidationException(clipUrl, "redirect without location"));
+                uri = resolveRedirect(clipUrl, uri, location);
+                continue;
+            }
+            if (statusCode / 100 != 2) {
+                throw new ClipValidationException(clipUrl, "HTTP " + statusCode);
+            }
+
+            String contentType = response.headers().firstValue("Content-Type").orElse(null);
+            Long contentLength = response.headers().firstValueAsLong("Content-Length").isPresent()
+                    ? response.headers().firstValueAsLong("Content-Length").getAsLong()
+                    : null;
+            return new ClipMetadata(contentType, contentLength);
+        }
+    }
+
+    private HttpResponse<Void> head(String clipUrl, URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(requestTimeout)
+                .build();
+
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new ClipValidationException(clipUrl, e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClipValidationException(clipUrl, "interrupted");
+        }
+    }
+
+    /** 호스트가 해석되는 주소 중 하나라도 내부 주소이면 요청 전에 거절하는 메서드 */
+    private void checkPublicHost(String clipUrl, URI uri) {
+        String host = uri.getHost();
+        if (allowedHosts.contains(host.toLowerCase(Locale.ROOT))) {
+            return;
+        }
+
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            throw new ClipValidationException(clipUrl, "unknown host");
+        }
+        for (InetAddress address : addresses) {
+            if (isInternal(address)) {
+                throw new ClipValidationException(clipUrl, "internal address");
+            }
+        }
+    }
+
+    // 루프백, 링크 로컬(169.254.169.254 메타데이터 포함), 사설(10/8, 172.16/12, 192.168/16), IPv6 ULA(fc00::/7), CGNAT(100.64/10)
+    private static boolean isInternal(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet6Address) {
+            return (bytes[0] & 0xfe) == 0xfc;
+        }
+        return (bytes[0] & 0xff) == 100 && (bytes[1] & 0xc0) == 64;
+    }
+
+    private static boolean isRedirect(int statusCode) {
+        return statusCode == 301 || statusCode == 302 || statusCode == 303 || statusCode == 307 || statusCode == 308;
+    }
+
+    private URI resolveRedirect(String clipUrl, URI current, String location) {
+        URI target;
+        try {
+            target = current.resolve(location.trim());
+        } catch (IllegalArgumentException e) {
+            throw new ClipValidationException(clipUrl, "malformed redirect");
+        }
+        return checkScheme(clipUrl, target);
+    }
+
+    private ClipMetadata extractLocal(String clipUrl) {
+        try {
+            Path file = clipStorage.resolve(clipUrl);
+            return new ClipMetadata(Files.probeContentType(file), Files.size(file), Mp4MetadataParser.parse(file));
+        } catch (ClipFileNotFoundException e) {
+            throw new ClipValidationException(clipUrl, "file not found");
+        } catch (IOException e) {
+            throw new ClipValidationException(clipUrl, e.getClass().getSimpleName());
+        }
+    }
+
+    private URI parse(String clipUrl) {
+        if (clipUrl == null || clipUrl.isBlank()) {
+            throw new ClipValidationException(clipUrl, "empty url");
+        }
+
+        try {
+            return checkScheme(clipUrl, new URI(clipUrl.trim()));
+        } catch (URISyntaxException e) {
+            throw new ClipValidationException(clipUrl, "malformed url");
+        }
+    }
+
+    private static URI checkScheme(String clipUrl, URI uri) {
+        String scheme = uri.getScheme();
+        if (scheme == null || !(scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https")) || uri.getHost() == null) {
+            throw new ClipValidationException(clipUrl, "unsupported url");
+        }
+        return uri;
+    }
+}
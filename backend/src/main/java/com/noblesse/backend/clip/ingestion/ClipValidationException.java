@@ -0,0 +1,7 @@
+package com.noblesse.backend.clip.ingestion;
+
+public class ClipValidationException extends IllegalArgumentException {
+    public ClipValidationException(String clipUrl, String reason) {
+        super(String.format("클립 URL %s 을 확인할 수 없어요... (%s)", clipUrl, reason));
+    }
+}
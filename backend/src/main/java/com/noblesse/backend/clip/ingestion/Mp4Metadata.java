@@ -0,0 +1,9 @@
+package com.noblesse.backend.clip.ingestion;
+
+/**
+ * MP4/MOV 컨테이너 헤더에서 읽은 영상 정보 (읽을 수 없는 값은 null)
+ */
+public record Mp4Metadata(Long durationMillis, Integer width, Integer height, String codec) {
+
+    public static final Mp4Metadata EMPTY = new Mp4Metadata(null, null, null, null);
+}
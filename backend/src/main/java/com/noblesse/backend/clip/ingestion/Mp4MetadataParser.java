@@ -0,0 +1,223 @@
+package com.noblesse.backend.clip.ingestion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+
+/**
+ * MP4/MOV(ISO BMFF) 박스 구조에서 재생 시간, 해상도, 코덱을 읽는 파서
+ * 최상위 박스는 헤더(8~16 byte)만 읽으며 건너뛰고, moov 박스만 메모리 매핑해 mvhd/tkhd/hdlr/stsd 를 읽는다.
+ * 영상 데이터(mdat)는 읽지 않으므로 파일 크기와 관계없이 수 밀리초 안에 끝난다.
+ * MP4 가 아니거나 구조가 깨진 파일은 예외 대신 Mp4Metadata.EMPTY 를 반환한다.
+ */
+public final class Mp4MetadataParser {
+
+    private static final int FTYP = fourCc("ftyp");
+    private static final int MOOV = fourCc("moov");
+    private static final int MVHD = fourCc("mvhd");
+    private static final int TRAK = fourCc("trak");
+    private static final int TKHD = fourCc("tkhd");
+    private static final int MDIA = fourCc("mdia");
+    private static final int HDLR = fourCc("hdlr");
+    private static final int MINF = fourCc("minf");
+    private static final int STBL = fourCc("stbl");
+    private static final int STSD = fourCc("stsd");
+    private static final int VIDE = fourCc("vide");
+
+    // 첫 박스가 이 중 하나가 아니면 MP4/MOV 가 아닌 것으로 본다. (오래된 MOV 는 ftyp 없이 시작할 수 있다)
+    private static final Set<Integer> LEADING_BOX_TYPES = Set.of(
+            FTYP, MOOV, fourCc("mdat"), fourCc("free"), fourCc("skip"), fourCc("wide"), fourCc("pnot"));
+
+    // moov 는 보통 수백 KB 이하이므로, 그보다 훨씬 크면 손상된 파일로 보고 매핑하지 않는다.
+    private static final long MAX_MOOV_SIZE = 64L * 1024 * 1024;
+
+    private Mp4MetadataParser() {
+    }
+
+    public static Mp4Metadata parse(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(16);
+            long position = 0;
+
+            while (position + 8 <= fileSize) {
+                header.clear();
+                while (header.hasRemaining() && channel.read(header, position + header.position()) > 0) {
+                    // 박스 헤더만 읽는다.
+                }
+                header.flip();
+
+                long size = header.getInt() & 0xFFFFFFFFL;
+                int type = header.getInt();
+                int headerSize = 8;
+                if (size == 1) {
+                    if (header.remaining() < 8) {
+                        return Mp4Metadata.EMPTY;
+                    }
+                    size = header.getLong();
+                    headerSize = 16;
+                } else if (size == 0) {
+                    size = fileSize - position;
+                }
+                if (size < headerSize || size > fileSize - position
+                        || (position == 0 && !LEADING_BOX_TYPES.contains(type))) {
+                    return Mp4Metadata.EMPTY;
+                }
+
+                if (type == MOOV) {
+                    long bodySize = size - headerSize;
+                    if (bodySize > MAX_MOOV_SIZE) {
+                        return Mp4Metadata.EMPTY;
+                    }
+                    return parseMoov(channel.map(FileChannel.MapMode.READ_ONLY, position + headerSize, bodySize));
+                }
+                position += size;
+            }
+            return Mp4Metadata.EMPTY;
+        }
+    }
+
+    private static Mp4Metadata parseMoov(ByteBuffer moov) {
+        Long[] durationMillis = new Long[1];
+        Track[] videoTrack = new Track[1];
+
+        forEachBox(moov, (type, body) -> {
+            if (type == MVHD) {
+                durationMillis[0] = parseMvhd(body);
+            } else if (type == TRAK && videoTrack[0] == null) {
+                Track track = parseTrak(body);
+                if (track.isVideo()) {
+                    videoTrack[0] = track;
+                }
+            }
+        });
+
+        Track track = videoTrack[0];
+        return track == null
+                ? new Mp4Metadata(durationMillis[0], null, null, null)
+                : new Mp4Metadata(durationMillis[0], track.width, track.height, track.codec);
+    }
+
+    // mvhd: version(1) flags(3) creation modification timescale(4) duration (version 1 이면 시각/재생 시간이 8 byte)
+    private static Long parseMvhd(ByteBuffer mvhd) {
+        if (mvhd.limit() < 1) {
+            return null;
+        }
+        boolean version1 = mvhd.get(0) == 1;
+        if (mvhd.limit() < (version1 ? 32 : 20)) {
+            return null;
+        }
+
+        long timescale = mvhd.getInt(version1 ? 20 : 12) & 0xFFFFFFFFL;
+        long duration = version1 ? mvhd.getLong(24) : mvhd.getInt(16) & 0xFFFFFFFFL;
+        // 모든 비트가 1 이면 재생 시간을 알 수 없다는 뜻이다.
+        boolean unknown = version1 ? duration == -1L : duration == 0xFFFFFFFFL;
+        if (timescale == 0 || unknown || duration < 0) {
+            return null;
+        }
+        return Math.round(duration * 1000.0 / timescale);
+    }
+
+    private static Track parseTrak(ByteBuffer trak) {
+        Track track = new Track();
+        forEachBox(trak, (type, body) -> {
+            if (type == TKHD) {
+                parseTkhd(body, track);
+            } else if (type == MDIA) {
+                forEachBox(body, (mdiaType, mdiaBody) -> {
+                    if (mdiaType == HDLR && mdiaBody.limit() >= 12) {
+                        // hdlr: version/flags(4) pre_defined(4) handler_type(4)
+                        track.handlerType = mdiaBody.getInt(8);
+                    } else if (mdiaType == MINF) {
+                        forEachBox(mdiaBody, (minfType, minfBody) -> {
+                            if (minfType == STBL) {
+                                forEachBox(minfBody, (stblType, stblBody) -> {
+                                    // stsd: version/flags(4) entry_count(4) 첫 항목 size(4) format(4)
+                                    if (stblType == STSD && stblBody.limit() >= 16) {
+                                        track.codec = fourCcString(stblBody.getInt(12));
+                                    }
+                                });
+                            }
+                        });
+                    }
+                });
+            }
+        });
+        return track;
+    }
+
+    // tkhd 의 width/height 는 16.16 고정 소수점이며, version 0 은 76, version 1 은 88 byte 위치에 있다.
+    private static void parseTkhd(ByteBuffer tkhd, Track track) {
+        if (tkhd.limit() < 1) {
+            return;
+        }
+        int offset = tkhd.get(0) == 1 ? 88 : 76;
+        if (tkhd.limit() >= offset + 8) {
+            track.width = tkhd.getInt(offset) >>> 16;
+            track.height = tkhd.getInt(offset + 4) >>> 16;
+        }
+    }
+
+    /** container 안의 자식 박스를 차례로 방문하는 메서드 (크기가 맞지 않는 박스를 만나면 거기서 멈춘다) */
+    private static void forEachBox(ByteBuffer container, BoxVisitor visitor) {
+        int position = 0;
+        int limit = container.limit();
+        while (position + 8 <= limit) {
+            long size = container.getInt(position) & 0xFFFFFFFFL;
+            int type = container.getInt(position + 4);
+            int headerSize = 8;
+            if (size == 1) {
+                if (position + 16 > limit) {
+                    return;
+                }
+                size = container.getLong(position + 8);
+                headerSize = 16;
+            } else if (size == 0) {
+                size = limit - position;
+            }
+            if (size < headerSize || size > limit - position) {
+                return;
+            }
+
+            // slice 는 항상 big-endian 이므로 MP4 의 바이트 순서와 맞다.
+            visitor.visit(type, container.slice(position + headerSize, (int) size - headerSize));
+            position += (int) size;
+        }
+    }
+
+    private static int fourCc(String type) {
+        byte[] bytes = type.getBytes(StandardCharsets.US_ASCII);
+        return ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+    }
+
+    private static String fourCcString(int type) {
+        byte[] bytes = ByteBuffer.allocate(4).putInt(type).array();
+        for (byte b : bytes) {
+            if (b < 0x20 || b > 0x7E) {
+                return null;
+            }
+        }
+        return new String(bytes, StandardCharsets.US_ASCII).trim();
+    }
+
+    @FunctionalInterface
+    private interface BoxVisitor {
+        void visit(int type, ByteBuffer body);
+    }
+
+    private static final class Track {
+        private int handlerType;
+        private Integer width;
+        private Integer height;
+        private String codec;
+
+        // hdlr 가 없는 파일은 해상도가 있는 트랙을 영상 트랙으로 본다.
+        private boolean isVideo() {
+            return handlerType == VIDE || (handlerType == 0 && width != null && width > 0);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.noblesse.backend.clip.report;
+
+import com.noblesse.backend.clip.repository.ClipReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 클립별/신고 카테고리별 신고 수를 메모리에 유지하는 집계기
+ * 신고 등록/삭제 시 바로 증감하므로 CLIP_REPORT 를 GROUP BY 하지 않고도 모더레이션 현황을 알 수 있다.
+ * 기동 시 웹 서버가 요청을 받기 전에 한 번 DB 에서 집계하며, 이후에는 이 인스턴스가 처리한 신고만 반영한다.
+ * 그래서 여러 인스턴스에서는 현황이 근사치이고, 자동 숨김은 이 집계가 아닌 clip.REPORT_COUNT 로 판단한다.
+ */
+@Component
+public class ClipReportAggregator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ClipReportAggregator.class);
+
+    private final ClipReportRepository clipReportRepository;
+    private volatile ConcurrentHashMap<Long, Tally> tallies = new ConcurrentHashMap<>();
+
+    public ClipReportAggregator(ClipReportRepository clipReportRepository) {
+        this.clipReportRepository = clipReportRepository;
+    }
+
+    /** 신고 1건을 반영하고 해당 클립의 누적 신고 수를 반환하는 메서드 */
+    public long add(Long clipId, Long reportCategoryId) {
+        return tallies.computeIfAbsent(clipId, id -> new Tally()).add(reportCategoryId, 1);
+    }
+
+    /** 신고 1건을 되돌리는 메서드 (신고 삭제, 등록 트랜잭션 롤백) */
+    public void remove(Long clipId, Long reportCategoryId) {
+        Tally tally = tallies.get(clipId);
+        if (tally != null) {
+            tally.add(reportCategoryId, -1);
+        }
+    }
+
+    public ClipReportSummaryDTO getSummary(Long clipId) {
+        Tally tally = tallies.get(clipId);
+        return tally == null
+                ? new ClipReportSummaryDTO(clipId, 0, Map.of())
+                : tally.toSummary(clipId);
+    }
+
+    /** 신고 수가 많은 순으로 클립 신고 현황을 조회하는 메서드 */
+    public List<ClipReportSummaryDTO> getMostReported(int limit) {
+        return tallies.entrySet().stream()
+                .filter(entry -> entry.getValue().total() > 0)
+                .sorted(Comparator.comparingLong((Map.Entry<Long, Tally> entry) -> entry.getValue().total()).reversed())
+                .limit(limit)
+                .map(entry -> entry.getValue().toSummary(entry.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    // 모든 싱글톤 생성 직후, 웹 서버가 시작되기 전에 호출되므로 집계 도중 들어온 신고가 덮어써지지 않는다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /** DB 의 신고를 집계한 새 맵으로 메모리 집계를 교체하는 메서드 */
+    public void rebuild() {
+        ConcurrentHashMap<Long, Tally> rebuilt = new ConcurrentHashMap<>();
+        List<Object[]> rows = clipReportRepository.countGroupByClipIdAndReportCategoryId();
+        for (Object[] row : rows) {
+            Long clipId = (Long) row[0];
+            Long reportCategoryId = (Long) row[1];
+            long count = (Long) row[2];
+            rebuilt.computeIfAbsent(clipId, id -> new Tally()).add(reportCategoryId, count);
+        }
+        tallies = rebuilt;
+        log.info("Rebuilt clip report counts for {} clips", rebuilt.size());
+    }
+
+    private static final class Tally {
+
+        // 카테고리 없는 신고도 집계할 수 있도록 null 카테고리는 0 으로 모은다.
+        private static final Long UNCATEGORIZED = 0L;
+
+        private final AtomicLong total = new AtomicLong();
+        private final ConcurrentHashMap<Long, AtomicLong> byCategory = new ConcurrentHashMap<>();
+
+        long add(Long reportCategoryId, long delta) {
+            Long key = reportCategoryId == null ? UNCATEGORIZED : reportCategoryId;
+            byCategory.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+            return total.addAndGet(delta);
+        }
+
+        long total() {
+            return total.get();
+        }
+
+        ClipReportSummaryDTO toSummary(Long clipId) {
+            Map<Long, Long> counts = new HashMap<>();
+            byCategory.forEach((category, count) -> {
+                if (count.get() > 0) {
+                    counts.put(category, count.get());
+                }
+            });
+            return new ClipReportSummaryDTO(clipId, total.get(), counts);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.noblesse.backend.clip.report;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClipReportSummaryDTO {
+    private Long clipId;
+    private long totalCount;
+    private Map<Long, Long> countsByCategory;   // 신고 카테고리 ID -> 신고 수
+}
@@ -1,18 +1,32 @@
 package com.noblesse.backend.clip.repository;
 
 import com.noblesse.backend.clip.domain.ClipCoComment;
+import com.noblesse.backend.clip.dto.ClipCoCommentDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ClipCoCommentRepository extends JpaRepository<ClipCoComment, Long> {
+
+    // ClipCoCommentDTO 의 전체 필드 생성자(@AllArgsConstructor) 순서와 동일하다.
+    String CLIP_CO_COMMENT_DTO_PROJECTION = "new com.noblesse.backend.clip.dto.ClipCoCommentDTO(" +
+            "cc.clipCoCommentId, cc.clipCoCommentContent, cc.writtenDatetime, cc.modifiedDatetime, cc.userId, cc.clipCommentId)";
+
     ClipCoComment findClipCoCommentByClipCoCommentId(Long clipCoCommentId);
 
     @Transactional
     @Modifying
     @Query("UPDATE ClipCoComment c SET c.clipCoCommentContent = :clipCoCommentContent WHERE c.clipCoCommentId = :clipCoCommentId")
-    void updateClipCoCommentByClipCoCommentIdForContent(String ClipCoCommentContent, Long clipCoCommentId);
+    void updateClipCoCommentByClipCoCommentIdForContent(@Param("clipCoCommentContent") String clipCoCommentContent, @Param("clipCoCommentId") Long clipCoCommentId);
+
+    @Query("SELECT " + CLIP_CO_COMMENT_DTO_PROJECTION + " FROM ClipCoComment cc WHERE cc.clipCommentId IN :clipCommentIds " +
+            "ORDER BY cc.clipCommentId, cc.writtenDatetime ASC, cc.clipCoCommentId ASC")
+    List<ClipCoCommentDTO> findClipCoCommentDTOsByClipCommentIdIn(@Param("clipCommentIds") Collection<Long> clipCommentIds);
 }
@@ -1,20 +1,53 @@
 package com.noblesse.backend.clip.repository;
 
 import com.noblesse.backend.clip.domain.ClipComment;
+import com.noblesse.backend.clip.dto.ClipCommentDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ClipCommentRepository extends JpaRepository<ClipComment, Long> {
+
+    // ClipCommentDTO 의 Projection 용 생성자 순서와 동일하다.
+    String CLIP_COMMENT_DTO_PROJECTION = "new com.noblesse.backend.clip.dto.ClipCommentDTO(" +
+            "c.clipCommentId, c.clipCommentContent, c.writtenDatetime, c.modifiedDatetime, c.userId, c.clipId)";
+
     ClipComment findClipCommentByClipCommentId(Long clipCommentId);
 
     @Transactional
     @Modifying
     @Query("UPDATE ClipComment c SET c.clipCommentContent = :clipCommentContent where c.clipCommentId = :clipCommentId")
     void updateClipComment(String clipCommentContent, Long clipCommentId);
+
+    @Query("SELECT " + CLIP_COMMENT_DTO_PROJECTION + " FROM ClipComment c WHERE c.clipId = :clipId " +
+            "ORDER BY c.writtenDatetime ASC, c.clipCommentId ASC")
+    List<ClipCommentDTO> findFirstClipCommentDTOsByClipId(@Param("clipId") Long clipId, Pageable limit);
+
+    @Query("SELECT " + CLIP_COMMENT_DTO_PROJECTION + " FROM ClipComment c WHERE c.clipId = :clipId " +
+            "AND (c.writtenDatetime > :writtenDatetime " +
+            "OR (c.writtenDatetime = :writtenDatetime AND c.clipCommentId > :clipCommentId)) " +
+            "ORDER BY c.writtenDatetime ASC, c.clipCommentId ASC")
+    List<ClipCommentDTO> findClipCommentDTOsByClipIdAfter(
+            @Param("clipId") Long clipId,
+            @Param("writtenDatetime") LocalDateTime writtenDatetime,
+            @Param("clipCommentId") Long clipCommentId,
+            Pageable limit
+    );
+
+    @Query("SELECT c.clipId FROM ClipComment c WHERE c.clipCommentId = :clipCommentId")
+    Optional<Long> findClipIdByClipCommentId(@Param("clipCommentId") Long clipCommentId);
+
+    // (clipCommentId, clipId)
+    @Query("SELECT c.clipCommentId, c.clipId FROM ClipComment c WHERE c.clipCommentId IN :clipCommentIds")
+    List<Object[]> findClipIdsByClipCommentIdIn(@Param("clipCommentIds") Collection<Long> clipCommentIds);
 }
@@ -0,0 +1,69 @@
+package com.noblesse.backend.clip.repository;
+
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 공개 클립 피드 조회 리포지토리
+ * 선택 조건(USER_ID, TRIP_ID)이 있을 때만 WHERE 절에 붙여서, 조건 조합마다 맞는 복합 인덱스
+ * (…, IS_OPENED, UPLOAD_DATETIME, CLIP_ID)를 그대로 탈 수 있게 JPQL 을 조립한다.
+ */
+@Repository
+public class ClipFeedRepository {
+
+    private final EntityManager entityManager;
+
+    public ClipFeedRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // 재생 시간 조건은 인덱스 뒤에서 거르는 조건이라, 최신순으로 읽다가 limit 건이 차면 멈춘다.
+    public List<ClipDTO> findOpenClips(Long userId, Long tripId, Long minDurationMillis, Long maxDurationMillis,
+                                       DateTimeCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT ")
+                .append(ClipRepository.CLIP_DTO_PROJECTION)
+                .append(" FROM Clip c WHERE c.isOpened = true")
+                .append(" AND c.status = com.noblesse.backend.clip.domain.ClipStatus.READY");
+        if (userId != null) {
+            jpql.append(" AND c.userId = :userId");
+        }
+        if (tripId != null) {
+            jpql.append(" AND c.tripId = :tripId");
+        }
+        if (minDurationMillis != null) {
+            jpql.append(" AND c.durationMillis >= :minDurationMillis");
+        }
+        if (maxDurationMillis != null) {
+            jpql.append(" AND c.durationMillis <= :maxDurationMillis");
+        }
+        if (after != null) {
+            jpql.append(" AND (c.uploadDatetime < :uploadDatetime OR (c.uploadDatetime = :uploadDatetime AND c.clipId < :clipId))");
+        }
+        jpql.append(" ORDER BY c.uploadDatetime DESC, c.clipId DESC");
+
+        TypedQuery<ClipDTO> query = entityManager.createQuery(jpql.toString(), ClipDTO.class)
+                .setMaxResults(limit);
+        if (userId != null) {
+            query.setParameter("userId", userId);
+        }
+        if (tripId != null) {
+            query.setParameter("tripId", tripId);
+        }
+        if (minDurationMillis != null) {
+            query.setParameter("minDurationMillis", minDurationMillis);
+        }
+        if (maxDurationMillis != null) {
+            query.setParameter("maxDurationMillis", maxDurationMillis);
+        }
+        if (after != null) {
+            query.setParameter("uploadDatetime", after.getDateTime());
+            query.setParameter("clipId", after.getId());
+        }
+        return query.getResultList();
+    }
+}
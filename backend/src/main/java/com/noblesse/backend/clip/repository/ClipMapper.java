@@ -0,0 +1,31 @@
+package com.noblesse.backend.clip.repository;
+
+import com.noblesse.backend.clip.dto.ClipCommentDTO;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+// SQL 은 resources/mapper/ClipMapper.xml 에 있다.
+@Mapper
+public interface ClipMapper {
+
+    ClipDTO selectOpenClipById(@Param("clipId") Long clipId);
+
+    List<ClipDTO> selectOpenClips(
+            @Param("userId") Long userId,
+            @Param("tripId") Long tripId,
+            @Param("minDurationMillis") Long minDurationMillis,
+            @Param("maxDurationMillis") Long maxDurationMillis,
+            @Param("after") DateTimeCursor after,
+            @Param("limit") int limit
+    );
+
+    List<ClipCommentDTO> selectClipCommentsWithCoComments(
+            @Param("clipId") Long clipId,
+            @Param("after") DateTimeCursor after,
+            @Param("limit") int limit
+    );
+}
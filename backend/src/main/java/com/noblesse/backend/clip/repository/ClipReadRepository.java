@@ -0,0 +1,25 @@
+package com.noblesse.backend.clip.repository;
+
+import com.noblesse.backend.clip.dto.ClipCommentDTO;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 클립 조회 경로(피드/사용자별 목록, 클립 + 댓글 + 대댓글) 리포지토리
+ * clip.read-path 설정으로 JPA(JpaClipReadRepository, 기본값)와 MyBatis(MyBatisClipReadRepository) 구현 중 하나를 사용한다.
+ */
+public interface ClipReadRepository {
+
+    /** 공개 + 처리 완료된 클립 1건을 조회하는 메서드 (비공개/처리 중/실패한 클립은 없는 것으로 본다) */
+    Optional<ClipDTO> findOpenClipById(Long clipId);
+
+    /** 공개 + 처리 완료된 클립을 (업로드 일시, 클립 ID) 내림차순으로 limit 건 조회하는 메서드 (재생 시간 범위는 선택 조건) */
+    List<ClipDTO> findOpenClips(Long userId, Long tripId, Long minDurationMillis, Long maxDurationMillis,
+                                DateTimeCursor after, int limit);
+
+    /** 클립의 댓글을 (작성 일시, 댓글 ID) 오름차순으로 limit 건 조회하고 각 댓글에 대댓글을 채우는 메서드 */
+    List<ClipCommentDTO> findClipCommentsWithCoComments(Long clipId, DateTimeCursor after, int limit);
+}
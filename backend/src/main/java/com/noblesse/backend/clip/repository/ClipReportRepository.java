@@ -4,12 +4,22 @@ import com.noblesse.backend.clip.domain.ClipReport;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Repository
 public interface ClipReportRepository extends JpaRepository<ClipReport, Long> {
-    ClipReport findClipReportByClipId(Long clipId);
+    @Query("SELECT r FROM ClipReport r WHERE r.clipId = :clipId ORDER BY r.clipReportId")
+    List<ClipReport> findClipReportsByClipId(@Param("clipId") Long clipId);
+
+    boolean existsByUserIdAndClipId(Long userId, Long clipId);
+
+    // ClipReportAggregator 기동 시 집계용 (clipId, reportCategoryId, count)
+    @Query("SELECT r.clipId, r.reportCategoryId, COUNT(r) FROM ClipReport r GROUP BY r.clipId, r.reportCategoryId")
+    List<Object[]> countGroupByClipIdAndReportCategoryId();
 
     @Transactional
     @Modifying
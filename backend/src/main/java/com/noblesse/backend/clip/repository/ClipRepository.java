@@ -1,18 +1,89 @@
 package com.noblesse.backend.clip.repository;
 
 import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface ClipRepository extends JpaRepository<Clip, Long> {
+
+    // ClipDTO 의 전체 필드 생성자(@AllArgsConstructor) 순서와 동일하다.
+    String CLIP_DTO_PROJECTION = "new com.noblesse.backend.clip.dto.ClipDTO(" +
+            "c.clipId, c.clipTitle, c.clipUrl, c.isOpened, c.uploadDatetime, c.userId, c.tripId, " +
+            "c.commentCount, c.coCommentCount, c.reportCount, c.status, " +
+            "c.durationMillis, c.videoWidth, c.videoHeight, c.videoCodec)";
+
     Clip findClipByClipId(Long clipId);
 
     @Transactional
     @Modifying
     @Query("UPDATE Clip c SET c.isOpened = CASE WHEN c.isOpened = true THEN false ELSE true END WHERE c.clipId = :clipId")
     void updateClipIsOpendByClipId(Long clipId);
+
+    // 신고 등록/삭제와 같은 트랜잭션에서 갱신하므로, 같은 클립의 동시 신고는 행 잠금으로 인스턴스와 상관없이 차례로 누적된다.
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE clip SET REPORT_COUNT = REPORT_COUNT + :delta WHERE CLIP_ID = :clipId", nativeQuery = true)
+    int addReportCount(@Param("clipId") Long clipId, @Param("delta") long delta);
+
+    // 이미 비공개인 클립은 건드리지 않으므로 여러 번 호출해도 결과가 같다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Clip c SET c.isOpened = false WHERE c.clipId = :clipId AND c.isOpened = true AND c.reportCount >= :threshold")
+    int hideClipReportedAtLeast(@Param("clipId") Long clipId, @Param("threshold") long threshold);
+
+    @Query("SELECT " + CLIP_DTO_PROJECTION + " FROM Clip c " +
+            "WHERE c.clipId = :clipId AND c.isOpened = true AND c.status = com.noblesse.backend.clip.domain.ClipStatus.READY")
+    Optional<ClipDTO> findOpenClipDTOById(@Param("clipId") Long clipId);
+
+    @Query("SELECT " + CLIP_DTO_PROJECTION + " FROM Clip c " +
+            "WHERE c.clipId IN :clipIds AND c.isOpened = true AND c.status = com.noblesse.backend.clip.domain.ClipStatus.READY")
+    List<ClipDTO> findOpenClipDTOsByClipIdIn(@Param("clipIds") Collection<Long> clipIds);
+
+    @Query("SELECT c.clipUrl FROM Clip c WHERE c.clipId = :clipId")
+    Optional<String> findClipUrlByClipId(@Param("clipId") Long clipId);
+
+    @Query("SELECT c.clipId FROM Clip c " +
+            "WHERE c.status = com.noblesse.backend.clip.domain.ClipStatus.PENDING AND c.uploadDatetime < :uploadedBefore " +
+            "ORDER BY c.uploadDatetime ASC")
+    List<Long> findPendingClipIdsUploadedBefore(@Param("uploadedBefore") LocalDateTime uploadedBefore, Pageable pageable);
+
+    // 처리 도중 삭제되거나 이미 처리된 클립은 건드리지 않도록 PENDING 인 행만 갱신한다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Clip c SET c.status = com.noblesse.backend.clip.domain.ClipStatus.READY, " +
+            "c.contentType = :contentType, c.contentLength = :contentLength, " +
+            "c.durationMillis = :durationMillis, c.videoWidth = :videoWidth, c.videoHeight = :videoHeight, c.videoCodec = :videoCodec " +
+            "WHERE c.clipId = :clipId AND c.status = com.noblesse.backend.clip.domain.ClipStatus.PENDING")
+    int markReady(@Param("clipId") Long clipId, @Param("contentType") String contentType, @Param("contentLength") Long contentLength,
+                  @Param("durationMillis") Long durationMillis, @Param("videoWidth") Integer videoWidth,
+                  @Param("videoHeight") Integer videoHeight, @Param("videoCodec") String videoCodec);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Clip c SET c.status = com.noblesse.backend.clip.domain.ClipStatus.FAILED " +
+            "WHERE c.clipId = :clipId AND c.status = com.noblesse.backend.clip.domain.ClipStatus.PENDING")
+    int markFailed(@Param("clipId") Long clipId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Clip c")
+    Stream<Clip> streamAll();
 }
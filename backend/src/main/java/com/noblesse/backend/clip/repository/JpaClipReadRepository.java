@@ -0,0 +1,70 @@
+package com.noblesse.backend.clip.repository;
+
+import com.noblesse.backend.clip.dto.ClipCoCommentDTO;
+import com.noblesse.backend.clip.dto.ClipCommentDTO;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * JPA(JPQL 프로젝션) 기반 클립 조회 리포지토리
+ * 댓글과 대댓글은 댓글 페이지 조회 후 대댓글 IN 조회 한 번으로 묶는다.
+ */
+@Repository
+@ConditionalOnProperty(name = "clip.read-path", havingValue = "jpa", matchIfMissing = true)
+public class JpaClipReadRepository implements ClipReadRepository {
+
+    private final ClipRepository clipRepository;
+    private final ClipFeedRepository clipFeedRepository;
+    private final ClipCommentRepository clipCommentRepository;
+    private final ClipCoCommentRepository clipCoCommentRepository;
+
+    public JpaClipReadRepository(ClipRepository clipRepository, ClipFeedRepository clipFeedRepository,
+                                 ClipCommentRepository clipCommentRepository, ClipCoCommentRepository clipCoCommentRepository) {
+        this.clipRepository = clipRepository;
+        this.clipFeedRepository = clipFeedRepository;
+        this.clipCommentRepository = clipCommentRepository;
+        this.clipCoCommentRepository = clipCoCommentRepository;
+    }
+
+    @Override
+    public Optional<ClipDTO> findOpenClipById(Long clipId) {
+        return clipRepository.findOpenClipDTOById(clipId);
+    }
+
+    @Override
+    public List<ClipDTO> findOpenClips(Long userId, Long tripId, Long minDurationMillis, Long maxDurationMillis,
+                                       DateTimeCursor after, int limit) {
+        return clipFeedRepository.findOpenClips(userId, tripId, minDurationMillis, maxDurationMillis, after, limit);
+    }
+
+    @Override
+    public List<ClipCommentDTO> findClipCommentsWithCoComments(Long clipId, DateTimeCursor after, int limit) {
+        List<ClipCommentDTO> comments = after == null
+                ? clipCommentRepository.findFirstClipCommentDTOsByClipId(clipId, PageRequest.ofSize(limit))
+                : clipCommentRepository.findClipCommentDTOsByClipIdAfter(
+                        clipId, after.getDateTime(), after.getId(), PageRequest.ofSize(limit));
+        if (comments.isEmpty()) {
+            return comments;
+        }
+
+        List<Long> clipCommentIds = comments.stream()
+                .map(ClipCommentDTO::getClipCommentId)
+                .collect(Collectors.toList());
+        Map<Long, List<ClipCoCommentDTO>> coCommentsByCommentId = clipCoCommentRepository
+                .findClipCoCommentDTOsByClipCommentIdIn(clipCommentIds).stream()
+                .collect(Collectors.groupingBy(ClipCoCommentDTO::getClipCommentId));
+
+        comments.forEach(comment -> comment.setCoComments(
+                coCommentsByCommentId.getOrDefault(comment.getClipCommentId(), new ArrayList<>())));
+        return comments;
+    }
+}
@@ -0,0 +1,49 @@
+package com.noblesse.backend.clip.repository;
+
+import com.noblesse.backend.clip.dto.ClipCommentDTO;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MyBatis(ClipMapper.xml) 기반 클립 조회 리포지토리
+ * 명시적인 컬럼 목록과 resultMap 을 사용하고, 클립 댓글 + 대댓글은 댓글 페이지를 파생 테이블로 자른 뒤 JOIN 한 번으로 가져온다.
+ */
+@Repository
+@ConditionalOnProperty(name = "clip.read-path", havingValue = "mybatis")
+public class MyBatisClipReadRepository implements ClipReadRepository {
+
+    private final ClipMapper clipMapper;
+
+    public MyBatisClipReadRepository(ClipMapper clipMapper) {
+        this.clipMapper = clipMapper;
+    }
+
+    @Override
+    public Optional<ClipDTO> findOpenClipById(Long clipId) {
+        return Optional.ofNullable(clipMapper.selectOpenClipById(clipId));
+    }
+
+    @Override
+    public List<ClipDTO> findOpenClips(Long userId, Long tripId, Long minDurationMillis, Long maxDurationMillis,
+                                       DateTimeCursor after, int limit) {
+        return clipMapper.selectOpenClips(userId, tripId, minDurationMillis, maxDurationMillis, after, limit);
+    }
+
+    @Override
+    public List<ClipCommentDTO> findClipCommentsWithCoComments(Long clipId, DateTimeCursor after, int limit) {
+        List<ClipCommentDTO> comments = clipMapper.selectClipCommentsWithCoComments(clipId, after, limit);
+        // 대댓글이 없는 댓글은 LEFT JOIN 결과가 모두 NULL 이라 컬렉션이 만들어지지 않으므로 JPA 구현과 같이 빈 목록으로 맞춘다.
+        comments.forEach(comment -> {
+            if (comment.getCoComments() == null) {
+                comment.setCoComments(new ArrayList<>());
+            }
+        });
+        return comments;
+    }
+}
@@ -3,32 +3,77 @@ package com.noblesse.backend.clip.service;
 import com.noblesse.backend.clip.domain.ClipCoComment;
 import com.noblesse.backend.clip.dto.ClipCoCommentRegistRequestDTO;
 import com.noblesse.backend.clip.repository.ClipCoCommentRepository;
+import com.noblesse.backend.clip.repository.ClipCommentRepository;
+import com.noblesse.backend.common.batch.InvalidBulkRequestException;
+import com.noblesse.backend.common.transaction.AfterCommit;
+import com.noblesse.backend.trending.service.TrendingService;
+import com.noblesse.backend.trending.store.TrendingEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class ClipCoCommentService {
     private final ClipCoCommentRepository clipCoCommentRepository;
+    private final ClipCommentRepository clipCommentRepository;
+    private final TrendingService trendingService;
 
-    public ClipCoCommentService(ClipCoCommentRepository clipCoCommentRepository) {
+    public ClipCoCommentService(ClipCoCommentRepository clipCoCommentRepository, ClipCommentRepository clipCommentRepository,
+                                TrendingService trendingService) {
         this.clipCoCommentRepository = clipCoCommentRepository;
+        this.clipCommentRepository = clipCommentRepository;
+        this.trendingService = trendingService;
     }
 
+    @Transactional(readOnly = true)
     public ClipCoComment findClipCoCommentByClipCoCommentId(Long clipCoCommentId) {
         return clipCoCommentRepository.findClipCoCommentByClipCoCommentId(clipCoCommentId);
     }
 
+    @Transactional(readOnly = true)
     public List<ClipCoComment> findAll() {
         return clipCoCommentRepository.findAll();
     }
 
+    // 트렌딩 점수는 대댓글이 커밋된 뒤에만 올린다.
+    @Transactional
     public void registClipCoComment(ClipCoCommentRegistRequestDTO clipCoCommentRegistRequestDTO) {
         clipCoCommentRepository.save(new ClipCoComment(
                 clipCoCommentRegistRequestDTO.getClipCoCommentContent(),
                 clipCoCommentRegistRequestDTO.getUserId(),
                 clipCoCommentRegistRequestDTO.getClipCommentId()
         ));
+        clipCommentRepository.findClipIdByClipCommentId(clipCoCommentRegistRequestDTO.getClipCommentId())
+                .ifPresent(clipId -> AfterCommit.run(() -> trendingService.record(clipId, TrendingEvent.CO_COMMENT)));
+    }
+
+    // 대댓글 일괄 등록 (ClipCommentService.registClipComments 와 같이 커밋 시점에 batch INSERT 로 반영된다)
+    @Transactional
+    public List<Long> registClipCoComments(List<ClipCoCommentRegistRequestDTO> requests) {
+        InvalidBulkRequestException.check(requests);
+
+        List<ClipCoComment> saved = clipCoCommentRepository.saveAll(requests.stream()
+                .map(request -> new ClipCoComment(
+                        request.getClipCoCommentContent(),
+                        request.getUserId(),
+                        request.getClipCommentId()
+                ))
+                .collect(Collectors.toList()));
+
+        // 대댓글이 달린 클립은 댓글 ID 를 모아 한 번에 조회한다.
+        Map<Long, Long> clipIdByCommentId = clipCommentRepository.findClipIdsByClipCommentIdIn(saved.stream()
+                        .map(ClipCoComment::getClipCommentId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+        AfterCommit.run(() -> saved.forEach(coComment ->
+                trendingService.record(clipIdByCommentId.get(coComment.getClipCommentId()), TrendingEvent.CO_COMMENT)));
+
+        return saved.stream()
+                .map(ClipCoComment::getClipCoCommentId)
+                .collect(Collectors.toList());
     }
 
     public void updateClipCoCommentByClipCoCommentId(Long clipCoCommentId, String clipCoCommentContent) {
@@ -3,34 +3,64 @@ package com.noblesse.backend.clip.service;
 import com.noblesse.backend.clip.domain.ClipComment;
 import com.noblesse.backend.clip.dto.ClipCommentRegistRequestDTO;
 import com.noblesse.backend.clip.repository.ClipCommentRepository;
+import com.noblesse.backend.common.batch.InvalidBulkRequestException;
+import com.noblesse.backend.common.transaction.AfterCommit;
+import com.noblesse.backend.trending.service.TrendingService;
+import com.noblesse.backend.trending.store.TrendingEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 public class ClipCommentService {
     private final ClipCommentRepository clipCommentRepository;
+    private final TrendingService trendingService;
 
-    public ClipCommentService(ClipCommentRepository clipCommentRepository) {
+    public ClipCommentService(ClipCommentRepository clipCommentRepository, TrendingService trendingService) {
         this.clipCommentRepository = clipCommentRepository;
+        this.trendingService = trendingService;
     }
 
+    @Transactional(readOnly = true)
     public ClipComment findClipByClipId(Long clipCommentId) {
         return clipCommentRepository.findClipCommentByClipCommentId(clipCommentId);
     }
 
+    @Transactional(readOnly = true)
     public List<ClipComment> findAll() {
         return clipCommentRepository.findAll();
     }
 
+    // 트렌딩 점수는 댓글이 커밋된 뒤에만 올린다.
+    @Transactional
     public void registClipComment(ClipCommentRegistRequestDTO clipCommentRegistRequestDTO) {
-        clipCommentRepository.save(new ClipComment(
+        ClipComment saved = clipCommentRepository.save(new ClipComment(
                 clipCommentRegistRequestDTO.getClipCommentContent(),
                 clipCommentRegistRequestDTO.getUserId(),
                 clipCommentRegistRequestDTO.getClipId()
         ));
+        AfterCommit.run(() -> trendingService.record(saved.getClipId(), TrendingEvent.COMMENT));
+    }
+
+    // id 를 TABLE(pooled) 전략으로 미리 할당받으므로 커밋 시점에 hibernate.jdbc.batch_size 단위 batch INSERT 로 나간다.
+    @Transactional
+    public List<Long> registClipComments(List<ClipCommentRegistRequestDTO> requests) {
+        InvalidBulkRequestException.check(requests);
+
+        List<ClipComment> saved = clipCommentRepository.saveAll(requests.stream()
+                .map(request -> new ClipComment(
+                        request.getClipCommentContent(),
+                        request.getUserId(),
+                        request.getClipId()
+                ))
+                .collect(Collectors.toList()));
+        AfterCommit.run(() -> saved.forEach(comment -> trendingService.record(comment.getClipId(), TrendingEvent.COMMENT)));
+        return saved.stream()
+                .map(ClipComment::getClipCommentId)
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -1,9 +1,19 @@
 package com.noblesse.backend.clip.service;
 
-import com.noblesse.backend.clip.domain.Clip;
 import com.noblesse.backend.clip.domain.ClipReport;
 import com.noblesse.backend.clip.dto.ClipReportRegistRequestDTO;
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.clip.exception.DuplicateClipReportException;
+import com.noblesse.backend.clip.report.ClipReportAggregator;
+import com.noblesse.backend.clip.report.ClipReportSummaryDTO;
 import com.noblesse.backend.clip.repository.ClipReportRepository;
+import com.noblesse.backend.clip.repository.ClipRepository;
+import com.noblesse.backend.common.transaction.AfterCommit;
+import com.noblesse.backend.common.transaction.AfterRollback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,28 +21,75 @@ import java.util.List;
 
 @Service
 public class ClipReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClipReportService.class);
+
     private final ClipReportRepository clipReportRepository;
+    private final ClipRepository clipRepository;
+    private final ClipReportAggregator clipReportAggregator;
+    private final long autoHideThreshold;
 
-    public ClipReportService(ClipReportRepository clipReportRepository) {
+    public ClipReportService(ClipReportRepository clipReportRepository, ClipRepository clipRepository,
+                             ClipReportAggregator clipReportAggregator,
+                             @Value("${clip.report.auto-hide-threshold:10}") long autoHideThreshold) {
         this.clipReportRepository = clipReportRepository;
+        this.clipRepository = clipRepository;
+        this.clipReportAggregator = clipReportAggregator;
+        this.autoHideThreshold = autoHideThreshold;
     }
 
-    public ClipReport findClipByClipId(Long ClipId) {
-        return clipReportRepository.findClipReportByClipId(ClipId);
+    @Transactional(readOnly = true)
+    public List<ClipReport> findClipReportsByClipId(Long ClipId) {
+        return clipReportRepository.findClipReportsByClipId(ClipId);
     }
 
+    @Transactional(readOnly = true)
     public List<ClipReport> findAll() {
         return clipReportRepository.findAll();
     }
 
+    public ClipReportSummaryDTO findClipReportSummary(Long clipId) {
+        return clipReportAggregator.getSummary(clipId);
+    }
+
+    public List<ClipReportSummaryDTO> findMostReportedClips(int limit) {
+        return clipReportAggregator.getMostReported(limit);
+    }
+
+    // 같은 트랜잭션에서 신고를 저장하고 clip.REPORT_COUNT 를 올린 뒤, 그 값이 임계치 이상이면 클립을 비공개로 바꾼다.
+    // 판단 기준이 DB 의 신고 수이므로 인스턴스가 여러 대여도 임계치는 전체 신고 수 기준으로 한 번만 넘는다.
+    // 메모리 집계(모더레이션 현황용)는 트랜잭션이 롤백되면 되돌린다.
+    @Transactional
     public void registClipReport(ClipReportRegistRequestDTO clipReportRegistRequestDTO) {
-        clipReportRepository.save(new ClipReport(
-                clipReportRegistRequestDTO.getReportCategoryId(),
-                clipReportRegistRequestDTO.getClipReportTitle(),
-                clipReportRegistRequestDTO.getClipReportContent(),
-                clipReportRegistRequestDTO.getUserId(),
-                clipReportRegistRequestDTO.getClipId()
-        ));
+        Long clipId = clipReportRegistRequestDTO.getClipId();
+        Long userId = clipReportRegistRequestDTO.getUserId();
+        Long reportCategoryId = clipReportRegistRequestDTO.getReportCategoryId();
+
+        if (userId != null && clipReportRepository.existsByUserIdAndClipId(userId, clipId)) {
+            throw new DuplicateClipReportException(userId, clipId);
+        }
+        try {
+            clipReportRepository.saveAndFlush(new ClipReport(
+                    reportCategoryId,
+                    clipReportRegistRequestDTO.getClipReportTitle(),
+                    clipReportRegistRequestDTO.getClipReportContent(),
+                    userId,
+                    clipId
+            ));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 신고는 중복 확인을 함께 통과하더라도 (USER_ID, CLIP_ID) 유니크 제약에서 걸러진다.
+            throw new DuplicateClipReportException(userId, clipId);
+        }
+
+        if (clipRepository.addReportCount(clipId, 1) == 0) {
+            throw new ClipNotFoundException(clipId);
+        }
+        clipReportAggregator.add(clipId, reportCategoryId);
+        AfterRollback.run(() -> clipReportAggregator.remove(clipId, reportCategoryId));
+
+        if (clipRepository.hideClipReportedAtLeast(clipId, autoHideThreshold) > 0) {
+            log.info("Clip {} hidden automatically after reaching {} reports", clipId, autoHideThreshold);
+        }
     }
 
     // UPDATE 문은 따로 필요 없을 듯, 신고 내용을 수정하는 정도에서는 제목, 내용 정도..?
@@ -43,6 +100,10 @@ public class ClipReportService {
 
     @Transactional
     public void deleteClipByClipId(Long ClipId) {
-        clipReportRepository.deleteById(ClipId);
+        clipReportRepository.findById(ClipId).ifPresent(clipReport -> {
+            clipReportRepository.delete(clipReport);
+            clipRepository.addReportCount(clipReport.getClipId(), -1);
+            AfterCommit.run(() -> clipReportAggregator.remove(clipReport.getClipId(), clipReport.getReportCategoryId()));
+        });
     }
 }
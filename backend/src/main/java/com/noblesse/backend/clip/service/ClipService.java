@@ -1,40 +1,126 @@
 package com.noblesse.backend.clip.service;
 
 import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.dto.ClipDTO;
 import com.noblesse.backend.clip.dto.ClipRegistRequestDTO;
+import com.noblesse.backend.clip.exception.InvalidClipUrlException;
+import com.noblesse.backend.clip.ingestion.ClipIngestionPipeline;
+import com.noblesse.backend.clip.repository.ClipReadRepository;
 import com.noblesse.backend.clip.repository.ClipRepository;
+import com.noblesse.backend.clip.storage.ClipStorage;
+import com.noblesse.backend.common.batch.BatchResultDTO;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class ClipService {
 
     private final ClipRepository clipRepository;
+    private final ClipReadRepository clipReadRepository;
+    private final EntityManager entityManager;
+    private final ClipIngestionPipeline clipIngestionPipeline;
 
-    public ClipService(ClipRepository clipRepository) {
+    public ClipService(ClipRepository clipRepository, ClipReadRepository clipReadRepository, EntityManager entityManager,
+                       ClipIngestionPipeline clipIngestionPipeline) {
         this.clipRepository = clipRepository;
+        this.clipReadRepository = clipReadRepository;
+        this.entityManager = entityManager;
+        this.clipIngestionPipeline = clipIngestionPipeline;
     }
 
+    @Transactional(readOnly = true)
     public Clip findClipByClipId(Long ClipId) {
         return clipRepository.findClipByClipId(ClipId);
     }
 
+    @Transactional(readOnly = true)
     public List<Clip> findAll() {
         return clipRepository.findAll();
     }
 
-    @Transactional
-    public void insertClip(ClipRegistRequestDTO clipRegistRequestDTO) {
-        clipRepository.save(new Clip(
-                clipRegistRequestDTO.getClipTitle(),
-                clipRegistRequestDTO.getClipUrl(),
-                clipRegistRequestDTO.getIsOpened(),
-                clipRegistRequestDTO.getUserId(),
-                clipRegistRequestDTO.getTripId()
-        ));
+    // 공개 클립만 (업로드 일시, 클립 ID) 커서 기준 최신순으로 조회한다. userId, tripId, 재생 시간 범위(초)는 선택 조건이다.
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ClipDTO> findClipFeed(String cursor, Integer size, Long userId, Long tripId,
+                                               Integer minDurationSeconds, Integer maxDurationSeconds) {
+        int pageSize = CursorPageDTO.boundSize(size);
+        DateTimeCursor after = (cursor == null || cursor.isBlank()) ? null : DateTimeCursor.decode(cursor);
+
+        Long minDurationMillis = minDurationSeconds == null ? null : minDurationSeconds * 1000L;
+        Long maxDurationMillis = maxDurationSeconds == null ? null : maxDurationSeconds * 1000L;
+
+        List<ClipDTO> clips = clipReadRepository.findOpenClips(userId, tripId, minDurationMillis, maxDurationMillis,
+                after, pageSize + 1);
+        return CursorPageDTO.of(clips, pageSize,
+                clip -> new DateTimeCursor(clip.getUploadDatetime(), clip.getClipId()));
+    }
+
+    // 사용자별 목록은 userId 조건만 준 피드와 같으므로 (USER_ID, IS_OPENED, UPLOAD_DATETIME, CLIP_ID) 인덱스로 한 페이지씩 읽는다.
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ClipDTO> findClipsByUserId(Long userId, String cursor, Integer size) {
+        return findClipFeed(cursor, size, userId, null, null, null);
+    }
+
+    // 공개 + READY 클립만 한 번의 IN 조회로 가져와 요청 순서대로 반환하고, 없거나 볼 수 없는 ID 는 missingIds 로 알려준다.
+    @Transactional(readOnly = true)
+    public BatchResultDTO<ClipDTO> findClipsByClipIds(List<Long> clipIds) {
+        List<Long> distinctClipIds = BatchResultDTO.distinctIds(clipIds);
+        List<ClipDTO> clips = clipRepository.findOpenClipDTOsByClipIdIn(distinctClipIds);
+        return BatchResultDTO.of(distinctClipIds, clips, ClipDTO::getClipId);
+    }
+
+    // 전체 클립을 커서로 한 건씩 읽어 sink 로 넘기고, 넘긴 엔티티는 바로 영속성 컨텍스트에서 분리한다.
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ClipDTO> sink) {
+        try (Stream<Clip> clips = clipRepository.streamAll()) {
+            clips.forEach(clip -> {
+                sink.accept(new ClipDTO(clip));
+                entityManager.detach(clip);
+            });
+        }
+    }
+
+    // 클립을 PENDING 으로 저장만 하고 바로 반환한다. 검증/메타데이터 추출은 ClipIngestionPipeline 이 비동기로 처리한다.
+    // 워커가 커밋 전 행을 읽지 않도록 트랜잭션 없이 save(자체 트랜잭션) 후 제출하고, 대기열이 가득 차면 저장 전에 거절한다.
+    public ClipDTO insertClip(ClipRegistRequestDTO clipRegistRequestDTO) {
+        // "local:" clipUrl 은 저장소 안의 임의 파일(다른 사용자의 클립, 업로드 중인 파일)을 가리킬 수 있으므로 외부 URL 만 받는다.
+        if (clipRegistRequestDTO.getClipUrl() != null && clipRegistRequestDTO.getClipUrl().startsWith(ClipStorage.LOCAL_URL_PREFIX)) {
+            throw new InvalidClipUrlException(clipRegistRequestDTO.getClipUrl());
+        }
+        return registerClip(clipRegistRequestDTO);
+    }
+
+    // 청크 업로드가 끝나 저장소로 옮긴 파일을 "local:" clipUrl 로 등록한다. (ClipUploadService 만 호출한다)
+    public ClipDTO insertUploadedClip(ClipRegistRequestDTO clipRegistRequestDTO) {
+        return registerClip(clipRegistRequestDTO);
+    }
+
+    private ClipDTO registerClip(ClipRegistRequestDTO clipRegistRequestDTO) {
+        clipIngestionPipeline.reserve();
+
+        Clip clip;
+        try {
+            clip = clipRepository.save(new Clip(
+                    clipRegistRequestDTO.getClipTitle(),
+                    clipRegistRequestDTO.getClipUrl(),
+                    clipRegistRequestDTO.getIsOpened(),
+                    clipRegistRequestDTO.getUserId(),
+                    clipRegistRequestDTO.getTripId()
+            ));
+        } catch (RuntimeException e) {
+            clipIngestionPipeline.cancelReservation();
+            throw e;
+        }
+
+        clipIngestionPipeline.submit(clip.getClipId());
+        return new ClipDTO(clip);
     }
 
     @Transactional
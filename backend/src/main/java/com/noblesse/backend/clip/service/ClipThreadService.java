@@ -0,0 +1,43 @@
+package com.noblesse.backend.clip.service;
+
+import com.noblesse.backend.clip.dto.ClipCommentDTO;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.dto.ClipThreadDTO;
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.clip.repository.ClipReadRepository;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 클립 페이지(클립 + 댓글 + 대댓글) 조회 서비스
+ * 클립 1건과 해당 클립의 댓글 한 페이지(대댓글 포함)만 읽고 전체 댓글/대댓글을 읽지 않는다.
+ * 댓글/대댓글을 묶는 방식은 ClipReadRepository 구현(JPA: IN 조회, MyBatis: JOIN)에 따른다.
+ */
+@Service
+public class ClipThreadService {
+
+    private final ClipReadRepository clipReadRepository;
+
+    public ClipThreadService(ClipReadRepository clipReadRepository) {
+        this.clipReadRepository = clipReadRepository;
+    }
+
+    // 댓글은 (작성 일시, 댓글 ID) 커서 기준 작성순으로 페이지를 나누고, 각 댓글의 대댓글은 모두 포함한다.
+    @Transactional(readOnly = true)
+    public ClipThreadDTO findClipThread(Long clipId, String cursor, Integer size) {
+        ClipDTO clip = clipReadRepository.findOpenClipById(clipId)
+                .orElseThrow(() -> new ClipNotFoundException(clipId));
+
+        int pageSize = CursorPageDTO.boundSize(size);
+        DateTimeCursor after = (cursor == null || cursor.isBlank()) ? null : DateTimeCursor.decode(cursor);
+        List<ClipCommentDTO> fetched = clipReadRepository.findClipCommentsWithCoComments(clipId, after, pageSize + 1);
+
+        CursorPageDTO<ClipCommentDTO> comments = CursorPageDTO.of(fetched, pageSize,
+                comment -> new DateTimeCursor(comment.getWrittenDatetime(), comment.getClipCommentId()));
+        return new ClipThreadDTO(clip, comments);
+    }
+}
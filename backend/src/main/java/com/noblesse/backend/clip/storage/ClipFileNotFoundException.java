@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.storage;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ClipFileNotFoundException extends IllegalArgumentException {
+    public ClipFileNotFoundException(String clipUrl) {
+        super(String.format("클립 파일 %s 을 찾을 수 없어요...", clipUrl));
+    }
+}
@@ -0,0 +1,65 @@
+package com.noblesse.backend.clip.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * 로컬에 저장된 클립 파일의 위치를 관리하는 컴포넌트
+ * 로컬 클립의 clipUrl 은 "local:{저장소 루트 기준 상대 경로}" 형식이며, 실제 경로는 외부에 노출하지 않는다.
+ * 업로드 중인 파일은 저장소 루트 아래 staging 디렉터리(.uploads)에 두며, clipUrl 로는 가리킬 수 없다.
+ */
+@Component
+public class ClipStorage {
+
+    public static final String LOCAL_URL_PREFIX = "local:";
+
+    private static final String STAGING_DIRECTORY = ".uploads";
+
+    private final Path root;
+    private final Path stagingDirectory;
+
+    public ClipStorage(@Value("${clip.storage.root:./clip-storage}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.stagingDirectory = this.root.resolve(STAGING_DIRECTORY);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public Path getStagingDirectory() {
+        return stagingDirectory;
+    }
+
+    public boolean isLocal(String clipUrl) {
+        return clipUrl != null && clipUrl.startsWith(LOCAL_URL_PREFIX);
+    }
+
+    /** 저장소 루트 기준 상대 경로를 clipUrl 로 바꾸는 메서드 */
+    public String toClipUrl(Path file) {
+        Path relative = root.relativize(file.toAbsolutePath().normalize());
+        return LOCAL_URL_PREFIX + relative.toString().replace('\\', '/');
+    }
+
+    /** 로컬 clipUrl 을 실제 파일 경로로 바꾸는 메서드 (저장소 루트 밖이나 staging 디렉터리를 가리키거나 파일이 없으면 ClipFileNotFoundException) */
+    public Path resolve(String clipUrl) {
+        if (!isLocal(clipUrl)) {
+            throw new ClipFileNotFoundException(clipUrl);
+        }
+
+        Path file;
+        try {
+            file = root.resolve(clipUrl.substring(LOCAL_URL_PREFIX.length())).normalize();
+        } catch (InvalidPathException e) {
+            throw new ClipFileNotFoundException(clipUrl);
+        }
+        if (!file.startsWith(root) || file.startsWith(stagingDirectory) || !Files.isRegularFile(file)) {
+            throw new ClipFileNotFoundException(clipUrl);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,66 @@
+package com.noblesse.backend.clip.streaming;
+
+/**
+ * HTTP Range 요청 헤더(bytes=...)를 해석한 결과
+ * 단일 구간만 지원하며, 여러 구간이나 형식이 잘못된 헤더는 RFC 9110 에 따라 무시하고 전체 파일을 보낸다.
+ */
+public record ByteRange(long start, long end, boolean partial) {
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    /** 파일 전체 구간 */
+    public static ByteRange full(long fileLength) {
+        return new ByteRange(0, fileLength - 1, false);
+    }
+
+    /** 만족할 수 없는 구간 (416 Range Not Satisfiable) */
+    public static ByteRange unsatisfiable() {
+        return new ByteRange(-1, -1, true);
+    }
+
+    public static ByteRange parse(String header, long fileLength) {
+        if (header == null || !header.startsWith(BYTES_UNIT) || header.indexOf(',') >= 0) {
+            return full(fileLength);
+        }
+
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return full(fileLength);
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N 바이트
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0 || fileLength == 0) {
+                    return unsatisfiable();
+                }
+                return new ByteRange(Math.max(0, fileLength - suffixLength), fileLength - 1, true);
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return full(fileLength);
+            }
+            if (start >= fileLength) {
+                return unsatisfiable();
+            }
+            return new ByteRange(start, Math.min(end, fileLength - 1), true);
+        } catch (NumberFormatException e) {
+            return full(fileLength);
+        }
+    }
+
+    public boolean isSatisfiable() {
+        return start >= 0;
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+}
@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.streaming;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ClipStreamLimitExceededException extends IllegalStateException {
+    public ClipStreamLimitExceededException() {
+        super("동시에 재생 중인 클립이 너무 많아요... 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,40 @@
+package com.noblesse.backend.clip.streaming;
+
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.clip.repository.ClipReadRepository;
+import com.noblesse.backend.clip.storage.ClipFileNotFoundException;
+import com.noblesse.backend.clip.storage.ClipStorage;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+
+/**
+ * 스트리밍할 클립의 로컬 파일 경로를 찾는 컴포넌트
+ * 조회는 이 메서드의 읽기 전용 트랜잭션 안에서 끝나고, 반환 시점에 커넥션을 풀에 돌려준다.
+ * ClipStreamingService 는 반환된 경로만 들고 전송하므로 전송 중에는 커넥션을 잡고 있지 않는다.
+ */
+@Component
+public class ClipStreamSourceResolver {
+
+    private final ClipReadRepository clipReadRepository;
+    private final ClipStorage clipStorage;
+
+    public ClipStreamSourceResolver(ClipReadRepository clipReadRepository, ClipStorage clipStorage) {
+        this.clipReadRepository = clipReadRepository;
+        this.clipStorage = clipStorage;
+    }
+
+    /** 공개 + 처리 완료된 로컬 클립의 파일 경로를 반환하는 메서드 (없으면 ClipNotFoundException, 외부 URL 이거나 파일이 없으면 ClipFileNotFoundException) */
+    @Transactional(readOnly = true)
+    public Path resolve(Long clipId) {
+        ClipDTO clip = clipReadRepository.findOpenClipById(clipId)
+                .orElseThrow(() -> new ClipNotFoundException(clipId));
+        if (!clipStorage.isLocal(clip.getClipUrl())) {
+            // 외부 URL 클립은 원본 위치에서 직접 받는다.
+            throw new ClipFileNotFoundException(clip.getClipUrl());
+        }
+        return clipStorage.resolve(clip.getClipUrl());
+    }
+}
@@ -0,0 +1,138 @@
+package com.noblesse.backend.clip.streaming;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 저장소의 클립 파일을 HTTP Range 요청에 맞춰 전송하는 서비스
+ * 파일 내용은 힙으로 읽어 들이지 않고 FileChannel.transferTo 로 응답 채널에 바로 넘기며,
+ * 동시 전송 수는 clip.streaming.max-concurrent-streams 로 제한한다. (초과 시 503 + Retry-After)
+ * 클립 조회는 ClipStreamSourceResolver 의 읽기 전용 트랜잭션에서 끝나고 커넥션을 돌려준 뒤 전송을 시작한다.
+ * (OSIV 는 꺼져 있으므로 요청 단위로 커넥션이 묶이지 않는다.) 따라서 동시 전송 수 상한은 커넥션 풀 크기와 무관하다.
+ */
+@Service
+public class ClipStreamingService {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final ClipStreamSourceResolver clipStreamSourceResolver;
+    private final Semaphore streamSlots;
+    private final int maxConcurrentStreams;
+    private final long retryAfterSeconds;
+    private final AtomicLong rejectedStreams = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    public ClipStreamingService(ClipStreamSourceResolver clipStreamSourceResolver,
+                                @Value("${clip.streaming.max-concurrent-streams:64}") int maxConcurrentStreams,
+                                @Value("${clip.streaming.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.clipStreamSourceResolver = clipStreamSourceResolver;
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.streamSlots = new Semaphore(maxConcurrentStreams);
+    }
+
+    /** 공개 + 처리 완료된 로컬 클립 파일을 Range/If-Range 헤더에 맞춰 200/206/416 으로 전송하는 메서드 */
+    public void stream(Long clipId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = clipStreamSourceResolver.resolve(clipId);
+
+        if (!streamSlots.tryAcquire()) {
+            rejectedStreams.incrementAndGet();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            throw new ClipStreamLimitExceededException();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileLength = channel.size();
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            String etag = "\"" + Long.toHexString(fileLength) + "-" + Long.toHexString(lastModified) + "\"";
+
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+
+            // If-Range 가 현재 파일과 맞지 않으면 Range 를 무시하고 전체를 보낸다.
+            ByteRange range = ifRangeMatches(request, etag, lastModified)
+                    ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), fileLength)
+                    : ByteRange.full(fileLength);
+
+            if (!range.isSatisfiable()) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+                return;
+            }
+
+            String contentType = Files.probeContentType(file);
+            response.setContentType(contentType != null ? contentType : DEFAULT_CONTENT_TYPE);
+            if (range.partial()) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + range.start() + "-" + range.end() + "/" + fileLength);
+            } else {
+                response.setStatus(HttpServletResponse.SC_OK);
+            }
+            response.setContentLengthLong(range.length());
+
+            if (fileLength > 0 && !"HEAD".equals(request.getMethod())) {
+                transfer(channel, range, Channels.newChannel(response.getOutputStream()));
+            }
+        } finally {
+            streamSlots.release();
+        }
+    }
+
+    public ClipStreamingStatsDTO getStats() {
+        return ClipStreamingStatsDTO.builder()
+                .activeStreams(maxConcurrentStreams - streamSlots.availablePermits())
+                .maxConcurrentStreams(maxConcurrentStreams)
+                .rejectedStreams(rejectedStreams.get())
+                .bytesSent(bytesSent.get())
+                .build();
+    }
+
+    // transferTo 는 요청한 길이보다 적게 보낼 수 있으므로 남은 길이만큼 반복한다.
+    private void transfer(FileChannel channel, ByteRange range, WritableByteChannel target) throws IOException {
+        long position = range.start();
+        long remaining = range.length();
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, target);
+            if (sent <= 0) {
+                break;
+            }
+            position += sent;
+            remaining -= sent;
+            bytesSent.addAndGet(sent);
+        }
+    }
+
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range 는 strong 비교만 허용하므로 weak ETag 는 항상 불일치로 본다.
+            return ifRange.equals(etag);
+        }
+        long ifRangeDate;
+        try {
+            ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // HTTP 날짜는 초 단위이므로 밀리초를 버리고 비교한다.
+        return ifRangeDate == (lastModified / 1000) * 1000;
+    }
+}
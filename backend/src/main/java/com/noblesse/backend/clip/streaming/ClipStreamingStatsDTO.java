@@ -0,0 +1,15 @@
+package com.noblesse.backend.clip.streaming;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClipStreamingStatsDTO {
+    private int activeStreams;          // 전송 중인 스트림 수
+    private int maxConcurrentStreams;   // 동시 스트림 상한
+    private long rejectedStreams;       // 상한 초과로 거절된 요청 수
+    private long bytesSent;             // 누적 전송 바이트
+}
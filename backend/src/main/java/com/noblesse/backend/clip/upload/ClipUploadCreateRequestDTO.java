@@ -0,0 +1,16 @@
+package com.noblesse.backend.clip.upload;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ClipUploadCreateRequestDTO {
+    private String fileName;    // 원본 파일 이름 (확장자만 사용)
+    private Long totalSize;     // 전체 파일 크기 (byte)
+    private String clipTitle;
+    private Boolean isOpened;
+    private Long tripId;
+}
@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.upload;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ClipUploadIncompleteException extends IllegalStateException {
+    public ClipUploadIncompleteException(String uploadId, int missingChunkCount) {
+        super(String.format("업로드 %s 에 아직 받지 못한 청크가 %d 개 있어요...", uploadId, missingChunkCount));
+    }
+}
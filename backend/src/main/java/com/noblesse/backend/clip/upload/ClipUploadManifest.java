@@ -0,0 +1,18 @@
+package com.noblesse.backend.clip.upload;
+
+/**
+ * 업로드 세션을 재시작 후에도 이어 갈 수 있도록 데이터 파일 옆에 JSON 으로 저장하는 내용
+ * receivedChunks 는 받은 청크 BitSet 의 toLongArray() 값이다.
+ */
+record ClipUploadManifest(
+        String uploadId,
+        String extension,
+        long totalSize,
+        long chunkSize,
+        String clipTitle,
+        Boolean isOpened,
+        Long userId,
+        Long tripId,
+        long[] receivedChunks
+) {
+}
@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.upload;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ClipUploadNotFoundException extends IllegalArgumentException {
+    public ClipUploadNotFoundException(String uploadId) {
+        super(String.format("업로드 %s 를 찾을 수 없어요...", uploadId));
+    }
+}
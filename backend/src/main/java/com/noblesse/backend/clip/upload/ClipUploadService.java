@@ -0,0 +1,278 @@
+package com.noblesse.backend.clip.upload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.dto.ClipRegistRequestDTO;
+import com.noblesse.backend.clip.service.ClipService;
+import com.noblesse.backend.clip.storage.ClipStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 청크 단위 이어 올리기(resumable) 클립 업로드 서비스
+ * 업로드를 시작하면 전체 크기만큼 파일을 미리 잡아 두고, 각 청크는 해당 위치를 메모리 매핑해 요청 본문을 바로 쓴다.
+ * 받은 청크는 BitSet 매니페스트(JSON)로 함께 저장하므로 연결이 끊기거나 서버가 재시작해도 빠진 청크만 다시 받으면 된다.
+ * 모든 청크를 받으면 파일을 저장소로 옮기고 "local:" clipUrl 로 ClipService.insertUploadedClip 을 호출한다.
+ * 업로드는 시작한 사용자(인증된 principal)에게만 보이며, 다른 사용자의 uploadId 는 없는 업로드로 처리한다.
+ */
+@Service
+public class ClipUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClipUploadService.class);
+
+    private static final String DATA_SUFFIX = ".part";
+    private static final String MANIFEST_SUFFIX = ".json";
+    private static final Pattern EXTENSION = Pattern.compile("[A-Za-z0-9]{1,8}");
+
+    private final ClipService clipService;
+    private final ClipStorage clipStorage;
+    private final ObjectMapper objectMapper;
+    private final long chunkSize;
+    private final long maxFileSize;
+    private final Duration expireAfter;
+    private final Path uploadDirectory;
+    private final Map<String, ClipUploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ClipUploadService(ClipService clipService, ClipStorage clipStorage, ObjectMapper objectMapper,
+                             @Value("${clip.upload.chunk-size:8MB}") DataSize chunkSize,
+                             @Value("${clip.upload.max-file-size:4GB}") DataSize maxFileSize,
+                             @Value("${clip.upload.expire-after:24h}") Duration expireAfter) {
+        this.clipService = clipService;
+        this.clipStorage = clipStorage;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize.toBytes();
+        this.maxFileSize = maxFileSize.toBytes();
+        this.expireAfter = expireAfter;
+        this.uploadDirectory = clipStorage.getStagingDirectory();
+    }
+
+    /** 인증된 사용자의 업로드 세션을 만들고 전체 크기만큼 데이터 파일을 미리 할당하는 메서드 */
+    public ClipUploadStatusDTO createUpload(Long userId, ClipUploadCreateRequestDTO request) {
+        Long totalSize = request.getTotalSize();
+        if (totalSize == null || totalSize <= 0 || totalSize > maxFileSize) {
+            throw new InvalidClipUploadException("totalSize must be between 1 and " + maxFileSize);
+        }
+        if (userId == null) {
+            throw new InvalidClipUploadException("userId is required");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        ClipUploadSession session = new ClipUploadSession(new ClipUploadManifest(
+                uploadId, extensionOf(request.getFileName()), totalSize, chunkSize,
+                request.getClipTitle(), request.getIsOpened(), userId, request.getTripId(), new long[0]));
+
+        try {
+            Files.createDirectories(uploadDirectory);
+            // setLength 는 대부분의 파일 시스템에서 sparse 파일로 할당되어 실제 디스크는 청크가 쓰일 때 사용된다.
+            try (RandomAccessFile file = new RandomAccessFile(dataFile(uploadId).toFile(), "rw")) {
+                file.setLength(totalSize);
+            }
+            saveManifest(session);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        sessions.put(uploadId, session);
+        return session.toStatus();
+    }
+
+    public ClipUploadStatusDTO getStatus(Long userId, String uploadId) {
+        return getSession(userId, uploadId).toStatus();
+    }
+
+    /** 청크 하나를 데이터 파일의 해당 위치에 쓰는 메서드 (이미 받은 청크는 본문을 버리고 현재 상태만 반환) */
+    public ClipUploadStatusDTO writeChunk(Long userId, String uploadId, int chunkIndex, InputStream body) {
+        ClipUploadSession session = getSession(userId, uploadId);
+        if (chunkIndex < 0 || chunkIndex >= session.getChunkCount()) {
+            throw new InvalidClipUploadException("chunk index " + chunkIndex + " is out of range");
+        }
+        if (session.isReceived(chunkIndex)) {
+            return session.toStatus();
+        }
+
+        long length = session.lengthOf(chunkIndex);
+        try (FileChannel channel = FileChannel.open(dataFile(uploadId), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, session.offsetOf(chunkIndex), length);
+            ReadableByteChannel source = Channels.newChannel(body);
+            while (region.hasRemaining() && source.read(region) >= 0) {
+                // 본문을 매핑된 영역에 바로 채운다.
+            }
+            if (region.hasRemaining()) {
+                throw new InvalidClipUploadException("chunk " + chunkIndex + " expected " + length + " bytes but got " + region.position());
+            }
+            if (source.read(ByteBuffer.allocate(1)) > 0) {
+                throw new InvalidClipUploadException("chunk " + chunkIndex + " is longer than " + length + " bytes");
+            }
+            // 디스크에 반영된 뒤에만 수신으로 기록해야 재시작 후에도 받은 청크를 믿을 수 있다.
+            region.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        session.markReceived(chunkIndex);
+        saveManifest(session);
+        return session.toStatus();
+    }
+
+    /** 모든 청크를 받은 업로드를 저장소로 옮기고 클립으로 등록하는 메서드 */
+    public ClipDTO completeUpload(Long userId, String uploadId) {
+        ClipUploadSession session = getSession(userId, uploadId);
+        synchronized (session) {
+            if (!session.isComplete()) {
+                throw new ClipUploadIncompleteException(uploadId, session.toStatus().getMissingChunks().size());
+            }
+
+            Path dataFile = dataFile(uploadId);
+            Path target = clipStorage.getRoot()
+                    .resolve(String.valueOf(session.getUserId()))
+                    .resolve(session.getExtension() == null ? uploadId : uploadId + "." + session.getExtension());
+            try {
+                Files.createDirectories(target.getParent());
+                Files.move(dataFile, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            ClipDTO clip;
+            try {
+                clip = clipService.insertUploadedClip(new ClipRegistRequestDTO(session.getClipTitle(), clipStorage.toClipUrl(target),
+                        session.getIsOpened(), session.getUserId(), session.getTripId()));
+            } catch (RuntimeException e) {
+                // 등록이 거절되면(대기열 포화 등) 파일을 되돌려 같은 uploadId 로 다시 완료할 수 있게 한다.
+                try {
+                    Files.move(target, dataFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException moveBack) {
+                    e.addSuppressed(moveBack);
+                }
+                throw e;
+            }
+
+            discard(uploadId);
+            return clip;
+        }
+    }
+
+    public void cancelUpload(Long userId, String uploadId) {
+        getSession(userId, uploadId);
+        discard(uploadId);
+    }
+
+    /** 마지막 청크 이후 expire-after 동안 진행이 없는 업로드를 정리하는 메서드 */
+    @Scheduled(fixedDelayString = "${clip.upload.sweep-interval-ms:3600000}")
+    public void sweepExpiredUploads() {
+        if (!Files.isDirectory(uploadDirectory)) {
+            return;
+        }
+
+        long expireBefore = System.currentTimeMillis() - expireAfter.toMillis();
+        try (DirectoryStream<Path> manifests = Files.newDirectoryStream(uploadDirectory, "*" + MANIFEST_SUFFIX)) {
+            for (Path manifest : manifests) {
+                if (Files.getLastModifiedTime(manifest).toMillis() < expireBefore) {
+                    String fileName = manifest.getFileName().toString();
+                    discard(fileName.substring(0, fileName.length() - MANIFEST_SUFFIX.length()));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to sweep expired clip uploads", e);
+        }
+    }
+
+    private ClipUploadSession getSession(Long userId, String uploadId) {
+        validateUploadId(uploadId);
+        ClipUploadSession session = sessions.computeIfAbsent(uploadId, this::loadSession);
+        if (session == null || userId == null || !userId.equals(session.getUserId())) {
+            throw new ClipUploadNotFoundException(uploadId);
+        }
+        return session;
+    }
+
+    // 재시작 등으로 메모리에 없는 세션은 매니페스트에서 복원한다.
+    private ClipUploadSession loadSession(String uploadId) {
+        Path manifest = manifestFile(uploadId);
+        if (!Files.exists(manifest) || !Files.exists(dataFile(uploadId))) {
+            return null;
+        }
+        try {
+            return new ClipUploadSession(objectMapper.readValue(manifest.toFile(), ClipUploadManifest.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체해, 쓰는 도중 중단되어도 이전 매니페스트가 남도록 한다.
+    private void saveManifest(ClipUploadSession session) {
+        Path manifest = manifestFile(session.getUploadId());
+        Path temp = manifest.resolveSibling(manifest.getFileName() + ".tmp");
+        synchronized (session) {
+            try {
+                objectMapper.writeValue(temp.toFile(), session.toManifest());
+                Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void discard(String uploadId) {
+        sessions.remove(uploadId);
+        try {
+            Files.deleteIfExists(dataFile(uploadId));
+            Files.deleteIfExists(manifestFile(uploadId));
+        } catch (IOException e) {
+            log.warn("Failed to delete clip upload {}", uploadId, e);
+        }
+    }
+
+    private Path dataFile(String uploadId) {
+        return uploadDirectory.resolve(uploadId + DATA_SUFFIX);
+    }
+
+    private Path manifestFile(String uploadId) {
+        return uploadDirectory.resolve(uploadId + MANIFEST_SUFFIX);
+    }
+
+    // uploadId 는 파일 이름으로 쓰이므로 UUID 형식만 허용한다.
+    private static void validateUploadId(String uploadId) {
+        try {
+            if (uploadId != null && UUID.fromString(uploadId).toString().equals(uploadId)) {
+                return;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // 아래에서 찾을 수 없음으로 처리한다.
+        }
+        throw new ClipUploadNotFoundException(uploadId);
+    }
+
+    private static String extensionOf(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        int dot = fileName.lastIndexOf('.');
+        String extension = dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase();
+        return EXTENSION.matcher(extension).matches() ? extension : null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.noblesse.backend.clip.upload;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 진행 중인 업로드 1건의 상태
+ * 청크 수신 여부는 BitSet 으로 관리하며, 변경은 세션 단위로 동기화한다.
+ */
+class ClipUploadSession {
+
+    private final ClipUploadManifest manifest;
+    private final int chunkCount;
+    private final BitSet received;
+
+    ClipUploadSession(ClipUploadManifest manifest) {
+        this.manifest = manifest;
+        this.chunkCount = (int) ((manifest.totalSize() + manifest.chunkSize() - 1) / manifest.chunkSize());
+        this.received = BitSet.valueOf(manifest.receivedChunks());
+    }
+
+    String getUploadId() {
+        return manifest.uploadId();
+    }
+
+    String getExtension() {
+        return manifest.extension();
+    }
+
+    long getTotalSize() {
+        return manifest.totalSize();
+    }
+
+    long getChunkSize() {
+        return manifest.chunkSize();
+    }
+
+    int getChunkCount() {
+        return chunkCount;
+    }
+
+    String getClipTitle() {
+        return manifest.clipTitle();
+    }
+
+    Boolean getIsOpened() {
+        return manifest.isOpened();
+    }
+
+    Long getUserId() {
+        return manifest.userId();
+    }
+
+    Long getTripId() {
+        return manifest.tripId();
+    }
+
+    long offsetOf(int chunkIndex) {
+        return chunkIndex * manifest.chunkSize();
+    }
+
+    /** 청크 길이를 계산하는 메서드 (마지막 청크만 chunkSize 보다 짧을 수 있다) */
+    long lengthOf(int chunkIndex) {
+        return Math.min(manifest.chunkSize(), manifest.totalSize() - offsetOf(chunkIndex));
+    }
+
+    synchronized boolean isReceived(int chunkIndex) {
+        return received.get(chunkIndex);
+    }
+
+    synchronized void markReceived(int chunkIndex) {
+        received.set(chunkIndex);
+    }
+
+    synchronized boolean isComplete() {
+        return received.cardinality() == chunkCount;
+    }
+
+    synchronized ClipUploadManifest toManifest() {
+        return new ClipUploadManifest(manifest.uploadId(), manifest.extension(), manifest.totalSize(), manifest.chunkSize(),
+                manifest.clipTitle(), manifest.isOpened(), manifest.userId(), manifest.tripId(), received.toLongArray());
+    }
+
+    synchronized ClipUploadStatusDTO toStatus() {
+        List<Integer> missingChunks = new ArrayList<>();
+        for (int index = received.nextClearBit(0); index < chunkCount; index = received.nextClearBit(index + 1)) {
+            missingChunks.add(index);
+        }
+        return ClipUploadStatusDTO.builder()
+                .uploadId(manifest.uploadId())
+                .totalSize(manifest.totalSize())
+                .chunkSize(manifest.chunkSize())
+                .chunkCount(chunkCount)
+                .receivedChunkCount(received.cardinality())
+                .missingChunks(missingChunks)
+                .complete(missingChunks.isEmpty())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.noblesse.backend.clip.upload;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClipUploadStatusDTO {
+    private String uploadId;
+    private long totalSize;
+    private long chunkSize;             // 마지막 청크를 제외한 청크 크기
+    private int chunkCount;
+    private int receivedChunkCount;
+    private List<Integer> missingChunks; // 아직 받지 못한 청크 번호 (이어 올리기에 사용)
+    private boolean complete;
+}
@@ -0,0 +1,11 @@
+package com.noblesse.backend.clip.upload;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidClipUploadException extends IllegalArgumentException {
+    public InvalidClipUploadException(String reason) {
+        super(String.format("업로드 요청이 올바르지 않아요... (%s)", reason));
+    }
+}
@@ -0,0 +1,58 @@
+package com.noblesse.backend.common.batch;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchResultDTO<T> {
+
+    public static final int MAX_IDS = 100;
+
+    private List<T> content;
+    private List<Long> missingIds;
+
+    /** 요청 ID 목록에서 null 과 중복을 제거하고(요청 순서 유지) 개수를 검증하는 메서드 */
+    public static List<Long> distinctIds(List<Long> ids) {
+        if (ids == null) {
+            throw new InvalidBatchRequestException(0);
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinctIds.removeIf(Objects::isNull);
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_IDS) {
+            throw new InvalidBatchRequestException(distinctIds.size());
+        }
+        return distinctIds;
+    }
+
+    /** 한 번에 조회한 결과를 요청 순서대로 정렬하고, 조회되지 않은 ID 를 모으는 메서드 */
+    public static <T> BatchResultDTO<T> of(List<Long> requestedIds, Collection<T> found, Function<T, Long> idOf) {
+        Map<Long, T> foundById = found.stream()
+                .collect(Collectors.toMap(idOf, Function.identity(), (first, second) -> first));
+
+        List<T> content = new ArrayList<>(requestedIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            T item = foundById.get(id);
+            if (item != null) {
+                content.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return new BatchResultDTO<>(content, missingIds);
+    }
+}
@@ -0,0 +1,7 @@
+package com.noblesse.backend.common.batch;
+
+public class InvalidBatchRequestException extends IllegalArgumentException {
+    public InvalidBatchRequestException(int requestedCount) {
+        super(String.format("한 번에 조회할 수 있는 ID 는 1 ~ %d 개예요... (요청: %d 개)", BatchResultDTO.MAX_IDS, requestedCount));
+    }
+}
@@ -0,0 +1,20 @@
+package com.noblesse.backend.common.batch;
+
+import java.util.Collection;
+
+public class InvalidBulkRequestException extends IllegalArgumentException {
+
+    public static final int MAX_ITEMS = 1000;
+
+    public InvalidBulkRequestException(int requestedCount) {
+        super(String.format("한 번에 등록할 수 있는 항목은 1 ~ %d 개예요... (요청: %d 개)", MAX_ITEMS, requestedCount));
+    }
+
+    /** 일괄 등록 요청 건수를 검증하는 메서드 */
+    public static void check(Collection<?> items) {
+        int requestedCount = items == null ? 0 : items.size();
+        if (requestedCount == 0 || requestedCount > MAX_ITEMS) {
+            throw new InvalidBulkRequestException(requestedCount);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.noblesse.backend.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDTO {
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private double averageLoadPenaltyMillis;
+    private long evictionCount;
+
+    // Caffeine 캐시의 통계로부터 DTO를 생성하는 메서드
+    public static CacheStatsDTO of(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsDTO.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
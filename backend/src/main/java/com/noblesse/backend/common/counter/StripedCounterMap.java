@@ -0,0 +1,98 @@
+package com.noblesse.backend.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 증감량을 메모리에 누적했다가 한 번에 꺼내는(drain) 카운터 맵
+ * 키마다 LongAdder 를 사용하므로 같은 키에 대한 동시 증감도 경합 없이 누적된다.
+ * 꺼내는 중에 들어온 증감은 유실되지 않고 다음 drain 에 포함된다.
+ * 직전 drain 이후 증감이 없던 키는 다음 drain 에서 맵에서 빠지므로, 키 개수는 최근에 증감된 키 수로 유지된다.
+ * drain 은 한 번에 한 스레드에서만 호출해야 한다.
+ */
+public class StripedCounterMap<K> {
+
+    private final ConcurrentHashMap<K, Counter> counters = new ConcurrentHashMap<>();
+
+    public void increment(K key) {
+        add(key, 1);
+    }
+
+    public void add(K key, long delta) {
+        long remaining = delta;
+        while (remaining != 0) {
+            Counter counter = counters.computeIfAbsent(key, k -> new Counter());
+            counter.add(remaining);
+            if (!counter.retired) {
+                return;
+            }
+            // drain 이 맵에서 빼는 중인 카운터에 더했다면 다시 꺼내지지 않으므로,
+            // 남아 있는 값을 통째로 꺼내(다른 스레드가 먼저 꺼냈으면 0) 새 카운터로 옮긴다.
+            remaining = counter.sumThenReset();
+            Thread.onSpinWait();
+        }
+    }
+
+    /** 키별 누적 증감량을 꺼내고 0 으로 되돌리는 메서드 (증감량이 0 인 키는 제외하고 맵에서 뺀다) */
+    public Map<K, Long> drain() {
+        Map<K, Long> drained = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            long sum = counter.sum();
+            if (sum != 0) {
+                // reset() 대신 꺼낸 만큼만 빼서, 그 사이에 더해진 값은 남겨 둔다.
+                counter.add(-sum);
+                drained.put(key, sum);
+            } else {
+                retire(key, counter);
+            }
+        });
+        return drained;
+    }
+
+    // retired 를 먼저 표시한 뒤 합계를 다시 확인하므로, 그 사이에 더한 스레드는 표시를 보고 값을 새 카운터로 옮긴다.
+    private void retire(K key, Counter counter) {
+        counter.retired = true;
+        if (counter.sum() == 0) {
+            counters.remove(key, counter);
+        } else {
+            counter.retired = false;
+        }
+    }
+
+    /** 아직 꺼내지 않은 키의 누적 증감량을 조회하는 메서드 */
+    public long get(K key) {
+        Counter counter = counters.get(key);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /** 아직 꺼내지 않은 증감량이 남아 있는 키 개수를 조회하는 메서드 */
+    public int pendingKeyCount() {
+        int count = 0;
+        for (Counter counter : counters.values()) {
+            if (counter.sum() != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** 아직 꺼내지 않은 증감량의 합계를 조회하는 메서드 */
+    public long pendingTotal() {
+        long total = 0;
+        for (Counter counter : counters.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    /** 맵에 남아 있는 키 개수를 조회하는 메서드 (증감량이 0 인 키 포함) */
+    public int size() {
+        return counters.size();
+    }
+
+    private static final class Counter extends LongAdder {
+        private volatile boolean retired;
+    }
+}
@@ -0,0 +1,6 @@
+package com.noblesse.backend.common.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
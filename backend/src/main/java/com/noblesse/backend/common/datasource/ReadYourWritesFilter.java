@@ -0,0 +1,41 @@
+package com.noblesse.backend.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 read-your-writes 판단에 쓸 클라이언트 키를 지정하는 필터
+ * 인증된 사용자가 있으면 사용자 이름을, 없으면 X-User-Id 헤더를 사용한다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWritesTracker.bind(resolveClientKey(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesTracker.clear();
+        }
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+
+        String userId = request.getHeader(USER_ID_HEADER);
+        return (userId == null || userId.isBlank()) ? null : userId;
+    }
+}
@@ -0,0 +1,52 @@
+package com.noblesse.backend.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 수행한 클라이언트를 기억하여, 일정 시간 동안 해당 클라이언트의 읽기를 primary 로 보내는 추적기
+ * 복제 지연 때문에 방금 쓴 데이터가 replica 에서 보이지 않는 문제를 막는다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = (window == null || window.isZero() || window.isNegative())
+                ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(window)
+                        .build();
+    }
+
+    /** 현재 스레드에서 처리 중인 요청의 클라이언트(사용자) 키를 지정하는 메서드 */
+    public static void bind(String clientKey) {
+        CURRENT_CLIENT.set(clientKey);
+    }
+
+    public static void clear() {
+        CURRENT_CLIENT.remove();
+    }
+
+    public boolean isEnabled() {
+        return recentWriters != null;
+    }
+
+    /** 현재 클라이언트가 쓰기 직후 구간에 있어 primary 에서 읽어야 하는지 확인하는 메서드 */
+    public boolean shouldReadFromPrimary() {
+        String clientKey = CURRENT_CLIENT.get();
+        return recentWriters != null && clientKey != null && recentWriters.getIfPresent(clientKey) != null;
+    }
+
+    /** 현재 클라이언트의 쓰기를 기록하는 메서드 */
+    public void recordWrite() {
+        String clientKey = CURRENT_CLIENT.get();
+        if (recentWriters != null && clientKey != null) {
+            recentWriters.put(clientKey, Boolean.TRUE);
+        }
+    }
+}
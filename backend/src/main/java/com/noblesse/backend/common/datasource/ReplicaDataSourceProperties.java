@@ -0,0 +1,26 @@
+package com.noblesse.backend.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(replica) 데이터소스 설정 (spring.datasource.replica.*)
+ * url 이 설정된 경우에만 읽기/쓰기 라우팅이 활성화된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = 10;
+
+    // 사용자가 직접 쓰기를 한 뒤 이 시간 동안은 읽기도 primary 에서 수행한다. (0 이면 사용하지 않음)
+    private Duration readYourWritesWindow = Duration.ZERO;
+}
@@ -0,0 +1,71 @@
+package com.noblesse.backend.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * spring.datasource.replica.url 이 설정되면 primary/replica 두 커넥션 풀을 만들고
+ * 읽기 전용 트랜잭션을 replica 로 라우팅하는 데이터소스를 기본 데이터소스로 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        if (properties.getDriverClassName() != null) {
+            dataSource.setDriverClassName(properties.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,40 @@
+package com.noblesse.backend.common.datasource;
+
+import com.noblesse.backend.common.transaction.AfterCommit;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica 로, 그 외에는 primary 로 보내는 데이터소스
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻도록 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (readYourWritesTracker.isEnabled()
+                    && TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isSynchronizationActive()) {
+                AfterCommit.run(readYourWritesTracker::recordWrite);
+            }
+            return DataSourceType.PRIMARY;
+        }
+
+        return readYourWritesTracker.shouldReadFromPrimary() ? DataSourceType.PRIMARY : DataSourceType.REPLICA;
+    }
+}
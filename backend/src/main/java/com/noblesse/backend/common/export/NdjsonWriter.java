@@ -0,0 +1,45 @@
+package com.noblesse.backend.common.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * DTO를 한 줄에 하나씩 JSON(NDJSON)으로 출력 스트림에 바로 기록하는 클래스
+ * 전체 목록을 메모리에 모으지 않고 행 단위로 응답에 흘려보낼 때 사용한다.
+ */
+public class NdjsonWriter {
+
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectWriter objectWriter;
+    private final OutputStream outputStream;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.objectWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.outputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+    }
+
+    public void write(Object value) {
+        try {
+            objectWriter.writeValue(outputStream, value);
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+}
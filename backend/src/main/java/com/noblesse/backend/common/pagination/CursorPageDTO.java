@@ -0,0 +1,46 @@
+package com.noblesse.backend.common.pagination;
+
+import lombok.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /** 요청한 페이지 크기를 1 ~ MAX_SIZE 범위로 제한하는 메서드 */
+    public static int boundSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /** 다음 페이지 존재 여부 확인을 위해 페이지 크기보다 한 건 더 조회하는 LIMIT 조건 (OFFSET 없음) */
+    public static Pageable limitOf(int size) {
+        return PageRequest.ofSize(size + 1);
+    }
+
+    /** 페이지 크기 + 1 건으로 조회한 결과를 잘라 다음 커서를 만드는 메서드 */
+    public static <T> CursorPageDTO<T> of(List<T> fetched, int size, Function<T, DateTimeCursor> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? List.copyOf(fetched.subList(0, size)) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorPageDTO<>(content, content.size(), hasNext, nextCursor);
+    }
+}
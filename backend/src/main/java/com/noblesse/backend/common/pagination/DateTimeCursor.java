@@ -0,0 +1,52 @@
+package com.noblesse.backend.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (일시, ID) 조합으로 정렬된 목록의 마지막 위치를 나타내는 커서
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 토큰으로만 노출한다.
+ */
+public final class DateTimeCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime dateTime;
+    private final Long id;
+
+    public DateTimeCursor(LocalDateTime dateTime, Long id) {
+        this.dateTime = dateTime;
+        this.id = id;
+    }
+
+    public static DateTimeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new DateTimeCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.valueOf(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = dateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,11 @@
+package com.noblesse.backend.common.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String cursor) {
+        super(String.format("커서 %s 를 해석할 수 없어요...", cursor));
+    }
+}
@@ -0,0 +1,27 @@
+package com.noblesse.backend.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션이 롤백된 이후에 보상 작업을 실행하는 유틸리티
+ * 활성화된 트랜잭션 동기화가 없으면 롤백될 일도 없으므로 아무것도 하지 않는다.
+ */
+public final class AfterRollback {
+
+    private AfterRollback() {
+    }
+
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        task.run();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.noblesse.backend.counter;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.noblesse.backend.clip.domain.ClipStatus;
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.common.counter.StripedCounterMap;
+import com.noblesse.backend.trending.service.TrendingService;
+import com.noblesse.backend.trending.store.TrendingEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 클립 조회수 카운터 서비스
+ * 조회 한 건마다 clip 행을 UPDATE 하지 않고 메모리(StripedCounterMap)에 누적했다가,
+ * 주기적으로 clip_view 테이블에 batch upsert 한 번으로 반영한다.
+ * 비정상 종료 시 마지막 flush 이후의 조회수(최대 flush 주기만큼)는 유실될 수 있다.
+ * 공개된 READY 클립의 조회만 받으며, 클립별 확인 결과는 짧게 캐시해 조회마다 clip 을 읽지 않는다.
+ */
+@Service
+public class ClipViewCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClipViewCounterService.class);
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO clip_view (CLIP_ID, VIEW_COUNT, UPDATED_DATETIME) VALUES (?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE VIEW_COUNT = VIEW_COUNT + VALUES(VIEW_COUNT), UPDATED_DATETIME = NOW()";
+
+    private static final String SELECT_SQL = "SELECT VIEW_COUNT FROM clip_view WHERE CLIP_ID = ?";
+
+    private static final String VIEWABLE_SQL = "SELECT COUNT(*) FROM clip WHERE CLIP_ID = ? AND IS_OPENED = TRUE AND STATUS = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingService trendingService;
+    private final StripedCounterMap<Long> pending = new StripedCounterMap<>();
+    private final LoadingCache<Long, Boolean> viewableClips;
+
+    private final AtomicLong lastFlushEpochMillis = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong lastFlushDurationMillis = new AtomicLong();
+    private final AtomicLong lastFlushedRows = new AtomicLong();
+    private final LongAdder flushedViews = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+
+    public ClipViewCounterService(
+            JdbcTemplate jdbcTemplate,
+            TrendingService trendingService,
+            @Value("${counter.viewable-clip-cache.maximum-size:10000}") long maximumSize,
+            @Value("${counter.viewable-clip-cache.expire-after-write:1m}") Duration expireAfterWrite
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingService = trendingService;
+        // 존재하지 않는 ID 도 캐시해서, 임의 ID 로 반복 호출해도 DB 조회는 만료 주기당 한 번으로 묶는다.
+        this.viewableClips = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build(clipId -> jdbcTemplate.queryForObject(VIEWABLE_SQL, Long.class, clipId, ClipStatus.READY.name()) > 0);
+    }
+
+    /** 클립 조회 1건을 누적하는 메서드 (DB 반영은 다음 flush 에서, 공개된 READY 클립이 아니면 ClipNotFoundException) */
+    public void recordView(Long clipId) {
+        if (clipId == null || !viewableClips.get(clipId)) {
+            throw new ClipNotFoundException(clipId);
+        }
+        pending.increment(clipId);
+        trendingService.record(clipId, TrendingEvent.VIEW);
+    }
+
+    /** 반영된 조회수와 아직 반영되지 않은 조회수를 더해 조회하는 메서드 */
+    public long getViewCount(Long clipId) {
+        List<Long> stored = jdbcTemplate.queryForList(SELECT_SQL, Long.class, clipId);
+        long flushed = stored.isEmpty() ? 0 : stored.get(0);
+        return flushed + pending.get(clipId);
+    }
+
+    /** 누적된 조회수를 clip_view 에 batch upsert 로 반영하는 메서드 */
+    @Scheduled(fixedDelayString = "${counter.view-flush-interval-ms:5000}")
+    public synchronized void flush() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, Long> deltas = pending.drain();
+        if (!deltas.isEmpty()) {
+            List<Object[]> batchArgs = deltas.entrySet().stream()
+                    .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
+                    .collect(Collectors.toList());
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+                flushedViews.add(deltas.values().stream().mapToLong(Long::longValue).sum());
+            } catch (DataAccessException e) {
+                // 일부 행만 반영됐을 수 있지만, 조회수는 근사치로 충분하므로 전부 되돌려 다음 flush 에서 다시 시도한다.
+                deltas.forEach(pending::add);
+                flushFailures.increment();
+                log.warn("Failed to flush {} clip view deltas, will retry", deltas.size(), e);
+                return;
+            }
+        }
+
+        long finishedAt = System.currentTimeMillis();
+        lastFlushedRows.set(deltas.size());
+        lastFlushDurationMillis.set(finishedAt - startedAt);
+        lastFlushEpochMillis.set(finishedAt);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public ClipViewStatsDTO getStats() {
+        return ClipViewStatsDTO.builder()
+                .pendingClips(pending.pendingKeyCount())
+                .pendingViews(pending.pendingTotal())
+                .flushLagMillis(System.currentTimeMillis() - lastFlushEpochMillis.get())
+                .lastFlushDurationMillis(lastFlushDurationMillis.get())
+                .lastFlushedRows(lastFlushedRows.get())
+                .flushedViews(flushedViews.sum())
+                .flushFailures(flushFailures.sum())
+                .build();
+    }
+}
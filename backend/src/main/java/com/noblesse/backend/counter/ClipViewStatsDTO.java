@@ -0,0 +1,18 @@
+package com.noblesse.backend.counter;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClipViewStatsDTO {
+    private int pendingClips;           // 반영 대기 중인 클립 수
+    private long pendingViews;          // 반영 대기 중인 조회수 합계
+    private long flushLagMillis;        // 마지막 성공 flush 이후 경과 시간
+    private long lastFlushDurationMillis;
+    private long lastFlushedRows;
+    private long flushedViews;          // 기동 이후 반영된 조회수 합계
+    private long flushFailures;
+}
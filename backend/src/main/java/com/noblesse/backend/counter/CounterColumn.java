@@ -0,0 +1,59 @@
+package com.noblesse.backend.counter;
+
+/**
+ * 포스트/클립에 비정규화된 참여 카운터 컬럼
+ * 증감 SQL 의 파라미터는 (증감량, 키) 순서이며, 대댓글은 부모 댓글 ID 를 키로 사용한다.
+ * 재계산 SQL 은 실제 행 수와 다른(drift 가 생긴) 행만 갱신한다.
+ * CLIP_REPORT 는 ClipReportService 가 신고 트랜잭션 안에서 직접 증감하므로 재계산에만 쓰인다.
+ */
+public enum CounterColumn {
+
+    POST_COMMENT(
+            "UPDATE post SET comment_count = comment_count + ? WHERE post_id = ?",
+            "UPDATE post p SET p.comment_count = (SELECT COUNT(*) FROM post_comment pc WHERE pc.post_id = p.post_id) " +
+                    "WHERE p.comment_count <> (SELECT COUNT(*) FROM post_comment pc WHERE pc.post_id = p.post_id)"
+    ),
+    POST_CO_COMMENT(
+            "UPDATE post SET co_comment_count = co_comment_count + ? " +
+                    "WHERE post_id = (SELECT pc.post_id FROM post_comment pc WHERE pc.post_comment_id = ?)",
+            "UPDATE post p SET p.co_comment_count = (SELECT COUNT(*) FROM post_co_comment pcc JOIN post_comment pc ON pc.post_comment_id = pcc.post_comment_id WHERE pc.post_id = p.post_id) " +
+                    "WHERE p.co_comment_count <> (SELECT COUNT(*) FROM post_co_comment pcc JOIN post_comment pc ON pc.post_comment_id = pcc.post_comment_id WHERE pc.post_id = p.post_id)"
+    ),
+    POST_REPORT(
+            "UPDATE post SET report_count = report_count + ? WHERE post_id = ?",
+            "UPDATE post p SET p.report_count = (SELECT COUNT(*) FROM post_report pr WHERE pr.post_id = p.post_id) " +
+                    "WHERE p.report_count <> (SELECT COUNT(*) FROM post_report pr WHERE pr.post_id = p.post_id)"
+    ),
+    CLIP_COMMENT(
+            "UPDATE clip SET COMMENT_COUNT = COMMENT_COUNT + ? WHERE CLIP_ID = ?",
+            "UPDATE clip c SET c.COMMENT_COUNT = (SELECT COUNT(*) FROM CLIP_COMMENT cc WHERE cc.CLIP_ID = c.CLIP_ID) " +
+                    "WHERE c.COMMENT_COUNT <> (SELECT COUNT(*) FROM CLIP_COMMENT cc WHERE cc.CLIP_ID = c.CLIP_ID)"
+    ),
+    CLIP_CO_COMMENT(
+            "UPDATE clip SET CO_COMMENT_COUNT = CO_COMMENT_COUNT + ? " +
+                    "WHERE CLIP_ID = (SELECT cc.CLIP_ID FROM CLIP_COMMENT cc WHERE cc.CLIP_COMMENT_ID = ?)",
+            "UPDATE clip c SET c.CO_COMMENT_COUNT = (SELECT COUNT(*) FROM CLIP_CO_COMMENT ccc JOIN CLIP_COMMENT cc ON cc.CLIP_COMMENT_ID = ccc.CLIP_COMMENT_ID WHERE cc.CLIP_ID = c.CLIP_ID) " +
+                    "WHERE c.CO_COMMENT_COUNT <> (SELECT COUNT(*) FROM CLIP_CO_COMMENT ccc JOIN CLIP_COMMENT cc ON cc.CLIP_COMMENT_ID = ccc.CLIP_COMMENT_ID WHERE cc.CLIP_ID = c.CLIP_ID)"
+    ),
+    CLIP_REPORT(
+            "UPDATE clip SET REPORT_COUNT = REPORT_COUNT + ? WHERE CLIP_ID = ?",
+            "UPDATE clip c SET c.REPORT_COUNT = (SELECT COUNT(*) FROM CLIP_REPORT cr WHERE cr.CLIP_ID = c.CLIP_ID) " +
+                    "WHERE c.REPORT_COUNT <> (SELECT COUNT(*) FROM CLIP_REPORT cr WHERE cr.CLIP_ID = c.CLIP_ID)"
+    );
+
+    private final String incrementSql;
+    private final String reconcileSql;
+
+    CounterColumn(String incrementSql, String reconcileSql) {
+        this.incrementSql = incrementSql;
+        this.reconcileSql = reconcileSql;
+    }
+
+    public String getIncrementSql() {
+        return incrementSql;
+    }
+
+    public String getReconcileSql() {
+        return reconcileSql;
+    }
+}
@@ -0,0 +1,58 @@
+package com.noblesse.backend.counter;
+
+import com.noblesse.backend.clip.domain.ClipCoComment;
+import com.noblesse.backend.clip.domain.ClipComment;
+import com.noblesse.backend.common.transaction.AfterCommit;
+import com.noblesse.backend.post.common.entity.PostCoComment;
+import com.noblesse.backend.post.common.entity.PostComment;
+import com.noblesse.backend.post.common.entity.PostReport;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글/대댓글/신고가 생성/삭제되면 커밋 이후 포스트/클립 카운터 증감을 누적하는 엔티티 리스너
+ * 클립 신고 수는 자동 숨김 판단에 쓰이므로 ClipReportService 가 신고 트랜잭션 안에서 바로 증감한다.
+ * 연관 엔티티는 식별자만 꺼내므로 지연 로딩 프록시를 초기화하지 않는다.
+ */
+@Component
+public class EngagementCounterListener {
+
+    private final ObjectProvider<EngagementCounterService> engagementCounterServiceProvider;
+
+    public EngagementCounterListener(ObjectProvider<EngagementCounterService> engagementCounterServiceProvider) {
+        this.engagementCounterServiceProvider = engagementCounterServiceProvider;
+    }
+
+    @PostPersist
+    public void onCreated(Object entity) {
+        count(entity, 1);
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        count(entity, -1);
+    }
+
+    private void count(Object entity, long delta) {
+        if (entity instanceof PostComment postComment) {
+            add(CounterColumn.POST_COMMENT, postComment.getPost() != null ? postComment.getPost().getPostId() : null, delta);
+        } else if (entity instanceof PostCoComment postCoComment) {
+            add(CounterColumn.POST_CO_COMMENT, postCoComment.getPostComment() != null ? postCoComment.getPostComment().getPostCommentId() : null, delta);
+        } else if (entity instanceof PostReport postReport) {
+            add(CounterColumn.POST_REPORT, postReport.getPost() != null ? postReport.getPost().getPostId() : null, delta);
+        } else if (entity instanceof ClipComment clipComment) {
+            add(CounterColumn.CLIP_COMMENT, clipComment.getClipId(), delta);
+        } else if (entity instanceof ClipCoComment clipCoComment) {
+            add(CounterColumn.CLIP_CO_COMMENT, clipCoComment.getClipCommentId(), delta);
+        }
+    }
+
+    private void add(CounterColumn column, Long id, long delta) {
+        if (id == null) {
+            return;
+        }
+        AfterCommit.run(() -> engagementCounterServiceProvider.getObject().add(column, id, delta));
+    }
+}
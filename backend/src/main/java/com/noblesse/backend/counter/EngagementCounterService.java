@@ -0,0 +1,91 @@
+package com.noblesse.backend.counter;
+
+import com.noblesse.backend.common.counter.StripedCounterMap;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글/대댓글/신고 수 카운터 서비스
+ * 증감은 메모리(StripedCounterMap)에 누적했다가 주기적으로 컬럼별 batch UPDATE 한 번으로 반영하고,
+ * 콜백을 거치지 않는 벌크 삭제 등으로 생긴 차이는 재계산 작업이 바로잡는다.
+ */
+@Service
+public class EngagementCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(EngagementCounterService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<CounterColumn, StripedCounterMap<Long>> pending = new EnumMap<>(CounterColumn.class);
+
+    public EngagementCounterService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (CounterColumn column : CounterColumn.values()) {
+            pending.put(column, new StripedCounterMap<>());
+        }
+    }
+
+    /** 카운터 증감량을 누적하는 메서드 (DB 반영은 다음 flush 에서) */
+    public void add(CounterColumn column, Long id, long delta) {
+        if (id != null) {
+            pending.get(column).add(id, delta);
+        }
+    }
+
+    /** 누적된 증감량을 컬럼별 batch UPDATE 로 반영하는 메서드 */
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        for (CounterColumn column : CounterColumn.values()) {
+            flush(column);
+        }
+    }
+
+    /** 실제 행 수와 카운터가 다른 포스트/클립을 찾아 다시 계산하는 메서드 */
+    @Scheduled(cron = "${counter.reconcile-cron:0 30 4 * * *}")
+    public synchronized void reconcile() {
+        flush();
+        for (CounterColumn column : CounterColumn.values()) {
+            int drifted = jdbcTemplate.update(column.getReconcileSql());
+            if (drifted > 0) {
+                log.info("Reconciled {} drifted rows for {}", drifted, column);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(CounterColumn column) {
+        StripedCounterMap<Long> counters = pending.get(column);
+        Map<Long, Long> deltas = counters.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(column.getIncrementSql(), batchArgs));
+        } catch (DataAccessException e) {
+            // 트랜잭션이 롤백되었으므로 꺼낸 증감량을 되돌려 다음 flush 에서 다시 시도한다.
+            deltas.forEach(counters::add);
+            log.warn("Failed to flush {} counter deltas for {}, will retry", deltas.size(), column, e);
+        }
+    }
+}
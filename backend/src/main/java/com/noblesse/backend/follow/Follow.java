@@ -3,7 +3,9 @@ package com.noblesse.backend.follow;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name="follow")
+@Table(name="follow", indexes = {
+        @Index(name = "idx_follow_followee_id_follower_id", columnList = "FOLLOWEE_ID, FOLLOWER_ID")
+})
 public class Follow {
     
     //해킹함 낄낄
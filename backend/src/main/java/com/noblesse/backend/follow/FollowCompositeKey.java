@@ -2,8 +2,11 @@ package com.noblesse.backend.follow;
 
 import jakarta.persistence.*;
 
+import java.io.Serializable;
+import java.util.Objects;
+
 @Embeddable
-public class FollowCompositeKey {
+public class FollowCompositeKey implements Serializable {
 
     @Embedded
     private FollowerId followerId;
@@ -26,6 +29,18 @@ public class FollowCompositeKey {
         return followeeId;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FollowCompositeKey that)) return false;
+        return Objects.equals(followerId, that.followerId) && Objects.equals(followeeId, that.followeeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(followerId, followeeId);
+    }
+
     @Override
     public String toString() {
         return "FollowCompositeKey{" +
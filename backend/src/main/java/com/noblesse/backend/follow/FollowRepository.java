@@ -0,0 +1,29 @@
+package com.noblesse.backend.follow;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, FollowCompositeKey> {
+
+    @Query("SELECT f.followInfo.followerId.followerId FROM Follow f WHERE f.followInfo.followeeId.followeeId = :followeeId")
+    List<Long> findFollowerIdsByFolloweeId(@Param("followeeId") Long followeeId);
+
+    @Query("SELECT COUNT(f) FROM Follow f WHERE f.followInfo.followeeId.followeeId = :followeeId")
+    long countFollowersByFolloweeId(@Param("followeeId") Long followeeId);
+
+    @Query("SELECT f.followInfo.followeeId.followeeId FROM Follow f " +
+            "GROUP BY f.followInfo.followeeId.followeeId " +
+            "HAVING COUNT(f) >= :threshold")
+    List<Long> findFolloweeIdsWithFollowerCountAtLeast(@Param("threshold") long threshold);
+
+    @Query("SELECT f.followInfo.followeeId.followeeId FROM Follow f " +
+            "WHERE f.followInfo.followerId.followerId = :followerId " +
+            "AND f.followInfo.followeeId.followeeId IN :followeeIds")
+    List<Long> findFolloweeIdsAmong(@Param("followerId") Long followerId, @Param("followeeIds") Collection<Long> followeeIds);
+}
@@ -3,8 +3,11 @@ package com.noblesse.backend.follow;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
+import java.io.Serializable;
+import java.util.Objects;
+
 @Embeddable
-public class FolloweeId {
+public class FolloweeId implements Serializable {
 
     @Column(name="FOLLOWEE_ID")
     private Long followeeId;
@@ -19,6 +22,18 @@ public class FolloweeId {
         return followeeId;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FolloweeId that)) return false;
+        return Objects.equals(followeeId, that.followeeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(followeeId);
+    }
+
     @Override
     public String toString() {
         return "FolloweeId{" +
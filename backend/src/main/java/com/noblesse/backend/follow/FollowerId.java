@@ -3,8 +3,11 @@ package com.noblesse.backend.follow;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
+import java.io.Serializable;
+import java.util.Objects;
+
 @Embeddable
-public class FollowerId {
+public class FollowerId implements Serializable {
 
     @Column(name="FOLLOWER_ID")
     private Long followerId;
@@ -19,6 +22,18 @@ public class FollowerId {
         return followerId;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FollowerId that)) return false;
+        return Objects.equals(followerId, that.followerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(followerId);
+    }
+
     @Override
     public String toString() {
         return "FollowerId{" +
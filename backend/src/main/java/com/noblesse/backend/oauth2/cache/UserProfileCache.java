@@ -0,0 +1,61 @@
+package com.noblesse.backend.oauth2.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.noblesse.backend.oauth2.dto.UserProfileDTO;
+import com.noblesse.backend.oauth2.repository.OAuthRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 프로필 읽기 캐시 (사용자 ID -> 프로필, provider + providerId -> 사용자 ID)
+ * provider 키 캐시는 사용자 ID 만 보관하고 프로필은 ID 캐시 한 곳에만 두므로, 무효화는 ID 기준 한 번이면 된다.
+ * 같은 키에 대한 동시 캐시 미스는 하나의 DB 조회(또는 upsert)로 합쳐지고(single-flight),
+ * OAuthUser 변경은 UserProfileCacheInvalidationListener 를 통해 커밋 이후 무효화된다.
+ * 다른 인스턴스의 변경은 expire-after-write 가 지나야 반영된다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final LoadingCache<Long, UserProfileDTO> profiles;
+    private final Cache<ProviderKey, Long> userIdsByProvider;
+
+    public UserProfileCache(
+            OAuthRepository oAuthRepository,
+            @Value("${oauth.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${oauth.user-cache.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build(userId -> oAuthRepository.findById(userId).map(UserProfileDTO::from).orElse(null));
+        this.userIdsByProvider = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /** 캐시를 거쳐 사용자 ID 로 프로필을 조회하는 메서드 */
+    public Optional<UserProfileDTO> findById(Long userId) {
+        return Optional.ofNullable(profiles.get(userId));
+    }
+
+    /** provider + providerId 의 사용자 ID 를 조회하는 메서드 (캐시에 없으면 같은 키의 동시 호출 중 한 번만 loader 를 실행) */
+    public Long getUserIdByProvider(String provider, String providerId, Supplier<Long> loader) {
+        return userIdsByProvider.get(new ProviderKey(provider, providerId), key -> loader.get());
+    }
+
+    /** 사용자 변경 시 ID 캐시와 현재 provider 키 캐시를 무효화하는 메서드 */
+    public void evict(Long userId, String provider, String providerId) {
+        profiles.invalidate(userId);
+        userIdsByProvider.invalidate(new ProviderKey(provider, providerId));
+    }
+
+    private record ProviderKey(String provider, String providerId) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.noblesse.backend.oauth2.cache;
+
+import com.noblesse.backend.common.transaction.AfterCommit;
+import com.noblesse.backend.oauth2.entity.OAuthUser;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * OAuthUser 변경이 DB에 반영되면 UserProfileCache 를 무효화하는 엔티티 리스너
+ * 트랜잭션 안에서는 커밋 이후에 무효화하여, 커밋 전 데이터가 다시 캐시에 적재되지 않도록 한다.
+ */
+@Component
+public class UserProfileCacheInvalidationListener {
+
+    // EntityManagerFactory 생성 시점에 리스너가 만들어지므로 캐시 빈은 지연 조회한다.
+    private final ObjectProvider<UserProfileCache> userProfileCacheProvider;
+
+    public UserProfileCacheInvalidationListener(ObjectProvider<UserProfileCache> userProfileCacheProvider) {
+        this.userProfileCacheProvider = userProfileCacheProvider;
+    }
+
+    // 신규 사용자도 "없음" 상태가 캐시되지는 않지만, 같은 provider 키의 이전 매핑이 남지 않도록 함께 무효화한다.
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(OAuthUser user) {
+        Long userId = user.getId();
+        String provider = user.getProvider();
+        String providerId = user.getProviderId();
+        AfterCommit.run(() -> userProfileCacheProvider.getObject().evict(userId, provider, providerId));
+    }
+}
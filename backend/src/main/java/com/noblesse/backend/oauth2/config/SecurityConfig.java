@@ -1,19 +1,52 @@
 package com.noblesse.backend.oauth2.config;
 
+import com.noblesse.backend.oauth2.security.JwtAuthenticationFilter;
 import com.noblesse.backend.oauth2.service.PrincipalOauth2UserService;
+import com.noblesse.backend.oauth2.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     @Autowired
     private PrincipalOauth2UserService principalOauth2UserService;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    // /api/** 는 Bearer JWT 만으로 인증하고 세션을 만들지 않는다. (쿠키를 쓰지 않으므로 CSRF 도 끈다)
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/api/**")
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().authenticated()
+                )
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .authorizeHttpRequests(authorize -> authorize
@@ -27,9 +60,10 @@ public class SecurityConfig {
                                 .defaultSuccessUrl("/home", true)// 로그인 실패 시 리다이렉트 URL
                 )
                 .logout(logout -> logout
-                        .logoutSuccessUrl("/")); // 로그아웃 후 리다이렉트 URL
+                        .logoutSuccessUrl("/")) // 로그아웃 후 리다이렉트 URL
+                // /home 등 로그인 이후 화면도 세션 대신 Bearer JWT 로 호출할 수 있게 한다.
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 }
-
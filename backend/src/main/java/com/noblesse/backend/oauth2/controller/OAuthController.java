@@ -1,47 +1,39 @@
 package com.noblesse.backend.oauth2.controller;
 
-import com.noblesse.backend.oauth2.entity.OAuthUser;
-import com.noblesse.backend.oauth2.repository.OAuthRepository;
-import com.noblesse.backend.oauth2.util.JwtUtil;
-import jakarta.servlet.http.HttpServletRequest;
+import com.noblesse.backend.oauth2.cache.UserProfileCache;
+import com.noblesse.backend.oauth2.security.JwtUserPrincipal;
+import com.noblesse.backend.oauth2.security.PrincipalDetails;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
-import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
-import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpEntity;
-import org.springframework.web.bind.annotation.ResponseBody;
-import org.springframework.web.client.RestTemplate;
 
 @Controller
 public class OAuthController {
     @Autowired
-    private OAuthRepository oAuthRepository;
-    @Autowired
-    private JwtUtil jwtUtil;
+    private UserProfileCache userProfileCache;
 
     @GetMapping("/login")
     public String login() {
         return "login";
     }
 
+    // Bearer JWT 는 JwtAuthenticationFilter 가 검증해 JwtUserPrincipal 로, OAuth2 로그인 세션은 PrincipalDetails 로 들어온다.
     @GetMapping("/home")
-    public ResponseEntity<?> getUser(HttpServletRequest request) {
-        String jwtToken = request.getHeader("Authorization").substring(7);
-        try {
-            Long userId = jwtUtil.extractUserId(jwtToken);
-            OAuthUser user = oAuthRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            return ResponseEntity.ok(user);
-        } catch (Exception e) {
+    public ResponseEntity<?> getUser(@AuthenticationPrincipal Object principal) {
+        Long userId = null;
+        if (principal instanceof JwtUserPrincipal jwtUserPrincipal) {
+            userId = jwtUserPrincipal.userId();
+        } else if (principal instanceof PrincipalDetails principalDetails) {
+            userId = principalDetails.getUser().getUserId();
+        }
+        if (userId == null) {
             return ResponseEntity.status(401).body("Invalid JWT token");
         }
+
+        return userProfileCache.findById(userId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(401).body("Invalid JWT token"));
     }
 }
@@ -0,0 +1,36 @@
+package com.noblesse.backend.oauth2.dto;
+
+import com.noblesse.backend.oauth2.entity.OAuthUser;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserProfileDTO {
+    private Long id;
+    private String userName;
+    private String email;
+    private String provider;
+    private String providerId;
+
+    // Entity로부터 DTO를 생성하는 메서드
+    public static UserProfileDTO from(OAuthUser user) {
+        return new UserProfileDTO(user.getId(), user.getUserName(), user.getEmail(), user.getProvider(), user.getProviderId());
+    }
+
+    // /home 응답이 엔티티를 직렬화하던 때와 같은 필드(userName, username, userId)를 유지한다.
+    // getUsername() 이 있으면 Lombok 은 대소문자만 다른 getUserName() 을 만들지 않으므로 직접 선언한다.
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getUsername() {
+        return userName;
+    }
+
+    public Long getUserId() {
+        return id;
+    }
+}
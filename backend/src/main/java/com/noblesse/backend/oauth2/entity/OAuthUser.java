@@ -1,9 +1,13 @@
 package com.noblesse.backend.oauth2.entity;
 
+import com.noblesse.backend.oauth2.cache.UserProfileCacheInvalidationListener;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name="user")
+@Table(name="user", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_provider_provider_id", columnNames = {"provider", "provider_id"})
+})
+@EntityListeners(UserProfileCacheInvalidationListener.class)
 public class OAuthUser {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,52 @@
+package com.noblesse.backend.oauth2.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * OAuth 사용자 upsert 리포지토리
+ * (provider, provider_id) 유니크 키에 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 새 사용자는 저장하고
+ * 기존 사용자는 그대로 두며, 두 경우 모두 사용자 ID 를 생성 키로 돌려받는다.
+ * 동시에 처음 로그인해도 유니크 키가 한 행만 남기므로 조회 후 저장 사이의 경쟁이 없다.
+ */
+@Repository
+public class OAuthUserUpsertRepository {
+
+    // 중복이면 id = LAST_INSERT_ID(id) 로 기존 행의 id 를 LAST_INSERT_ID 에 실어 생성 키로 반환하게 한다. (값이 바뀌지 않으므로 행은 갱신되지 않는다)
+    private static final String UPSERT_SQL =
+            "INSERT INTO user (user_name, email, provider, provider_id) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OAuthUserUpsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** provider + providerId 의 사용자가 없으면 저장하고, 있든 없든 사용자 ID 를 반환하는 메서드 */
+    public Long upsert(String userName, String email, String provider, String providerId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, userName);
+            statement.setString(2, email);
+            statement.setString(3, provider);
+            statement.setString(4, providerId);
+            return statement;
+        }, keyHolder);
+
+        // useAffectedRows=true 로 연결하면 변경 없는 중복 행은 0 건으로 집계되어 생성 키가 돌아오지 않는다.
+        if (keyHolder.getKeyList().isEmpty()) {
+            throw new IllegalStateException("No generated key returned for user upsert (provider=" + provider + ")");
+        }
+        // 생성 키 컬럼 이름은 드라이버마다 달라(GENERATED_KEY 등) 첫 번째 키의 첫 번째 값을 사용한다.
+        Map<String, Object> keys = keyHolder.getKeyList().get(0);
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.noblesse.backend.oauth2.security;
+
+import com.noblesse.backend.oauth2.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authorization: Bearer 헤더의 JWT 를 검증해 JwtUserPrincipal 을 SecurityContext 에 넣는 필터
+ * 컨텍스트는 요청 동안만 유지하고 세션에 저장하지 않는다. 토큰이 없거나 잘못되면 인증 없이 넘기고,
+ * 인증이 필요한 경로라면 이후 인가 단계에서 401 로 끝난다.
+ * 서블릿 필터로 자동 등록되지 않도록 빈으로 만들지 않고 SecurityConfig 에서 필터 체인에만 추가한다.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            authenticate(authorization.substring(BEARER_PREFIX.length()).trim());
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token) {
+        Long userId;
+        try {
+            userId = jwtUtil.verify(token).userId();
+        } catch (JwtException | IllegalArgumentException e) {
+            // 숫자가 아닌 sub 의 NumberFormatException 도 IllegalArgumentException 으로 함께 처리된다.
+            return;
+        }
+
+        SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(new JwtUserPrincipal(userId), null, List.of()));
+        securityContextHolderStrategy.setContext(context);
+    }
+}
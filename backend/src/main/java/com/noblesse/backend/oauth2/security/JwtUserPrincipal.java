@@ -0,0 +1,14 @@
+package com.noblesse.backend.oauth2.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Bearer JWT 로 인증된 사용자 (DB 조회 없이 토큰의 sub 만 담는다)
+ */
+public record JwtUserPrincipal(Long userId) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
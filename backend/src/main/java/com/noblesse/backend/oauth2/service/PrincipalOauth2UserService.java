@@ -1,7 +1,8 @@
 package com.noblesse.backend.oauth2.service;
+import com.noblesse.backend.oauth2.cache.UserProfileCache;
 import com.noblesse.backend.oauth2.dto.NaverUserInfo;
 import com.noblesse.backend.oauth2.entity.OAuthUser;
-import com.noblesse.backend.oauth2.repository.OAuthRepository;
+import com.noblesse.backend.oauth2.repository.OAuthUserUpsertRepository;
 import com.noblesse.backend.oauth2.security.PrincipalDetails;
 import com.noblesse.backend.oauth2.util.JwtUtil; // JwtUtil 경로에 맞게 수정
 import jakarta.servlet.http.HttpServletResponse;
@@ -20,7 +21,10 @@ import java.util.Map;
 public class PrincipalOauth2UserService extends DefaultOAuth2UserService {
 
     @Autowired
-    private OAuthRepository oAuthRepository;
+    private OAuthUserUpsertRepository oAuthUserUpsertRepository;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
 
     @Autowired
     private JwtUtil jwtUtil; // JwtUtil 주입
@@ -46,11 +50,14 @@ public class PrincipalOauth2UserService extends DefaultOAuth2UserService {
         String username = naverUserInfo.getName();
         System.out.println("유저 네임" + username);
 
-        OAuthUser user = oAuthRepository.findByUserName(username)
-                .orElseGet(() -> {
-                    OAuthUser newUser = new OAuthUser(username, naverUserInfo.getEmail(), naverUserInfo.getProvider(), naverUserInfo.getProviderId());
-                    return oAuthRepository.save(newUser);
-                });
+        // 재로그인은 캐시에서 끝나고, 캐시 미스는 upsert 한 번으로 사용자 ID 를 얻는다. (처음 로그인한 사용자만 저장됨)
+        String provider = naverUserInfo.getProvider();
+        String providerId = naverUserInfo.getProviderId();
+        Long userId = userProfileCache.getUserIdByProvider(provider, providerId,
+                () -> oAuthUserUpsertRepository.upsert(username, naverUserInfo.getEmail(), provider, providerId));
+
+        OAuthUser user = new OAuthUser(username, naverUserInfo.getEmail(), provider, providerId);
+        user.setId(userId);
 
         // JWT 생성
         String jwtToken = jwtUtil.generateToken(user.getUserId());
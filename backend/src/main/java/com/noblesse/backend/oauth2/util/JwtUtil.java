@@ -1,6 +1,11 @@
 package com.noblesse.backend.oauth2.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -8,24 +13,55 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * JWT 생성/검증 유틸
+ * 검증은 한 번 만든 JwtParser(불변, 스레드 안전)로만 하고, 검증 결과는 토큰의 SHA-256 다이제스트를 키로
+ * exp 시각까지만 캐시하므로 같은 토큰으로 들어오는 요청은 서명을 다시 계산하지 않는다.
+ * 캐시 값은 여러 요청이 함께 쓰므로 변경 가능한 Claims 대신 불변 VerifiedToken 으로 보관한다.
+ */
 @Component
 public class JwtUtil {
 
-    @Value("${JWT_SECRET}")
-    private String secretKey;
+    private final long expirationMs;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    @Value("${JWT_EXPIRATION_MS}")
-    private long expirationMs;
+    public JwtUtil(@Value("${JWT_SECRET}") String secretKey,
+                   @Value("${JWT_EXPIRATION_MS}") long expirationMs,
+                   @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.expirationMs = expirationMs;
+        this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return timeToLive(token).toNanos();
+                    }
 
-    private SecretKey key;
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
 
-    public JwtUtil(@Value("${JWT_SECRET}") String secretKey) {
-        this.secretKey = secretKey;
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     // JWT 생성
@@ -41,23 +77,50 @@ public class JwtUtil {
                 .compact();
     }
 
+    /** 토큰을 검증하고 sub/사용자 ID/exp 를 반환하는 메서드 (서명/만료 검증 실패 시 JwtException, 빈 토큰이나 숫자가 아닌 sub 는 IllegalArgumentException) */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        // 검증에 실패한 토큰은 캐시에 남지 않는다.
+        return verifiedTokens.get(digest(token), digest -> toVerifiedToken(parser.parseClaimsJws(token).getBody()));
+    }
+
     // JWT 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            verify(token);
             return true;
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
     // 사용자 ID 추출
     public Long extractUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.valueOf(claims.get("sub").toString());
+        return verify(token).userId();
+    }
+
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(claims.getSubject(), Long.valueOf(claims.getSubject()),
+                expiration == null ? null : expiration.toInstant());
+    }
+
+    // exp 가 없는 토큰은 발급 유효 기간만큼만 캐시한다.
+    private Duration timeToLive(VerifiedToken token) {
+        Instant expiresAt = token.expiresAt();
+        long remainingMs = expiresAt == null ? expirationMs : expiresAt.toEpochMilli() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(remainingMs, 0));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 은 SHA-256 을 지원해야 한다.
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,9 @@
+package com.noblesse.backend.oauth2.util;
+
+import java.time.Instant;
+
+/**
+ * 검증된 JWT 에서 꺼낸 불변 값 (exp 가 없는 토큰은 expiresAt 이 null)
+ */
+public record VerifiedToken(String subject, Long userId, Instant expiresAt) {
+}
@@ -1,5 +1,6 @@
 package com.noblesse.backend.post.api.query;
 
+import com.noblesse.backend.common.pagination.CursorPageDTO;
 import com.noblesse.backend.post.common.dto.PostCoCommentDTO;
 import com.noblesse.backend.post.query.application.service.PostQueryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -31,10 +33,13 @@ public class PostCoCommentQueryController {
         return ResponseEntity.ok(postCoComment);
     }
 
-    @Operation(summary = "게시물 대댓글 목록 조회")
+    @Operation(summary = "게시물 대댓글 목록 커서 기반 조회")
     @GetMapping
-    public ResponseEntity<List<PostCoCommentDTO>> getPostCoComments() {
-        List<PostCoCommentDTO> postCoComments = postQueryService.getAllPostCoComments();
+    public ResponseEntity<CursorPageDTO<PostCoCommentDTO>> getPostCoComments(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        CursorPageDTO<PostCoCommentDTO> postCoComments = postQueryService.getPostCoComments(cursor, size);
 
         return ResponseEntity.ok(postCoComments);
     }
@@ -1,5 +1,7 @@
 package com.noblesse.backend.post.api.query;
 
+import com.noblesse.backend.common.batch.BatchResultDTO;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
 import com.noblesse.backend.post.common.dto.PostCommentDTO;
 import com.noblesse.backend.post.query.application.service.PostQueryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,10 +30,23 @@ public class PostCommentQueryController {
         return ResponseEntity.ok(postComment);
     }
 
-    @Operation(summary = "게시물 댓글 목록 조회")
+    @Operation(summary = "게시물 댓글 ID 목록으로 게시물 댓글 일괄 조회")
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResultDTO<PostCommentDTO>> getPostCommentsByIds(
+            @RequestParam("ids") List<Long> ids
+    ) {
+        BatchResultDTO<PostCommentDTO> postComments = postQueryService.getPostCommentsByIds(ids);
+
+        return ResponseEntity.ok(postComments);
+    }
+
+    @Operation(summary = "게시물 댓글 목록 커서 기반 조회")
     @GetMapping
-    public ResponseEntity<List<PostCommentDTO>> getPostComments() {
-        List<PostCommentDTO> postComments = postQueryService.getAllPostComments();
+    public ResponseEntity<CursorPageDTO<PostCommentDTO>> getPostComments(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        CursorPageDTO<PostCommentDTO> postComments = postQueryService.getPostComments(cursor, size);
 
         return ResponseEntity.ok(postComments);
     }
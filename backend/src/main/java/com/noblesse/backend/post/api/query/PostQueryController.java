@@ -1,13 +1,24 @@
 package com.noblesse.backend.post.api.query;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.noblesse.backend.common.batch.BatchResultDTO;
+import com.noblesse.backend.common.cache.CacheStatsDTO;
+import com.noblesse.backend.common.export.NdjsonWriter;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
 import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.query.application.cache.PostQueryCache;
+import com.noblesse.backend.post.query.application.service.PostExportService;
 import com.noblesse.backend.post.query.application.service.PostQueryService;
+import com.noblesse.backend.post.query.application.service.PostSearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -17,19 +28,57 @@ import java.util.List;
 public class PostQueryController {
 
     private final PostQueryService postQueryService;
+    private final PostQueryCache postQueryCache;
+    private final PostExportService postExportService;
+    private final PostSearchService postSearchService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "게시물 ID로 게시물 조회")
     @GetMapping(value = "/{id}")
     public ResponseEntity<PostDTO> getPostById(@PathVariable("id") Long id) {
-        PostDTO post = postQueryService.getPostById(id);
+        PostDTO post = postQueryCache.getPostById(id);
         return ResponseEntity.ok(post);
     }
 
-    @Operation(summary = "게시물 목록 조회")
+    @Operation(summary = "게시물 ID로 게시물과 댓글, 대댓글 조회")
+    @GetMapping(value = "/{id}/detail")
+    public ResponseEntity<PostDTO> getPostDetailById(@PathVariable("id") Long id) {
+        PostDTO post = postQueryCache.getPostWithCommentsAndCoComments(id);
+        return ResponseEntity.ok(post);
+    }
+
+    @Operation(summary = "게시물 캐시 통계 조회")
+    @GetMapping(value = "/cache/stats")
+    public ResponseEntity<List<CacheStatsDTO>> getPostCacheStats() {
+        return ResponseEntity.ok(postQueryCache.getStats());
+    }
+
+    @Operation(summary = "게시물 목록 커서 기반 조회")
     @GetMapping
-    public ResponseEntity<List<PostDTO>> getPosts() {
-        List<PostDTO> posts = postQueryService.getAllPosts();
+    public ResponseEntity<CursorPageDTO<PostDTO>> getPosts(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        CursorPageDTO<PostDTO> posts = postQueryService.getPosts(cursor, size);
+
+        return ResponseEntity.ok(posts);
+    }
+
+    @Operation(summary = "게시물 ID 목록으로 게시물 일괄 조회")
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResultDTO<PostDTO>> getPostsByIds(@RequestParam("ids") List<Long> ids) {
+        BatchResultDTO<PostDTO> posts = postQueryService.getPostsByIds(ids);
+        return ResponseEntity.ok(posts);
+    }
 
+    @Operation(summary = "키워드로 공개 게시물 관련도 순 검색")
+    @GetMapping("/search")
+    public ResponseEntity<Page<PostDTO>> searchPosts(
+            @RequestParam(value = "keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        Page<PostDTO> posts = postSearchService.searchPosts(keyword, page, size);
         return ResponseEntity.ok(posts);
     }
 
@@ -39,4 +88,15 @@ public class PostQueryController {
         List<PostDTO> posts = postQueryService.getPostsByUserId(userId);
         return ResponseEntity.ok(posts);
     }
+
+    @Operation(summary = "전체 게시물 NDJSON 스트리밍 내보내기")
+    @GetMapping(value = "/export")
+    public void exportPosts(HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonWriter.CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream());
+        postExportService.exportAllPosts(writer::write);
+        writer.flush();
+    }
 }
@@ -1,9 +1,13 @@
 package com.noblesse.backend.post.api.query;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.noblesse.backend.common.export.NdjsonWriter;
 import com.noblesse.backend.post.common.dto.PostReportDTO;
+import com.noblesse.backend.post.query.application.service.PostExportService;
 import com.noblesse.backend.post.query.application.service.PostQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -20,6 +25,8 @@ import java.util.List;
 public class PostReportQueryController {
 
     private final PostQueryService postQueryService;
+    private final PostExportService postExportService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "게시물 신고 ID로 게시물 신고글 조회")
     @GetMapping(value = "/{id}")
@@ -42,4 +49,15 @@ public class PostReportQueryController {
         List<PostReportDTO> postReports = postQueryService.getPostReportsByUserId(userId);
         return ResponseEntity.ok(postReports);
     }
+
+    @Operation(summary = "전체 게시물 신고글 NDJSON 스트리밍 내보내기")
+    @GetMapping(value = "/export")
+    public void exportPostReports(HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonWriter.CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream());
+        postExportService.exportAllPostReports(writer::write);
+        writer.flush();
+    }
 }
@@ -40,6 +40,16 @@ public class PostCommentDTO {
         this.userId = userId;
     }
 
+    // Projection 용 생성자 (JPQL 생성자 표현식)
+    public PostCommentDTO(Long postCommentId, String postCommentContent, LocalDateTime createdDateTime, LocalDateTime updatedDateTime, Long userId, Long postId) {
+        this.postCommentId = postCommentId;
+        this.postCommentContent = postCommentContent;
+        this.createdDateTime = createdDateTime;
+        this.updatedDateTime = updatedDateTime;
+        this.userId = userId;
+        this.postId = postId;
+    }
+
     // Entity로부터 DTO를 생성하는 생성자
     public PostCommentDTO(PostComment postComment) {
         this.postCommentId = postComment.getPostCommentId();
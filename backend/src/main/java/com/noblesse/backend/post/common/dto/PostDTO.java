@@ -21,6 +21,9 @@ public class PostDTO {
     private Long userId;
     private Long tripId;
     private Long clipId;
+    private Long commentCount;
+    private Long coCommentCount;
+    private Long reportCount;
     private List<PostCommentDTO> comments;
 
     // Create 용 생성자
@@ -48,6 +51,22 @@ public class PostDTO {
         this.userId = userId;
     }
 
+    // Projection 용 생성자 (JPQL 생성자 표현식)
+    public PostDTO(Long postId, String postTitle, String postContent, LocalDateTime createdDateTime, LocalDateTime updatedDateTime, Boolean isOpened, Long userId, Long tripId, Long clipId, Long commentCount, Long coCommentCount, Long reportCount) {
+        this.postId = postId;
+        this.postTitle = postTitle;
+        this.postContent = postContent;
+        this.createdDateTime = createdDateTime;
+        this.updatedDateTime = updatedDateTime;
+        this.isOpened = isOpened;
+        this.userId = userId;
+        this.tripId = tripId;
+        this.clipId = clipId;
+        this.commentCount = commentCount;
+        this.coCommentCount = coCommentCount;
+        this.reportCount = reportCount;
+    }
+
     // Entity로부터 DTO를 생성하는 생성자
     public PostDTO(Post post) {
         this.postId = post.getPostId();
@@ -59,5 +78,8 @@ public class PostDTO {
         this.userId = post.getUserId();
         this.tripId = post.getTripId();
         this.clipId = post.getClipId();
+        this.commentCount = post.getCommentCount();
+        this.coCommentCount = post.getCoCommentCount();
+        this.reportCount = post.getReportCount();
     }
 }
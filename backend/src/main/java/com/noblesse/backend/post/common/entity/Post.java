@@ -1,5 +1,8 @@
 package com.noblesse.backend.post.common.entity;
 
+import com.noblesse.backend.post.query.application.cache.PostCacheInvalidationListener;
+import com.noblesse.backend.post.query.application.search.PostSearchIndexListener;
+import com.noblesse.backend.timeline.listener.TimelineFanOutListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.ToString;
@@ -9,7 +12,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity(name = "Post")
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_created_datetime_post_id", columnList = "created_datetime, post_id"),
+        @Index(name = "idx_post_user_opened_created_datetime", columnList = "user_id, is_opened, created_datetime, post_id")
+})
+@EntityListeners({PostCacheInvalidationListener.class, TimelineFanOutListener.class, PostSearchIndexListener.class})
 @ToString
 public class Post {
 
@@ -42,6 +49,16 @@ public class Post {
     @Column(name = "clip_id")
     private Long clipId;
 
+    // 카운터 컬럼은 EngagementCounterService 가 batch UPDATE 로 반영하므로 JPA 로는 쓰지 않는다.
+    @Column(name = "comment_count", insertable = false, updatable = false) // 댓글 수
+    private Long commentCount = 0L;
+
+    @Column(name = "co_comment_count", insertable = false, updatable = false) // 대댓글 수
+    private Long coCommentCount = 0L;
+
+    @Column(name = "report_count", insertable = false, updatable = false) // 신고 수
+    private Long reportCount = 0L;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostComment> comments = new ArrayList<>();
 
@@ -106,4 +123,16 @@ public class Post {
     public Long getClipId() {
         return clipId;
     }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public Long getCoCommentCount() {
+        return coCommentCount;
+    }
+
+    public Long getReportCount() {
+        return reportCount;
+    }
 }
@@ -1,5 +1,7 @@
 package com.noblesse.backend.post.common.entity;
 
+import com.noblesse.backend.counter.EngagementCounterListener;
+import com.noblesse.backend.post.query.application.cache.PostCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.ToString;
@@ -7,12 +9,17 @@ import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity(name = "PostCoComment")
-@Table(name = "post_co_comment")
+@Table(name = "post_co_comment", indexes = {
+        @Index(name = "idx_post_co_comment_created_datetime_id", columnList = "created_datetime, post_co_comment_id")
+})
+@EntityListeners({PostCacheInvalidationListener.class, EngagementCounterListener.class})
 @ToString
 public class PostCoComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "post_co_comment_id_generator", table = "id_generator", pkColumnName = "SEQUENCE_NAME",
+            valueColumnName = "NEXT_VAL", pkColumnValue = "post_co_comment", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_co_comment_id_generator")
     @Column(name = "post_co_comment_id") // POST CO COMMENT PK
     private Long postCoCommentId;
 
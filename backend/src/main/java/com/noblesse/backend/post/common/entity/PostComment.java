@@ -1,5 +1,7 @@
 package com.noblesse.backend.post.common.entity;
 
+import com.noblesse.backend.counter.EngagementCounterListener;
+import com.noblesse.backend.post.query.application.cache.PostCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.ToString;
@@ -10,12 +12,17 @@ import java.util.Collections;
 import java.util.List;
 
 @Entity(name = "PostComment")
-@Table(name = "post_comment")
+@Table(name = "post_comment", indexes = {
+        @Index(name = "idx_post_comment_created_datetime_id", columnList = "created_datetime, post_comment_id")
+})
+@EntityListeners({PostCacheInvalidationListener.class, EngagementCounterListener.class})
 @ToString
 public class PostComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "post_comment_id_generator", table = "id_generator", pkColumnName = "SEQUENCE_NAME",
+            valueColumnName = "NEXT_VAL", pkColumnValue = "post_comment", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_comment_id_generator")
     @Column(name = "post_comment_id") // POST COMMENT PK
     private Long postCommentId;
 
@@ -1,5 +1,6 @@
 package com.noblesse.backend.post.common.entity;
 
+import com.noblesse.backend.counter.EngagementCounterListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.ToString;
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Entity(name = "PostReport")
 @Table(name = "post_report")
+@EntityListeners(EngagementCounterListener.class)
 @ToString
 public class PostReport {
 
@@ -0,0 +1,54 @@
+package com.noblesse.backend.post.query.application.cache;
+
+import com.noblesse.backend.common.transaction.AfterCommit;
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.post.common.entity.PostCoComment;
+import com.noblesse.backend.post.common.entity.PostComment;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post, PostComment, PostCoComment 변경이 DB에 반영되면 PostQueryCache 를 무효화하는 엔티티 리스너
+ * 트랜잭션 안에서는 커밋 이후에 무효화하여, 커밋 전 데이터가 다시 캐시에 적재되지 않도록 한다.
+ */
+@Component
+public class PostCacheInvalidationListener {
+
+    // EntityManagerFactory 생성 시점에 리스너가 만들어지므로 캐시 빈은 지연 조회한다.
+    private final ObjectProvider<PostQueryCache> postQueryCacheProvider;
+
+    public PostCacheInvalidationListener(ObjectProvider<PostQueryCache> postQueryCacheProvider) {
+        this.postQueryCacheProvider = postQueryCacheProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (entity instanceof Post post) {
+            Long postId = post.getPostId();
+            AfterCommit.run(() -> cache().evictPost(postId));
+        } else if (entity instanceof PostComment postComment) {
+            Long postId = postIdOf(postComment);
+            if (postId != null) {
+                AfterCommit.run(() -> cache().evictPostDetail(postId));
+            }
+        } else if (entity instanceof PostCoComment postCoComment) {
+            Long postId = postCoComment.getPostComment() != null ? postIdOf(postCoComment.getPostComment()) : null;
+            if (postId != null) {
+                AfterCommit.run(() -> cache().evictPostDetail(postId));
+            }
+        }
+    }
+
+    private Long postIdOf(PostComment postComment) {
+        return postComment.getPost() != null ? postComment.getPost().getPostId() : null;
+    }
+
+    private PostQueryCache cache() {
+        return postQueryCacheProvider.getObject();
+    }
+}
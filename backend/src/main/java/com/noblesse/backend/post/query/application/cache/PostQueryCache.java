@@ -0,0 +1,75 @@
+package com.noblesse.backend.post.query.application.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.noblesse.backend.common.cache.CacheStatsDTO;
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.query.application.service.PostQueryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * PostQueryService 앞단의 읽기 캐시
+ * 같은 ID 에 대한 동시 캐시 미스는 하나의 DB 조회로 합쳐지고(single-flight),
+ * 포스트/댓글/대댓글 변경은 PostCacheInvalidationListener 를 통해 커밋 이후 무효화된다.
+ * 반환되는 DTO 는 캐시에 보관된 인스턴스이므로 호출 측에서 수정하지 않는다.
+ */
+@Component
+public class PostQueryCache {
+
+    private static final String POST_CACHE_NAME = "post";
+    private static final String POST_DETAIL_CACHE_NAME = "postDetail";
+
+    private final LoadingCache<Long, PostDTO> posts;
+    private final LoadingCache<Long, PostDTO> postDetails;
+
+    public PostQueryCache(
+            PostQueryService postQueryService,
+            @Value("${post.cache.maximum-size:10000}") long maximumSize,
+            @Value("${post.cache.detail-maximum-size:1000}") long detailMaximumSize,
+            @Value("${post.cache.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        this.posts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(postQueryService::getPostById);
+        this.postDetails = Caffeine.newBuilder()
+                .maximumSize(detailMaximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(postQueryService::getPostWithCommentsAndCoComments);
+    }
+
+    /** 캐시를 거쳐 포스트를 조회하는 메서드 */
+    public PostDTO getPostById(Long postId) {
+        return posts.get(postId);
+    }
+
+    /** 캐시를 거쳐 포스트와 댓글, 대댓글 트리를 조회하는 메서드 */
+    public PostDTO getPostWithCommentsAndCoComments(Long postId) {
+        return postDetails.get(postId);
+    }
+
+    /** 포스트 자체가 변경되었을 때 포스트와 댓글 트리 캐시를 모두 무효화하는 메서드 */
+    public void evictPost(Long postId) {
+        posts.invalidate(postId);
+        postDetails.invalidate(postId);
+    }
+
+    /** 댓글/대댓글이 변경되었을 때 해당 포스트의 댓글 트리 캐시만 무효화하는 메서드 */
+    public void evictPostDetail(Long postId) {
+        postDetails.invalidate(postId);
+    }
+
+    /** 캐시 적중/미스/적재 시간 통계를 조회하는 메서드 */
+    public List<CacheStatsDTO> getStats() {
+        return List.of(
+                CacheStatsDTO.of(POST_CACHE_NAME, posts),
+                CacheStatsDTO.of(POST_DETAIL_CACHE_NAME, postDetails)
+        );
+    }
+}
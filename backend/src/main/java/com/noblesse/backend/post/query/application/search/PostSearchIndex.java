@@ -0,0 +1,179 @@
+package com.noblesse.backend.post.query.application.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개 포스트의 제목/본문에 대한 메모리 역색인(inverted index)
+ * 검색어별 포스팅 목록(postId → 가중 빈도)을 유지하고 BM25 점수로 상위 k 개를 반환한다.
+ * 비공개 포스트는 색인하지 않으며, 공개 → 비공개로 바뀐 포스트는 색인에서 제거된다.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingDouble(Hit::score)
+            .thenComparingLong(Hit::postId);
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    /** 포스트를 색인(추가 또는 갱신)하는 메서드 */
+    public void index(Long postId, String title, String content, Boolean isOpened) {
+        if (!Boolean.TRUE.equals(isOpened)) {
+            remove(postId);
+            return;
+        }
+
+        Map<String, Integer> terms = new HashMap<>();
+        PostSearchTokenizer.tokenize(title).forEach((term, count) -> terms.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        PostSearchTokenizer.tokenize(content).forEach((term, count) -> terms.merge(term, count, Integer::sum));
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+            terms.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+            documents.put(postId, new Document(terms.keySet().toArray(new String[0]), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 포스트를 색인에서 제거하는 메서드 */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 색인 전체를 비우는 메서드 */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 검색어로 관련도 순 상위 결과 중 [offset, offset + limit) 구간을 조회하는 메서드 */
+    public SearchResult search(String query, int offset, int limit) {
+        Map<String, Integer> queryTerms = PostSearchTokenizer.tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : queryTerms.keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    int length = documents.get(entry.getKey()).length();
+                    double normalized = frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(entry.getKey(), idf * normalized, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new SearchResult(topK(scores, offset, limit), scores.size());
+    }
+
+    /** 색인된 포스트 수를 조회하는 메서드 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> topK(Map<Long, Double> scores, int offset, int limit) {
+        int k = offset + limit;
+        if (offset >= scores.size()) {
+            return List.of();
+        }
+
+        // 크기 k 의 최소 힙으로 전체 정렬 없이 상위 k 개만 유지한다.
+        PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(k, scores.size()), RANKING);
+        scores.forEach((postId, score) -> {
+            Hit hit = new Hit(postId, score);
+            if (heap.size() < k) {
+                heap.offer(hit);
+            } else if (RANKING.compare(hit, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(hit);
+            }
+        });
+
+        List<Hit> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll());
+        }
+        Collections.reverse(ranked);
+        return ranked.subList(offset, ranked.size());
+    }
+
+    private void removeDocument(Long postId) {
+        Document removed = documents.remove(postId);
+        if (removed == null) {
+            return;
+        }
+
+        for (String term : removed.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= removed.length();
+    }
+
+    private record Document(String[] terms, int length) {
+    }
+
+    public record Hit(Long postId, double score) {
+    }
+
+    public record SearchResult(List<Hit> hits, int totalHits) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.noblesse.backend.post.query.application.search;
+
+import com.noblesse.backend.common.transaction.AfterCommit;
+import com.noblesse.backend.post.common.entity.Post;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포스트가 저장/수정/삭제되면 커밋 이후 검색 인덱스를 갱신하는 엔티티 리스너
+ */
+@Component
+public class PostSearchIndexListener {
+
+    private final ObjectProvider<PostSearchIndex> postSearchIndexProvider;
+
+    public PostSearchIndexListener(ObjectProvider<PostSearchIndex> postSearchIndexProvider) {
+        this.postSearchIndexProvider = postSearchIndexProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onPostSaved(Post post) {
+        Long postId = post.getPostId();
+        String title = post.getPostTitle();
+        String content = post.getPostContent();
+        Boolean isOpened = post.getIsOpened();
+        AfterCommit.run(() -> postSearchIndexProvider.getObject().index(postId, title, content, isOpened));
+    }
+
+    @PostRemove
+    public void onPostRemoved(Post post) {
+        Long postId = post.getPostId();
+        AfterCommit.run(() -> postSearchIndexProvider.getObject().remove(postId));
+    }
+}
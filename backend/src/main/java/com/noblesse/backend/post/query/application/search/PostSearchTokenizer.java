@@ -0,0 +1,56 @@
+package com.noblesse.backend.post.query.application.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 포스트 검색용 토크나이저
+ * 공백/문장부호 기준 토큰과, 한글 구간의 글자 바이그램(2-gram)을 함께 생성한다.
+ * 바이그램 덕분에 조사가 붙은 어절("제주도에서")도 "제주도" 검색에 걸린다.
+ */
+public final class PostSearchTokenizer {
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private PostSearchTokenizer() {
+    }
+
+    /** 텍스트를 검색어(term)별 출현 빈도로 변환하는 메서드 */
+    public static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        for (String token : TOKEN_DELIMITER.split(normalized)) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            terms.merge(token, 1, Integer::sum);
+            addHangulBigrams(token, terms);
+        }
+        return terms;
+    }
+
+    private static void addHangulBigrams(String token, Map<String, Integer> terms) {
+        int[] codePoints = token.codePoints().toArray();
+        if (codePoints.length < 3) {
+            // 두 글자 이하 토큰은 토큰 자체가 바이그램과 같다.
+            return;
+        }
+
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            if (isHangul(codePoints[i]) && isHangul(codePoints[i + 1])) {
+                terms.merge(new String(codePoints, i, 2), 1, Integer::sum);
+            }
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,54 @@
+package com.noblesse.backend.post.query.application.service;
+
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.common.dto.PostReportDTO;
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.post.common.entity.PostReport;
+import com.noblesse.backend.post.query.infrastructure.persistence.repository.PostReportRepository;
+import com.noblesse.backend.post.query.infrastructure.persistence.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 관리자/분석용 전체 데이터 내보내기 서비스
+ * List 로 한 번에 적재하지 않고 DB 커서에서 한 건씩 읽어 바로 넘기므로 테이블 크기와 무관하게 힙 사용량이 일정하다.
+ */
+@Service
+public class PostExportService {
+
+    private final PostRepository postRepository;
+    private final PostReportRepository postReportRepository;
+    private final EntityManager entityManager;
+
+    public PostExportService(PostRepository postRepository, PostReportRepository postReportRepository, EntityManager entityManager) {
+        this.postRepository = postRepository;
+        this.postReportRepository = postReportRepository;
+        this.entityManager = entityManager;
+    }
+
+    /** 모든 포스트를 한 건씩 sink 로 넘기는 메서드 */
+    @Transactional(readOnly = true)
+    public void exportAllPosts(Consumer<PostDTO> sink) {
+        try (Stream<Post> posts = postRepository.streamAll()) {
+            posts.forEach(post -> {
+                sink.accept(new PostDTO(post));
+                entityManager.detach(post);
+            });
+        }
+    }
+
+    /** 모든 포스트 신고를 한 건씩 sink 로 넘기는 메서드 */
+    @Transactional(readOnly = true)
+    public void exportAllPostReports(Consumer<PostReportDTO> sink) {
+        try (Stream<PostReport> postReports = postReportRepository.streamAll()) {
+            postReports.forEach(postReport -> {
+                sink.accept(new PostReportDTO(postReport));
+                entityManager.detach(postReport);
+            });
+        }
+    }
+}
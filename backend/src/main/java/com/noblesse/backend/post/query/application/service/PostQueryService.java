@@ -1,13 +1,12 @@
 package com.noblesse.backend.post.query.application.service;
 
+import com.noblesse.backend.common.batch.BatchResultDTO;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
 import com.noblesse.backend.post.common.dto.PostCoCommentDTO;
 import com.noblesse.backend.post.common.dto.PostCommentDTO;
 import com.noblesse.backend.post.common.dto.PostDTO;
 import com.noblesse.backend.post.common.dto.PostReportDTO;
-import com.noblesse.backend.post.common.entity.Post;
-import com.noblesse.backend.post.common.entity.PostCoComment;
-import com.noblesse.backend.post.common.entity.PostComment;
-import com.noblesse.backend.post.common.entity.PostReport;
 import com.noblesse.backend.post.common.exception.PostCoCommentNotFoundException;
 import com.noblesse.backend.post.common.exception.PostCommentNotFoundException;
 import com.noblesse.backend.post.common.exception.PostNotFoundException;
@@ -19,13 +18,20 @@ import com.noblesse.backend.post.query.infrastructure.persistence.repository.Pos
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+/**
+ * 포스트 조회 서비스
+ * 모든 조회는 읽기 전용 트랜잭션에서 DTO 프로젝션 쿼리로 수행하며, 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
 @Service
+@Transactional(readOnly = true)
 public class PostQueryService {
 
     private final PostRepository postRepository;
@@ -45,40 +51,49 @@ public class PostQueryService {
      */
     /** 포스트 고유 ID로 포스팅 검색하는 메서드 */
     public PostDTO getPostById(Long id) {
-        Post post = postRepository.findById(id)
+        return postRepository.findPostDTOById(id)
                 .orElseThrow(() -> new PostNotFoundException(id));
-        return new PostDTO(post);
+    }
+
+    /** 포스트 고유 ID 목록으로 포스트를 한 번에 조회하고, 존재하지 않는 ID 는 따로 모으는 메서드 */
+    public BatchResultDTO<PostDTO> getPostsByIds(List<Long> ids) {
+        List<Long> postIds = BatchResultDTO.distinctIds(ids);
+        List<PostDTO> posts = postRepository.findPostDTOsByPostIdIn(postIds);
+        return BatchResultDTO.of(postIds, posts, PostDTO::getPostId);
     }
 
     /** 사용자 고유 ID(userId)로 해당 사용자의 모든 포스트를 조회하는 메서드 */
     public List<PostDTO> getPostsByUserId(Long userId) {
-        List<Post> posts = postRepository.findByUserId(userId);
-        return posts.stream()
-                .map(PostDTO::new)
-                .collect(Collectors.toList());
+        return postRepository.findPostDTOsByUserId(userId);
     }
 
-    /** Pageable을 통해 모든 포스트를 조회하는 메서드 */
-//    public Page<PostDTO> getAllPosts(Pageable pageable) {
-//        Page<Post> postPage = postRepository.findAll(pageable);
-//        return postPage.map(PostDTO::new);
-//    }
+    /** 커서(작성 일시, 포스트 ID)를 통해 포스트를 최신순으로 페이지 조회하는 메서드 */
+    public CursorPageDTO<PostDTO> getPosts(String cursor, Integer size) {
+        int pageSize = CursorPageDTO.boundSize(size);
+        Pageable limit = CursorPageDTO.limitOf(pageSize);
+
+        List<PostDTO> postDTOs;
+        if (cursor == null || cursor.isBlank()) {
+            postDTOs = postRepository.findLatest(limit);
+        } else {
+            DateTimeCursor after = DateTimeCursor.decode(cursor);
+            postDTOs = postRepository.findOlderThan(after.getDateTime(), after.getId(), limit);
+        }
+
+        return CursorPageDTO.of(postDTOs, pageSize,
+                post -> new DateTimeCursor(post.getCreatedDateTime(), post.getPostId()));
+    }
 
     /** 모든 포스트를 조회하는 메서드 */
     public List<PostDTO> getAllPosts() {
-        List<Post> posts = postRepository.findAll();
-
-        return posts.stream()
-                .map(PostDTO::new)
-                .collect(Collectors.toList());
+        return postRepository.findAllPostDTOs();
     }
 
     /** 포스트에 존재하는 모든 포스트 댓글과 포스트 대댓글을 조회하는 메서드 */
     public PostDTO getPostWithCommentsAndCoComments(Long postId) {
-        Post post = postRepository.findById(postId)
+        PostDTO postDTO = postRepository.findPostDTOById(postId)
                 .orElseThrow(() -> new PostNotFoundException(postId));
 
-        PostDTO postDTO = new PostDTO(post);
         List<PostCommentDTO> comments = getCommentsForPost(postId);
         postDTO.setComments(comments);
 
@@ -91,10 +106,7 @@ public class PostQueryService {
             throw new IllegalArgumentException("This method only supports searching for open posts.");
         }
 
-        List<Post> posts = postRepository.findByCreatedDateTimeBetweenAndUserIdInAndIsOpenedTrue(startDate, endDate, userIds);
-        return posts.stream()
-                .map(PostDTO::new)
-                .collect(Collectors.toList());
+        return postRepository.findOpenPostDTOs(startDate, endDate, userIds);
     }
 
     /**
@@ -102,48 +114,69 @@ public class PostQueryService {
      */
     /** 포스트 댓글 고유 ID로 포스팅 댓글을 검색하는 메서드 */
     public PostCommentDTO getPostCommentById(Long id) {
-        PostComment comment = postCommentRepository.findById(id)
+        return postCommentRepository.findPostCommentDTOById(id)
                 .orElseThrow(() -> new PostCommentNotFoundException(id));
-        return new PostCommentDTO(comment);
+    }
+
+    /** 포스트 댓글 고유 ID 목록으로 포스트 댓글을 한 번에 조회하고, 존재하지 않는 ID 는 따로 모으는 메서드 */
+    public BatchResultDTO<PostCommentDTO> getPostCommentsByIds(List<Long> ids) {
+        List<Long> postCommentIds = BatchResultDTO.distinctIds(ids);
+        List<PostCommentDTO> postComments = postCommentRepository.findPostCommentDTOsByPostCommentIdIn(postCommentIds);
+        return BatchResultDTO.of(postCommentIds, postComments, PostCommentDTO::getPostCommentId);
     }
 
     /** 사용자 고유 ID(userId)로 해당 사용자의 모든 포스트 댓글을 조회하는 메서드 */
     public List<PostCommentDTO> getPostCommentsByUserId(Long userId) {
-        List<PostComment> postComments = postCommentRepository.findByUserId(userId);
-        return postComments.stream()
-                .map(PostCommentDTO::new)
-                .collect(Collectors.toList());
+        return postCommentRepository.findPostCommentDTOsByUserId(userId);
     }
 
-    /** Pageable을 통해 모든 포스트 댓글을 조회하는 메서드 */
-//    public Page<PostCommentDTO> getAllPostComments(Pageable pageable) {
-//        Page<PostComment> postCommentPage = postCommentRepository.findAll(pageable);
-//        return postCommentPage.map(PostCommentDTO::new);
-//    }
+    /** 커서(작성 일시, 포스트 댓글 ID)를 통해 포스트 댓글을 최신순으로 페이지 조회하는 메서드 */
+    public CursorPageDTO<PostCommentDTO> getPostComments(String cursor, Integer size) {
+        int pageSize = CursorPageDTO.boundSize(size);
+        Pageable limit = CursorPageDTO.limitOf(pageSize);
+
+        List<PostCommentDTO> postCommentDTOs;
+        if (cursor == null || cursor.isBlank()) {
+            postCommentDTOs = postCommentRepository.findLatest(limit);
+        } else {
+            DateTimeCursor after = DateTimeCursor.decode(cursor);
+            postCommentDTOs = postCommentRepository.findOlderThan(after.getDateTime(), after.getId(), limit);
+        }
+
+        return CursorPageDTO.of(postCommentDTOs, pageSize,
+                comment -> new DateTimeCursor(comment.getCreatedDateTime(), comment.getPostCommentId()));
+    }
 
     /** 모든 포스트 댓글을 조회하는 메서드 */
     public List<PostCommentDTO> getAllPostComments() {
-        List<PostComment> postComments = postCommentRepository.findAll();
-
-        return postComments.stream()
-                .map(PostCommentDTO::new)
-                .collect(Collectors.toList());
+        return postCommentRepository.findAllPostCommentDTOs();
     }
 
-    /** 포스트에 존재하는 모든 포스트 댓글과 포스트 대댓글을 조회하는 메서드 */
+    /**
+     * 포스트에 존재하는 모든 포스트 댓글과 포스트 대댓글을 조회하는 메서드
+     * 댓글 수와 관계없이 댓글 조회 1회, 대댓글 IN 조회 1회로 댓글 트리를 구성한다.
+     */
     private List<PostCommentDTO> getCommentsForPost(Long postId) {
-        List<PostComment> comments = postCommentRepository.findByPostId(postId);
-//        List<PostComment> comments = postCommentRepository.findByPost_PostId(postId);
-        List<PostCommentDTO> commentDTOs = new ArrayList<>();
-
-        for (PostComment comment : comments) {
-            PostCommentDTO commentDTO = new PostCommentDTO(comment);
-            List<PostCoCommentDTO> coComments = getCoCommentsForComment(comment.getPostCommentId());
-            commentDTO.setCoComments(coComments);
-            commentDTOs.add(commentDTO);
+        List<PostCommentDTO> comments = postCommentRepository.findPostCommentDTOsByPostId(postId);
+        if (comments.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, PostCommentDTO> commentDTOsById = new LinkedHashMap<>();
+        for (PostCommentDTO commentDTO : comments) {
+            commentDTO.setCoComments(new ArrayList<>());
+            commentDTOsById.put(commentDTO.getPostCommentId(), commentDTO);
+        }
+
+        List<PostCoCommentDTO> coComments = postCoCommentRepository.findPostCoCommentDTOsByPostCommentIdIn(new ArrayList<>(commentDTOsById.keySet()));
+        for (PostCoCommentDTO coCommentDTO : coComments) {
+            PostCommentDTO parent = commentDTOsById.get(coCommentDTO.getPostCommentId());
+            if (parent != null) {
+                parent.getCoComments().add(coCommentDTO);
+            }
         }
 
-        return commentDTOs;
+        return new ArrayList<>(commentDTOsById.values());
     }
 
     /**
@@ -151,40 +184,35 @@ public class PostQueryService {
      */
     /** 포스트 댓글 고유 ID로 포스팅 대댓글을 검색하는 메서드 */
     public PostCoCommentDTO getPostCoCommentById(Long id) {
-        PostCoComment coComment = postCoCommentRepository.findById(id)
+        return postCoCommentRepository.findPostCoCommentDTOById(id)
                 .orElseThrow(() -> new PostCoCommentNotFoundException(id));
-        return new PostCoCommentDTO(coComment);
     }
 
     /** 사용자 고유 ID(userId)로 해당 사용자의 모든 포스트 대댓글을 조회하는 메서드 */
     public List<PostCoCommentDTO> getPostCoCommentsByUserId(Long userId) {
-        List<PostCoComment> postCoComments = postCoCommentRepository.findByUserId(userId);
-        return postCoComments.stream()
-                .map(PostCoCommentDTO::new)
-                .collect(Collectors.toList());
+        return postCoCommentRepository.findPostCoCommentDTOsByUserId(userId);
     }
 
-    /** Pageable을 통해 모든 포스트 대댓글을 조회하는 메서드 */
-//    public Page<PostCoCommentDTO> getAllPostCoComments(Pageable pageable) {
-//        Page<PostCoComment> postCoCommentPage = postCoCommentRepository.findAll(pageable);
-//        return postCoCommentPage.map(PostCoCommentDTO::new);
-//    }
+    /** 커서(작성 일시, 포스트 대댓글 ID)를 통해 포스트 대댓글을 최신순으로 페이지 조회하는 메서드 */
+    public CursorPageDTO<PostCoCommentDTO> getPostCoComments(String cursor, Integer size) {
+        int pageSize = CursorPageDTO.boundSize(size);
+        Pageable limit = CursorPageDTO.limitOf(pageSize);
 
-    /** 모든 포스트 대댓글을 조회하는 메서드 */
-    public List<PostCoCommentDTO> getAllPostCoComments() {
-        List<PostCoComment> postCoComments = postCoCommentRepository.findAll();
+        List<PostCoCommentDTO> postCoCommentDTOs;
+        if (cursor == null || cursor.isBlank()) {
+            postCoCommentDTOs = postCoCommentRepository.findLatest(limit);
+        } else {
+            DateTimeCursor after = DateTimeCursor.decode(cursor);
+            postCoCommentDTOs = postCoCommentRepository.findOlderThan(after.getDateTime(), after.getId(), limit);
+        }
 
-        return postCoComments.stream()
-                .map(PostCoCommentDTO::new)
-                .collect(Collectors.toList());
+        return CursorPageDTO.of(postCoCommentDTOs, pageSize,
+                coComment -> new DateTimeCursor(coComment.getCreatedDateTime(), coComment.getPostCoCommentId()));
     }
 
-    /** 포스트 댓글을 통해 포스트 대댓글을 조회하는 메서드 */
-    private List<PostCoCommentDTO> getCoCommentsForComment(Long commentId) {
-        List<PostCoComment> coComments = postCoCommentRepository.findByPostCommentId(commentId);
-        return coComments.stream()
-                .map(PostCoCommentDTO::new)
-                .collect(Collectors.toList());
+    /** 모든 포스트 대댓글을 조회하는 메서드 */
+    public List<PostCoCommentDTO> getAllPostCoComments() {
+        return postCoCommentRepository.findAllPostCoCommentDTOs();
     }
 
     /**
@@ -192,39 +220,27 @@ public class PostQueryService {
      */
     /** 포스트 신고 고유 ID로 포스팅 신고를 검색하는 메서드 */
     public PostReportDTO getPostReportById(Long id) {
-        PostReport postReport = postReportRepository.findById(id)
+        return postReportRepository.findPostReportDTOById(id)
                 .orElseThrow(() -> new PostReportNotFoundException(id));
-        return new PostReportDTO(postReport);
     }
 
     /** 사용자 고유 ID(userId)로 해당 사용자의 모든 포스트 신고를 조회하는 메서드 */
     public List<PostReportDTO> getPostReportsByUserId(Long userId) {
-        List<PostReport> postReports = postReportRepository.findByUserId(userId);
-        return postReports.stream()
-                .map(PostReportDTO::new)
-                .collect(Collectors.toList());
+        return postReportRepository.findPostReportDTOsByUserId(userId);
     }
 
     /** 특정 포스트에 대한 모든 포스트 신고를 조회하는 메서드 */
     public List<PostReportDTO> getPostReportsByPostId(Long postId) {
-        List<PostReport> postReports = postReportRepository.findByPostId(postId);
-        return postReports.stream()
-                .map(PostReportDTO::new)
-                .collect(Collectors.toList());
+        return postReportRepository.findPostReportDTOsByPostId(postId);
     }
 
     /** Pageable을 통해 모든 포스트 신고를 조회하는 메서드 */
     public Page<PostReportDTO> getAllPostReports(Pageable pageable) {
-        Page<PostReport> postReportPage = postReportRepository.findAll(pageable);
-        return postReportPage.map(PostReportDTO::new);
+        return postReportRepository.findAllPostReportDTOs(pageable);
     }
 
     /** 모든 포스트 신고를 조회하는 메서드 */
     public List<PostReportDTO> getAllPostReports() {
-        List<PostReport> postReports = postReportRepository.findAll();
-
-        return postReports.stream()
-                .map(PostReportDTO::new)
-                .collect(Collectors.toList());
+        return postReportRepository.findAllPostReportDTOs();
     }
 }
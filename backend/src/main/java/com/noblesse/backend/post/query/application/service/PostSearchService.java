@@ -0,0 +1,84 @@
+package com.noblesse.backend.post.query.application.service;
+
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.post.query.application.search.PostSearchIndex;
+import com.noblesse.backend.post.query.infrastructure.persistence.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 포스트 제목/본문 키워드 검색 서비스
+ * 검색은 메모리 역색인에서 수행하고, 한 페이지 분량의 포스트만 ID 로 조회한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSearchService.class);
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+
+    public PostSearchService(PostSearchIndex postSearchIndex, PostRepository postRepository, EntityManager entityManager) {
+        this.postSearchIndex = postSearchIndex;
+        this.postRepository = postRepository;
+        this.entityManager = entityManager;
+    }
+
+    /** 키워드로 공개 포스트를 관련도 순으로 페이지 조회하는 메서드 */
+    public Page<PostDTO> searchPosts(String keyword, int page, Integer size) {
+        int pageSize = CursorPageDTO.boundSize(size);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+        if (pageable.getOffset() > Integer.MAX_VALUE - pageSize) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        PostSearchIndex.SearchResult result = postSearchIndex.search(keyword, (int) pageable.getOffset(), pageSize);
+        if (result.hits().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.totalHits());
+        }
+
+        List<Long> postIds = result.hits().stream()
+                .map(PostSearchIndex.Hit::postId)
+                .collect(Collectors.toList());
+        Map<Long, PostDTO> postsById = postRepository.findPostDTOsByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostDTO::getPostId, Function.identity()));
+
+        List<PostDTO> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(post -> post != null && Boolean.TRUE.equals(post.getIsOpened()))
+                .collect(Collectors.toList());
+        return new PageImpl<>(posts, pageable, result.totalHits());
+    }
+
+    /** 애플리케이션 시작 시 전체 포스트를 스트리밍으로 읽어 검색 인덱스를 재구성하는 메서드 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        postSearchIndex.clear();
+        try (Stream<Post> posts = postRepository.streamAll()) {
+            posts.forEach(post -> {
+                postSearchIndex.index(post.getPostId(), post.getPostTitle(), post.getPostContent(), post.getIsOpened());
+                entityManager.detach(post);
+            });
+        }
+        log.info("Post search index rebuilt with {} open posts", postSearchIndex.size());
+    }
+}
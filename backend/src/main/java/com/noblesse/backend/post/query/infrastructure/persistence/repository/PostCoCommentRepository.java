@@ -1,14 +1,22 @@
 package com.noblesse.backend.post.query.infrastructure.persistence.repository;
 
+import com.noblesse.backend.post.common.dto.PostCoCommentDTO;
 import com.noblesse.backend.post.common.entity.PostCoComment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostCoCommentRepository extends JpaRepository<PostCoComment, Long> {
 
+    // PostCoCommentDTO 의 전체 필드 생성자(@AllArgsConstructor) 순서와 동일하다.
+    String POST_CO_COMMENT_DTO_PROJECTION = "new com.noblesse.backend.post.common.dto.PostCoCommentDTO(" +
+            "pcc.postCoCommentId, pcc.postCoCommentContent, pcc.createdDateTime, pcc.updatedDateTime, pcc.userId, pcc.postComment.postCommentId)";
+
     List<PostCoComment> findByUserId(Long userId);
 
     List<PostCoComment> findByPostCoCommentId(Long postCoCommentId);
@@ -16,5 +24,34 @@ public interface PostCoCommentRepository extends JpaRepository<PostCoComment, Lo
     @Query("SELECT pcc FROM PostCoComment pcc WHERE pcc.postComment.postCommentId = :postCommentId")
     List<PostCoComment> findByPostCommentId(@Param("postCommentId") Long postCommentId);
 
+    @Query("SELECT pcc FROM PostCoComment pcc WHERE pcc.postComment.postCommentId IN :postCommentIds ORDER BY pcc.postCoCommentId")
+    List<PostCoComment> findByPostCommentIdIn(@Param("postCommentIds") List<Long> postCommentIds);
+
+    @Query("SELECT " + POST_CO_COMMENT_DTO_PROJECTION + " FROM PostCoComment pcc WHERE pcc.postCoCommentId = :postCoCommentId")
+    Optional<PostCoCommentDTO> findPostCoCommentDTOById(@Param("postCoCommentId") Long postCoCommentId);
+
+    @Query("SELECT " + POST_CO_COMMENT_DTO_PROJECTION + " FROM PostCoComment pcc WHERE pcc.userId = :userId")
+    List<PostCoCommentDTO> findPostCoCommentDTOsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT " + POST_CO_COMMENT_DTO_PROJECTION + " FROM PostCoComment pcc " +
+            "WHERE pcc.postComment.postCommentId IN :postCommentIds ORDER BY pcc.postCoCommentId")
+    List<PostCoCommentDTO> findPostCoCommentDTOsByPostCommentIdIn(@Param("postCommentIds") List<Long> postCommentIds);
+
+    @Query("SELECT " + POST_CO_COMMENT_DTO_PROJECTION + " FROM PostCoComment pcc")
+    List<PostCoCommentDTO> findAllPostCoCommentDTOs();
+
+    @Query("SELECT " + POST_CO_COMMENT_DTO_PROJECTION + " FROM PostCoComment pcc ORDER BY pcc.createdDateTime DESC, pcc.postCoCommentId DESC")
+    List<PostCoCommentDTO> findLatest(Pageable limit);
+
+    @Query("SELECT " + POST_CO_COMMENT_DTO_PROJECTION + " FROM PostCoComment pcc " +
+            "WHERE pcc.createdDateTime < :createdDateTime " +
+            "OR (pcc.createdDateTime = :createdDateTime AND pcc.postCoCommentId < :postCoCommentId) " +
+            "ORDER BY pcc.createdDateTime DESC, pcc.postCoCommentId DESC")
+    List<PostCoCommentDTO> findOlderThan(
+            @Param("createdDateTime") LocalDateTime createdDateTime,
+            @Param("postCoCommentId") Long postCoCommentId,
+            Pageable limit
+    );
+
 //    List<PostCoComment> findByPostCommentId(Long postCommentId);
 }
@@ -1,18 +1,55 @@
 package com.noblesse.backend.post.query.infrastructure.persistence.repository;
 
+import com.noblesse.backend.post.common.dto.PostCommentDTO;
 import com.noblesse.backend.post.common.entity.PostComment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostCommentRepository extends JpaRepository<PostComment, Long> {
 
+    // pc.post.postId 는 외래 키 컬럼으로 조회되므로 post 테이블을 조인하지 않는다.
+    String POST_COMMENT_DTO_PROJECTION = "new com.noblesse.backend.post.common.dto.PostCommentDTO(" +
+            "pc.postCommentId, pc.postCommentContent, pc.createdDateTime, pc.updatedDateTime, pc.userId, pc.post.postId)";
+
     List<PostComment> findByUserId(Long userId);
 
 //    List<PostComment> findByPostId(Long postId);
 
     @Query("SELECT pc FROM PostComment pc WHERE pc.post.postId = :postId")
     List<PostComment> findByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT " + POST_COMMENT_DTO_PROJECTION + " FROM PostComment pc WHERE pc.postCommentId = :postCommentId")
+    Optional<PostCommentDTO> findPostCommentDTOById(@Param("postCommentId") Long postCommentId);
+
+    @Query("SELECT " + POST_COMMENT_DTO_PROJECTION + " FROM PostComment pc WHERE pc.postCommentId IN :postCommentIds")
+    List<PostCommentDTO> findPostCommentDTOsByPostCommentIdIn(@Param("postCommentIds") Collection<Long> postCommentIds);
+
+    @Query("SELECT " + POST_COMMENT_DTO_PROJECTION + " FROM PostComment pc WHERE pc.userId = :userId")
+    List<PostCommentDTO> findPostCommentDTOsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT " + POST_COMMENT_DTO_PROJECTION + " FROM PostComment pc WHERE pc.post.postId = :postId ORDER BY pc.postCommentId")
+    List<PostCommentDTO> findPostCommentDTOsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT " + POST_COMMENT_DTO_PROJECTION + " FROM PostComment pc")
+    List<PostCommentDTO> findAllPostCommentDTOs();
+
+    @Query("SELECT " + POST_COMMENT_DTO_PROJECTION + " FROM PostComment pc ORDER BY pc.createdDateTime DESC, pc.postCommentId DESC")
+    List<PostCommentDTO> findLatest(Pageable limit);
+
+    @Query("SELECT " + POST_COMMENT_DTO_PROJECTION + " FROM PostComment pc " +
+            "WHERE pc.createdDateTime < :createdDateTime " +
+            "OR (pc.createdDateTime = :createdDateTime AND pc.postCommentId < :postCommentId) " +
+            "ORDER BY pc.createdDateTime DESC, pc.postCommentId DESC")
+    List<PostCommentDTO> findOlderThan(
+            @Param("createdDateTime") LocalDateTime createdDateTime,
+            @Param("postCommentId") Long postCommentId,
+            Pageable limit
+    );
 }
@@ -1,13 +1,51 @@
 package com.noblesse.backend.post.query.infrastructure.persistence.repository;
 
+import com.noblesse.backend.post.common.dto.PostReportDTO;
 import com.noblesse.backend.post.common.entity.PostReport;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostReportRepository extends JpaRepository<PostReport, Long> {
 
+    // PostReportDTO 의 전체 필드 생성자(@AllArgsConstructor) 순서와 동일하다.
+    String POST_REPORT_DTO_PROJECTION = "new com.noblesse.backend.post.common.dto.PostReportDTO(" +
+            "pr.postReportId, pr.postReportContent, pr.createdDateTime, pr.processedDateTime, pr.isReported, pr.reportCategoryId, pr.userId, pr.post.postId)";
+
     List<PostReport> findByUserId(Long userId);
 
-    List<PostReport> findByPostId(Long postId);
+    @Query("SELECT pr FROM PostReport pr WHERE pr.post.postId = :postId")
+    List<PostReport> findByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT " + POST_REPORT_DTO_PROJECTION + " FROM PostReport pr WHERE pr.postReportId = :postReportId")
+    Optional<PostReportDTO> findPostReportDTOById(@Param("postReportId") Long postReportId);
+
+    @Query("SELECT " + POST_REPORT_DTO_PROJECTION + " FROM PostReport pr WHERE pr.userId = :userId")
+    List<PostReportDTO> findPostReportDTOsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT " + POST_REPORT_DTO_PROJECTION + " FROM PostReport pr WHERE pr.post.postId = :postId")
+    List<PostReportDTO> findPostReportDTOsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT " + POST_REPORT_DTO_PROJECTION + " FROM PostReport pr")
+    List<PostReportDTO> findAllPostReportDTOs();
+
+    @Query(value = "SELECT " + POST_REPORT_DTO_PROJECTION + " FROM PostReport pr",
+            countQuery = "SELECT COUNT(pr) FROM PostReport pr")
+    Page<PostReportDTO> findAllPostReportDTOs(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT pr FROM PostReport pr")
+    Stream<PostReport> streamAll();
 }
@@ -1,13 +1,28 @@
 package com.noblesse.backend.post.query.infrastructure.persistence.repository;
 
+import com.noblesse.backend.post.common.dto.PostDTO;
 import com.noblesse.backend.post.common.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 조회 전용 쿼리는 엔티티 대신 DTO 컬럼만 조회한다. (영속성 컨텍스트 스냅샷/프록시 생성 없음)
+    String POST_DTO_PROJECTION = "new com.noblesse.backend.post.common.dto.PostDTO(" +
+            "p.postId, p.postTitle, p.postContent, p.createdDateTime, p.updatedDateTime, p.isOpened, p.userId, p.tripId, p.clipId, " +
+            "p.commentCount, p.coCommentCount, p.reportCount)";
+
     List<Post> findByUserId(Long userId);
 
     List<Post> findByCreatedDateTimeBetweenAndUserIdInAndIsOpenedTrue(
@@ -15,4 +30,46 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             LocalDateTime endDate,
             List<Long> userIds
     );
+
+    @Query("SELECT " + POST_DTO_PROJECTION + " FROM Post p WHERE p.postId = :postId")
+    Optional<PostDTO> findPostDTOById(@Param("postId") Long postId);
+
+    @Query("SELECT " + POST_DTO_PROJECTION + " FROM Post p WHERE p.postId IN :postIds")
+    List<PostDTO> findPostDTOsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT " + POST_DTO_PROJECTION + " FROM Post p WHERE p.userId = :userId")
+    List<PostDTO> findPostDTOsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT " + POST_DTO_PROJECTION + " FROM Post p")
+    List<PostDTO> findAllPostDTOs();
+
+    @Query("SELECT " + POST_DTO_PROJECTION + " FROM Post p " +
+            "WHERE p.createdDateTime BETWEEN :startDate AND :endDate " +
+            "AND p.userId IN :userIds " +
+            "AND p.isOpened = true")
+    List<PostDTO> findOpenPostDTOs(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("userIds") List<Long> userIds
+    );
+
+    @Query("SELECT " + POST_DTO_PROJECTION + " FROM Post p ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<PostDTO> findLatest(Pageable limit);
+
+    @Query("SELECT " + POST_DTO_PROJECTION + " FROM Post p " +
+            "WHERE p.createdDateTime < :createdDateTime " +
+            "OR (p.createdDateTime = :createdDateTime AND p.postId < :postId) " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<PostDTO> findOlderThan(
+            @Param("createdDateTime") LocalDateTime createdDateTime,
+            @Param("postId") Long postId,
+            Pageable limit
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Post p")
+    Stream<Post> streamAll();
 }
@@ -0,0 +1,39 @@
+package com.noblesse.backend.timeline.controller;
+
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.oauth2.security.JwtUserPrincipal;
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.timeline.service.TimelineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping(value = "/api/timeline")
+@RequiredArgsConstructor
+@Tag(name = "Timeline Controller")
+public class TimelineController {
+
+    private final TimelineService timelineService;
+
+    // 타임라인은 팔로우 관계를 드러내므로 토큰의 사용자 본인 것만 조회할 수 있다.
+    @Operation(summary = "팔로우 기반 홈 타임라인 커서 기반 조회")
+    @GetMapping("/{userId}")
+    public ResponseEntity<CursorPageDTO<PostDTO>> getTimeline(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @PathVariable Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        if (principal == null || !principal.userId().equals(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        CursorPageDTO<PostDTO> timeline = timelineService.getTimeline(userId, cursor, size);
+        return ResponseEntity.ok(timeline);
+    }
+}
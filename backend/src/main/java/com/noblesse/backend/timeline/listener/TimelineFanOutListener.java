@@ -0,0 +1,38 @@
+package com.noblesse.backend.timeline.listener;
+
+import com.noblesse.backend.common.transaction.AfterCommit;
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.timeline.service.TimelineFanOutService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공개 포스트가 저장되면 커밋 이후 팔로워 타임라인 fan-out 을 요청하는 엔티티 리스너
+ * 비공개로 바뀌거나 삭제된 포스트는 타임라인 조회 시점에 걸러진다.
+ */
+@Component
+public class TimelineFanOutListener {
+
+    private final ObjectProvider<TimelineFanOutService> timelineFanOutServiceProvider;
+
+    public TimelineFanOutListener(ObjectProvider<TimelineFanOutService> timelineFanOutServiceProvider) {
+        this.timelineFanOutServiceProvider = timelineFanOutServiceProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onPostSaved(Post post) {
+        if (!Boolean.TRUE.equals(post.getIsOpened()) || post.getCreatedDateTime() == null) {
+            return;
+        }
+
+        Long postId = post.getPostId();
+        Long authorId = post.getUserId();
+        LocalDateTime createdDateTime = post.getCreatedDateTime();
+        AfterCommit.run(() -> timelineFanOutServiceProvider.getObject().fanOut(postId, authorId, createdDateTime));
+    }
+}
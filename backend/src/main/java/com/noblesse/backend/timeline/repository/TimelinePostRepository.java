@@ -0,0 +1,53 @@
+package com.noblesse.backend.timeline.repository;
+
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.timeline.store.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TimelinePostRepository extends Repository<Post, Long> {
+
+    @Query("SELECT new com.noblesse.backend.timeline.store.TimelineEntry(p.postId, p.userId, p.createdDateTime) " +
+            "FROM Post p " +
+            "WHERE p.isOpened = true AND p.createdDateTime IS NOT NULL " +
+            "AND p.userId IN (SELECT f.followInfo.followeeId.followeeId FROM Follow f WHERE f.followInfo.followerId.followerId = :followerId) " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<TimelineEntry> findLatestByFollowerId(@Param("followerId") Long followerId, Pageable limit);
+
+    @Query("SELECT new com.noblesse.backend.timeline.store.TimelineEntry(p.postId, p.userId, p.createdDateTime) " +
+            "FROM Post p " +
+            "WHERE p.isOpened = true " +
+            "AND p.userId IN (SELECT f.followInfo.followeeId.followeeId FROM Follow f WHERE f.followInfo.followerId.followerId = :followerId) " +
+            "AND (p.createdDateTime < :createdDateTime OR (p.createdDateTime = :createdDateTime AND p.postId < :postId)) " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<TimelineEntry> findOlderByFollowerId(
+            @Param("followerId") Long followerId,
+            @Param("createdDateTime") LocalDateTime createdDateTime,
+            @Param("postId") Long postId,
+            Pageable limit
+    );
+
+    @Query("SELECT new com.noblesse.backend.timeline.store.TimelineEntry(p.postId, p.userId, p.createdDateTime) " +
+            "FROM Post p " +
+            "WHERE p.isOpened = true AND p.createdDateTime IS NOT NULL AND p.userId IN :userIds " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<TimelineEntry> findLatestByUserIdIn(@Param("userIds") Collection<Long> userIds, Pageable limit);
+
+    @Query("SELECT new com.noblesse.backend.timeline.store.TimelineEntry(p.postId, p.userId, p.createdDateTime) " +
+            "FROM Post p " +
+            "WHERE p.isOpened = true AND p.userId IN :userIds " +
+            "AND (p.createdDateTime < :createdDateTime OR (p.createdDateTime = :createdDateTime AND p.postId < :postId)) " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<TimelineEntry> findOlderByUserIdIn(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("createdDateTime") LocalDateTime createdDateTime,
+            @Param("postId") Long postId,
+            Pageable limit
+    );
+}
@@ -0,0 +1,105 @@
+package com.noblesse.backend.timeline.service;
+
+import com.noblesse.backend.follow.FollowRepository;
+import com.noblesse.backend.timeline.store.TimelineEntry;
+import com.noblesse.backend.timeline.store.TimelineStore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새로 공개된 포스트를 작성자의 팔로워 타임라인에 밀어 넣는(fan-out-on-write) 서비스
+ * 팔로워가 celebrity-follower-threshold 이상인 작성자는 밀어 넣지 않고 읽기 시점에 끌어온다(pull).
+ */
+@Service
+public class TimelineFanOutService {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineFanOutService.class);
+
+    private final FollowRepository followRepository;
+    private final TimelineStore timelineStore;
+    private final long celebrityFollowerThreshold;
+    private final ThreadPoolExecutor executor;
+
+    private volatile Set<Long> celebrityIds = Set.of();
+
+    public TimelineFanOutService(
+            FollowRepository followRepository,
+            TimelineStore timelineStore,
+            @Value("${timeline.celebrity-follower-threshold:10000}") long celebrityFollowerThreshold,
+            @Value("${timeline.fan-out-threads:2}") int fanOutThreads,
+            @Value("${timeline.fan-out-queue-capacity:10000}") int fanOutQueueCapacity
+    ) {
+        this.followRepository = followRepository;
+        this.timelineStore = timelineStore;
+        this.celebrityFollowerThreshold = celebrityFollowerThreshold;
+        // 큐가 가득 차면 커밋한 스레드가 직접 처리하여 쓰기 쪽으로 배압을 건다.
+        this.executor = new ThreadPoolExecutor(
+                fanOutThreads, fanOutThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanOutQueueCapacity),
+                new CustomizableThreadFactory("timeline-fan-out-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /** 공개 포스트를 팔로워 타임라인에 비동기로 전파하는 메서드 */
+    public void fanOut(Long postId, Long authorId, LocalDateTime createdDateTime) {
+        executor.execute(() -> {
+            try {
+                fanOutNow(new TimelineEntry(postId, authorId, createdDateTime));
+            } catch (RuntimeException e) {
+                log.warn("타임라인 fan-out 실패 postId={}", postId, e);
+            }
+        });
+    }
+
+    private void fanOutNow(TimelineEntry entry) {
+        Long authorId = entry.getAuthorId();
+        if (celebrityIds.contains(authorId)) {
+            return;
+        }
+        if (followRepository.countFollowersByFolloweeId(authorId) >= celebrityFollowerThreshold) {
+            addCelebrity(authorId);
+            return;
+        }
+
+        List<Long> followerIds = followRepository.findFollowerIdsByFolloweeId(authorId);
+        for (Long followerId : followerIds) {
+            timelineStore.pushIfPresent(followerId, entry);
+        }
+    }
+
+    /** 팔로워 수가 많은(pull 대상) 작성자 목록을 주기적으로 갱신하는 메서드 */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${timeline.celebrity-refresh-interval-ms:600000}")
+    public void refreshCelebrities() {
+        celebrityIds = Set.copyOf(followRepository.findFolloweeIdsWithFollowerCountAtLeast(celebrityFollowerThreshold));
+    }
+
+    public Set<Long> getCelebrityIds() {
+        return celebrityIds;
+    }
+
+    private synchronized void addCelebrity(Long authorId) {
+        Set<Long> updated = new HashSet<>(celebrityIds);
+        updated.add(authorId);
+        celebrityIds = Set.copyOf(updated);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,117 @@
+package com.noblesse.backend.timeline.service;
+
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import com.noblesse.backend.follow.FollowRepository;
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.post.query.infrastructure.persistence.repository.PostRepository;
+import com.noblesse.backend.timeline.repository.TimelinePostRepository;
+import com.noblesse.backend.timeline.store.Timeline;
+import com.noblesse.backend.timeline.store.TimelineEntry;
+import com.noblesse.backend.timeline.store.TimelineStore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 기반 홈 타임라인 조회 서비스
+ * 메모리 타임라인(push) + 팔로워가 많은 작성자의 포스트(pull)를 병합하고,
+ * 한 페이지 분량의 포스트만 ID 로 한 번에 조회하므로 팔로우 수와 무관하게 조회 비용이 일정하다.
+ */
+@Service
+public class TimelineService {
+
+    private final TimelineStore timelineStore;
+    private final TimelineFanOutService timelineFanOutService;
+    private final TimelinePostRepository timelinePostRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+
+    public TimelineService(TimelineStore timelineStore, TimelineFanOutService timelineFanOutService, TimelinePostRepository timelinePostRepository, FollowRepository followRepository, PostRepository postRepository) {
+        this.timelineStore = timelineStore;
+        this.timelineFanOutService = timelineFanOutService;
+        this.timelinePostRepository = timelinePostRepository;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+    }
+
+    /** 사용자의 홈 타임라인을 커서 기반으로 조회하는 메서드 */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PostDTO> getTimeline(Long userId, String cursor, Integer size) {
+        int pageSize = CursorPageDTO.boundSize(size);
+        Pageable limit = CursorPageDTO.limitOf(pageSize);
+        DateTimeCursor after = (cursor == null || cursor.isBlank()) ? null : DateTimeCursor.decode(cursor);
+
+        TreeSet<TimelineEntry> merged = new TreeSet<>(TimelineEntry.NEWEST_FIRST);
+
+        Timeline timeline = timelineStore.get(userId);
+        List<TimelineEntry> pushed = timeline.read(after, limit.getPageSize());
+        merged.addAll(pushed);
+        if (pushed.size() < limit.getPageSize() && timeline.isTruncated()) {
+            // 메모리 타임라인보다 오래된 구간은 DB에서 이어서 읽는다.
+            merged.addAll(after == null
+                    ? timelinePostRepository.findLatestByFollowerId(userId, limit)
+                    : timelinePostRepository.findOlderByFollowerId(userId, after.getDateTime(), after.getId(), limit));
+        }
+        merged.addAll(pullFromCelebrities(userId, after, limit));
+
+        List<TimelineEntry> window = merged.stream()
+                .limit(limit.getPageSize())
+                .collect(Collectors.toList());
+        boolean hasNext = window.size() > pageSize;
+        List<TimelineEntry> pageEntries = hasNext ? window.subList(0, pageSize) : window;
+        List<PostDTO> posts = hydrate(pageEntries);
+
+        return CursorPageDTO.<PostDTO>builder()
+                .content(posts)
+                .size(posts.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? pageEntries.get(pageEntries.size() - 1).toCursor().encode() : null)
+                .build();
+    }
+
+    /** 팔로우 중인 pull 대상 작성자의 포스트를 조회하는 메서드 */
+    private List<TimelineEntry> pullFromCelebrities(Long userId, DateTimeCursor after, Pageable limit) {
+        Set<Long> celebrityIds = timelineFanOutService.getCelebrityIds();
+        if (celebrityIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> followedCelebrityIds = followRepository.findFolloweeIdsAmong(userId, celebrityIds);
+        if (followedCelebrityIds.isEmpty()) {
+            return List.of();
+        }
+
+        return after == null
+                ? timelinePostRepository.findLatestByUserIdIn(followedCelebrityIds, limit)
+                : timelinePostRepository.findOlderByUserIdIn(followedCelebrityIds, after.getDateTime(), after.getId(), limit);
+    }
+
+    /** 타임라인 순서를 유지하면서 포스트를 한 번에 조회하고, 비공개/삭제된 포스트는 제외하는 메서드 */
+    private List<PostDTO> hydrate(List<TimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> postIds = entries.stream()
+                .map(TimelineEntry::getPostId)
+                .collect(Collectors.toList());
+        Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+
+        return entries.stream()
+                .map(entry -> postsById.get(entry.getPostId()))
+                .filter(post -> post != null && Boolean.TRUE.equals(post.getIsOpened()))
+                .map(PostDTO::new)
+                .collect(Collectors.toList());
+    }
+}
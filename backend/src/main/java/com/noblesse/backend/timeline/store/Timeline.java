@@ -0,0 +1,58 @@
+package com.noblesse.backend.timeline.store;
+
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 한 사용자(팔로워)의 최신순 타임라인
+ * capacity 를 넘으면 가장 오래된 엔트리부터 버리고, 버린 적이 있으면 truncated 로 표시한다.
+ */
+public class Timeline {
+
+    private final int capacity;
+    private final TreeSet<TimelineEntry> entries = new TreeSet<>(TimelineEntry.NEWEST_FIRST);
+    private boolean truncated;
+
+    public Timeline(int capacity, Collection<TimelineEntry> seed, boolean seedTruncated) {
+        this.capacity = capacity;
+        this.truncated = seedTruncated;
+        seed.forEach(this::push);
+    }
+
+    public synchronized void push(TimelineEntry entry) {
+        if (entry.getCreatedDateTime() == null) {
+            return;
+        }
+        entries.add(entry);
+        while (entries.size() > capacity) {
+            entries.pollLast();
+            truncated = true;
+        }
+    }
+
+    /** 커서 이후(더 오래된) 엔트리를 최대 limit 건 조회하는 메서드 */
+    public synchronized List<TimelineEntry> read(DateTimeCursor after, int limit) {
+        NavigableSet<TimelineEntry> source = after == null
+                ? entries
+                : entries.tailSet(TimelineEntry.at(after), false);
+
+        List<TimelineEntry> result = new ArrayList<>(Math.min(limit, source.size()));
+        for (TimelineEntry entry : source) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /** 메모리에 없는 더 오래된 엔트리가 DB에 남아 있을 수 있는지 여부 */
+    public synchronized boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,58 @@
+package com.noblesse.backend.timeline.store;
+
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 타임라인에 쌓이는 포스트 참조 (포스트 본문은 읽기 시점에 ID로 한 번에 조회한다)
+ */
+public class TimelineEntry {
+
+    /** 작성 일시, 포스트 ID 내림차순 (최신순) */
+    public static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator
+            .comparing(TimelineEntry::getCreatedDateTime)
+            .thenComparing(TimelineEntry::getPostId)
+            .reversed();
+
+    private final Long postId;
+    private final Long authorId;
+    private final LocalDateTime createdDateTime;
+
+    public TimelineEntry(Long postId, Long authorId, LocalDateTime createdDateTime) {
+        this.postId = postId;
+        this.authorId = authorId;
+        this.createdDateTime = createdDateTime;
+    }
+
+    // 커서 위치를 나타내는 비교용 엔트리
+    public static TimelineEntry at(DateTimeCursor cursor) {
+        return new TimelineEntry(cursor.getId(), null, cursor.getDateTime());
+    }
+
+    public DateTimeCursor toCursor() {
+        return new DateTimeCursor(createdDateTime, postId);
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public LocalDateTime getCreatedDateTime() {
+        return createdDateTime;
+    }
+
+    @Override
+    public String toString() {
+        return "TimelineEntry{" +
+                "postId=" + postId +
+                ", authorId=" + authorId +
+                ", createdDateTime=" + createdDateTime +
+                '}';
+    }
+}
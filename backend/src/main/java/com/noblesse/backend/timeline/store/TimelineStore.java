@@ -0,0 +1,56 @@
+package com.noblesse.backend.timeline.store;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.noblesse.backend.timeline.repository.TimelinePostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 팔로워별 타임라인을 메모리에 보관하는 저장소
+ * 메모리에 없는 타임라인은 첫 조회 시 follow 테이블 서브쿼리 한 번으로 최근 capacity 건을 채운다.
+ * 보관 중인 타임라인 수도 maximum-timelines 로 제한한다.
+ */
+@Component
+public class TimelineStore {
+
+    private final int capacity;
+    private final LoadingCache<Long, Timeline> timelines;
+
+    public TimelineStore(
+            TimelinePostRepository timelinePostRepository,
+            @Value("${timeline.capacity:500}") int capacity,
+            @Value("${timeline.maximum-timelines:100000}") long maximumTimelines,
+            @Value("${timeline.expire-after-access:1h}") Duration expireAfterAccess
+    ) {
+        this.capacity = capacity;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maximumTimelines)
+                .expireAfterAccess(expireAfterAccess)
+                .build(followerId -> {
+                    List<TimelineEntry> seed = timelinePostRepository.findLatestByFollowerId(followerId, PageRequest.ofSize(capacity));
+                    return new Timeline(capacity, seed, seed.size() >= capacity);
+                });
+    }
+
+    /** 팔로워의 타임라인을 조회하는 메서드 (없으면 DB에서 채움) */
+    public Timeline get(Long followerId) {
+        return timelines.get(followerId);
+    }
+
+    /** 이미 메모리에 올라와 있는 타임라인에만 엔트리를 추가하는 메서드 */
+    public void pushIfPresent(Long followerId, TimelineEntry entry) {
+        Timeline timeline = timelines.getIfPresent(followerId);
+        if (timeline != null) {
+            timeline.push(entry);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
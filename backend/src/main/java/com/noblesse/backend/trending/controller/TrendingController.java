@@ -0,0 +1,30 @@
+package com.noblesse.backend.trending.controller;
+
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.trending.dto.TrendingClipDTO;
+import com.noblesse.backend.trending.service.TrendingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/trending")
+@RequiredArgsConstructor
+@Tag(name = "Trending Controller")
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    @Operation(summary = "트렌딩 클립 조회")
+    @GetMapping("/clips")
+    public ResponseEntity<List<TrendingClipDTO>> getTrendingClips(
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        List<TrendingClipDTO> clips = trendingService.getTrendingClips(CursorPageDTO.boundSize(size));
+        return ResponseEntity.ok(clips);
+    }
+}
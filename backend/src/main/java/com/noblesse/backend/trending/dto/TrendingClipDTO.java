@@ -0,0 +1,14 @@
+package com.noblesse.backend.trending.dto;
+
+import com.noblesse.backend.clip.dto.ClipDTO;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingClipDTO {
+    private ClipDTO clip;
+    private double score;   // 현재 시각 기준 감쇠된 트렌딩 점수
+}
@@ -0,0 +1,50 @@
+package com.noblesse.backend.trending.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 트렌딩 점수 스냅샷(clip_trending_snapshot) 리포지토리
+ * 재기동 시 점수를 처음부터 다시 쌓지 않도록 클립별 로그 점수를 주기적으로 통째로 교체 저장한다.
+ */
+@Repository
+public class TrendingSnapshotRepository {
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM clip_trending_snapshot";
+    private static final String INSERT_SQL =
+            "INSERT INTO clip_trending_snapshot (CLIP_ID, LOG_SCORE, SNAPSHOT_DATETIME) VALUES (?, ?, NOW())";
+    private static final String SELECT_ALL_SQL = "SELECT CLIP_ID, LOG_SCORE FROM clip_trending_snapshot";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TrendingSnapshotRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void replaceAll(Map<Long, Double> logScores) {
+        List<Object[]> batchArgs = logScores.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
+                .collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_ALL_SQL);
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        });
+    }
+
+    public Map<Long, Double> findAll() {
+        Map<Long, Double> logScores = new HashMap<>();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            logScores.put(rs.getLong("CLIP_ID"), rs.getDouble("LOG_SCORE"));
+        });
+        return logScores;
+    }
+}
@@ -0,0 +1,110 @@
+package com.noblesse.backend.trending.service;
+
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.domain.ClipStatus;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.repository.ClipRepository;
+import com.noblesse.backend.trending.dto.TrendingClipDTO;
+import com.noblesse.backend.trending.repository.TrendingSnapshotRepository;
+import com.noblesse.backend.trending.store.TrendingEvent;
+import com.noblesse.backend.trending.store.TrendingScoreBoard;
+import com.noblesse.backend.trending.store.TrendingScoreBoard.ScoredClip;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 트렌딩 클립 서비스
+ * 조회/댓글/대댓글/북마크 이벤트마다 메모리 점수판(TrendingScoreBoard)을 갱신하고,
+ * 주기적으로 MySQL 에 스냅샷을 남겨 재기동 시 바로 복원한다.
+ */
+@Service
+public class TrendingService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingService.class);
+
+    // 비공개/처리 중 클립을 걸러내도 요청한 개수를 채울 수 있도록 후보를 넉넉히 뽑는다.
+    private static final int CANDIDATE_MULTIPLIER = 2;
+
+    private final TrendingScoreBoard scoreBoard;
+    private final TrendingSnapshotRepository trendingSnapshotRepository;
+    private final ClipRepository clipRepository;
+    private final double minScore;
+
+    public TrendingService(
+            TrendingSnapshotRepository trendingSnapshotRepository,
+            ClipRepository clipRepository,
+            @Value("${trending.half-life:6h}") Duration halfLife,
+            @Value("${trending.max-clips:10000}") int maxClips,
+            @Value("${trending.min-score:0.05}") double minScore
+    ) {
+        this.scoreBoard = new TrendingScoreBoard(halfLife, maxClips);
+        this.trendingSnapshotRepository = trendingSnapshotRepository;
+        this.clipRepository = clipRepository;
+        this.minScore = minScore;
+    }
+
+    /** 클립 참여 이벤트 1건을 점수에 반영하는 메서드 */
+    public void record(Long clipId, TrendingEvent event) {
+        if (clipId != null) {
+            scoreBoard.add(clipId, event.getWeight(), System.currentTimeMillis());
+        }
+    }
+
+    /** 현재 트렌딩 점수가 높은 공개 클립을 조회하는 메서드 */
+    @Transactional(readOnly = true)
+    public List<TrendingClipDTO> getTrendingClips(int size) {
+        List<ScoredClip> candidates = scoreBoard.top(size * CANDIDATE_MULTIPLIER, System.currentTimeMillis());
+        Map<Long, Clip> clips = clipRepository.findAllById(candidates.stream().map(ScoredClip::clipId).toList()).stream()
+                .collect(Collectors.toMap(Clip::getClipId, Function.identity()));
+
+        return candidates.stream()
+                .filter(candidate -> isVisible(clips.get(candidate.clipId())))
+                .limit(size)
+                .map(candidate -> new TrendingClipDTO(new ClipDTO(clips.get(candidate.clipId())), candidate.score()))
+                .collect(Collectors.toList());
+    }
+
+    /** 충분히 감쇠한 클립을 정리하고 점수판을 스냅샷으로 저장하는 메서드 */
+    @Scheduled(initialDelayString = "${trending.snapshot-interval-ms:60000}",
+            fixedDelayString = "${trending.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        int pruned = scoreBoard.prune(minScore, System.currentTimeMillis());
+        try {
+            trendingSnapshotRepository.replaceAll(scoreBoard.snapshot());
+        } catch (DataAccessException e) {
+            log.warn("Failed to snapshot trending scores ({} clips), will retry", scoreBoard.size(), e);
+            return;
+        }
+        log.debug("Snapshotted {} trending clips ({} pruned)", scoreBoard.size(), pruned);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        Map<Long, Double> logScores = trendingSnapshotRepository.findAll();
+        logScores.forEach(scoreBoard::merge);
+        log.info("Restored {} trending clips from snapshot", logScores.size());
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private boolean isVisible(Clip clip) {
+        return clip != null && Boolean.TRUE.equals(clip.getOpened()) && clip.getStatus() == ClipStatus.READY;
+    }
+}
@@ -0,0 +1,21 @@
+package com.noblesse.backend.trending.store;
+
+/**
+ * 트렌딩 점수에 반영되는 클립 참여 이벤트와 가중치
+ */
+public enum TrendingEvent {
+    VIEW(1.0),
+    COMMENT(4.0),
+    CO_COMMENT(2.0),
+    BOOKMARK(6.0);
+
+    private final double weight;
+
+    TrendingEvent(double weight) {
+        this.weight = weight;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,117 @@
+package com.noblesse.backend.trending.store;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 지수 감쇠(exponential time decay) 점수로 클립 순위를 유지하는 메모리 구조
+ *
+ * 점수는 고정 기준 시각(EPOCH_MILLIS)으로 "앞당겨" 저장한다(forward decay).
+ * 이벤트 가중치 w 를 log(w) + λ(t - EPOCH) 로 로그 공간에 누적하면 모든 클립이 같은 비율로 감쇠하므로
+ * 시간이 지나도 순위가 바뀌지 않아 skip list 를 다시 정렬할 필요가 없고, 현재 점수는 조회할 때만 계산한다.
+ * 갱신은 O(log n), 상위 k 건 조회는 O(k + log n) 이다.
+ */
+public class TrendingScoreBoard {
+
+    /** 점수 기준 시각 (2024-01-01T00:00:00Z). 스냅샷의 로그 점수도 이 기준으로 저장되므로 바꾸면 안 된다. */
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    private static final Comparator<ScoreEntry> HIGHEST_FIRST = Comparator
+            .comparingDouble(ScoreEntry::logScore).reversed()
+            .thenComparing(ScoreEntry::clipId);
+
+    private final double decayRatePerMilli;
+    private final int maxClips;
+    private final ConcurrentHashMap<Long, Double> logScores = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<ScoreEntry> ranking = new ConcurrentSkipListSet<>(HIGHEST_FIRST);
+
+    public TrendingScoreBoard(Duration halfLife, int maxClips) {
+        this.decayRatePerMilli = Math.log(2) / halfLife.toMillis();
+        this.maxClips = maxClips;
+    }
+
+    /** 클립에 가중치 weight 의 이벤트가 eventMillis 시각에 발생했음을 반영하는 메서드 */
+    public void add(Long clipId, double weight, long eventMillis) {
+        merge(clipId, Math.log(weight) + decayRatePerMilli * (eventMillis - EPOCH_MILLIS));
+    }
+
+    /** 스냅샷에서 읽은 로그 점수를 합치는 메서드 (복원 중에 들어온 이벤트는 유지된다) */
+    public void merge(Long clipId, double logScore) {
+        logScores.compute(clipId, (id, current) -> {
+            double next = current == null ? logScore : logSumExp(current, logScore);
+            if (current != null) {
+                ranking.remove(new ScoreEntry(current, id));
+            }
+            ranking.add(new ScoreEntry(next, id));
+            return next;
+        });
+        evictOverflow();
+    }
+
+    /** 현재 시각 기준 점수가 높은 순으로 상위 k 개 클립을 조회하는 메서드 */
+    public List<ScoredClip> top(int k, long nowMillis) {
+        double offset = decayRatePerMilli * (nowMillis - EPOCH_MILLIS);
+        List<ScoredClip> top = new ArrayList<>(k);
+        Iterator<ScoreEntry> iterator = ranking.iterator();
+        while (top.size() < k && iterator.hasNext()) {
+            ScoreEntry entry = iterator.next();
+            top.add(new ScoredClip(entry.clipId(), Math.exp(entry.logScore() - offset)));
+        }
+        return top;
+    }
+
+    /** 현재 점수가 minScore 미만으로 감쇠한 클립을 제거하고 제거한 개수를 반환하는 메서드 */
+    public int prune(double minScore, long nowMillis) {
+        double threshold = Math.log(minScore) + decayRatePerMilli * (nowMillis - EPOCH_MILLIS);
+        int pruned = 0;
+        Iterator<ScoreEntry> lowestFirst = ranking.descendingIterator();
+        while (lowestFirst.hasNext()) {
+            ScoreEntry entry = lowestFirst.next();
+            if (entry.logScore() >= threshold) {
+                break;
+            }
+            if (logScores.remove(entry.clipId(), entry.logScore())) {
+                ranking.remove(entry);
+                pruned++;
+            }
+        }
+        return pruned;
+    }
+
+    /** 클립별 로그 점수를 복사해 반환하는 메서드 (스냅샷 저장용) */
+    public Map<Long, Double> snapshot() {
+        return new HashMap<>(logScores);
+    }
+
+    public int size() {
+        return logScores.size();
+    }
+
+    private void evictOverflow() {
+        while (logScores.size() > maxClips) {
+            ScoreEntry lowest = ranking.pollLast();
+            if (lowest == null) {
+                return;
+            }
+            logScores.remove(lowest.clipId(), lowest.logScore());
+        }
+    }
+
+    private static double logSumExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private record ScoreEntry(double logScore, Long clipId) {
+    }
+
+    public record ScoredClip(Long clipId, double score) {
+    }
+}
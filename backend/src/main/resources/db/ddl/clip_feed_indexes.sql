@@ -0,0 +1,9 @@
+-- 공개 클립 피드 keyset 페이지 조회용 인덱스 (선택 조건: 없음 / USER_ID / TRIP_ID)
+CREATE INDEX idx_clip_opened_upload_datetime
+    ON clip (IS_OPENED, UPLOAD_DATETIME, CLIP_ID);
+
+CREATE INDEX idx_clip_user_opened_upload_datetime
+    ON clip (USER_ID, IS_OPENED, UPLOAD_DATETIME, CLIP_ID);
+
+CREATE INDEX idx_clip_trip_opened_upload_datetime
+    ON clip (TRIP_ID, IS_OPENED, UPLOAD_DATETIME, CLIP_ID);
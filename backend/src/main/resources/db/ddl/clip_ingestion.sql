@@ -0,0 +1,9 @@
+-- 클립 비동기 처리 상태 및 메타데이터 컬럼 (기존 행은 이미 노출 중이므로 READY 로 채운다)
+ALTER TABLE clip
+    ADD COLUMN STATUS VARCHAR(16) NOT NULL DEFAULT 'READY',
+    ADD COLUMN CONTENT_TYPE VARCHAR(255) NULL,
+    ADD COLUMN CONTENT_LENGTH BIGINT NULL;
+
+-- PENDING 재처리 sweep 용 인덱스
+CREATE INDEX idx_clip_status_upload_datetime
+    ON clip (STATUS, UPLOAD_DATETIME);
@@ -0,0 +1,6 @@
+-- MP4/MOV 헤더에서 추출한 클립 영상 정보 (원격 URL 클립과 기존 행은 NULL)
+ALTER TABLE clip
+    ADD COLUMN DURATION_MILLIS BIGINT NULL,
+    ADD COLUMN VIDEO_WIDTH INT NULL,
+    ADD COLUMN VIDEO_HEIGHT INT NULL,
+    ADD COLUMN VIDEO_CODEC VARCHAR(16) NULL;
@@ -0,0 +1,17 @@
+-- 클립별 신고 조회 및 ClipReportAggregator 기동 시 재집계용 인덱스
+-- (CLIP_ID) 단일 인덱스는 이 인덱스의 선두 컬럼으로 대체된다.
+CREATE INDEX idx_clip_report_clip_category
+    ON CLIP_REPORT (CLIP_ID, REPORT_CATEGORY_ID);
+
+DROP INDEX idx_clip_report_clip_id ON CLIP_REPORT;
+
+-- 같은 사용자는 같은 클립을 한 번만 신고할 수 있다. (ClipReportService 의 중복 확인과 동시 신고를 모두 막는다)
+-- 기존 중복 신고가 있으면 제약 추가가 실패하므로 먼저 확인해 정리한다.
+-- SELECT USER_ID, CLIP_ID, COUNT(*) FROM CLIP_REPORT GROUP BY USER_ID, CLIP_ID HAVING COUNT(*) > 1;
+ALTER TABLE CLIP_REPORT
+    ADD CONSTRAINT uk_clip_report_user_clip UNIQUE (USER_ID, CLIP_ID);
+
+-- 중복 정리 등으로 신고 행이 바뀌었으면 신고 수를 다시 맞춘다.
+UPDATE clip c
+SET c.REPORT_COUNT = (SELECT COUNT(*) FROM CLIP_REPORT cr WHERE cr.CLIP_ID = c.CLIP_ID)
+WHERE c.REPORT_COUNT <> (SELECT COUNT(*) FROM CLIP_REPORT cr WHERE cr.CLIP_ID = c.CLIP_ID);
@@ -0,0 +1,6 @@
+-- 클립 스레드(클립 + 댓글 + 대댓글) 조회용 인덱스
+CREATE INDEX idx_clip_comment_clip_written_datetime
+    ON CLIP_COMMENT (CLIP_ID, WRITTEN_DATETIME, CLIP_COMMENT_ID);
+
+CREATE INDEX idx_clip_co_comment_comment_written_datetime
+    ON CLIP_CO_COMMENT (CLIP_COMMENT_ID, WRITTEN_DATETIME, CLIP_CO_COMMENT_ID);
@@ -0,0 +1,8 @@
+-- 트렌딩 점수 스냅샷 (TrendingService 가 주기적으로 통째로 교체 저장, 기동 시 복원)
+-- LOG_SCORE 는 TrendingScoreBoard.EPOCH_MILLIS 기준 로그 점수이다.
+CREATE TABLE clip_trending_snapshot
+(
+    CLIP_ID           BIGINT   NOT NULL PRIMARY KEY,
+    LOG_SCORE         DOUBLE   NOT NULL,
+    SNAPSHOT_DATETIME DATETIME NOT NULL
+);
@@ -0,0 +1,7 @@
+-- 클립 조회수 (ClipViewCounterService 가 주기적으로 batch upsert 로 반영)
+CREATE TABLE clip_view
+(
+    CLIP_ID          BIGINT   NOT NULL PRIMARY KEY,
+    VIEW_COUNT       BIGINT   NOT NULL DEFAULT 0,
+    UPDATED_DATETIME DATETIME NOT NULL
+);
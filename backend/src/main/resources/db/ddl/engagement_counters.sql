@@ -0,0 +1,34 @@
+-- 포스트/클립 참여 카운터 컬럼 (EngagementCounterService 가 batch UPDATE 로 반영)
+ALTER TABLE post
+    ADD COLUMN comment_count    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN co_comment_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN report_count     BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE clip
+    ADD COLUMN COMMENT_COUNT    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN CO_COMMENT_COUNT BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN REPORT_COUNT     BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 초기 계산
+UPDATE post p
+SET p.comment_count    = (SELECT COUNT(*) FROM post_comment pc WHERE pc.post_id = p.post_id),
+    p.co_comment_count = (SELECT COUNT(*)
+                          FROM post_co_comment pcc
+                                   JOIN post_comment pc ON pc.post_comment_id = pcc.post_comment_id
+                          WHERE pc.post_id = p.post_id),
+    p.report_count     = (SELECT COUNT(*) FROM post_report pr WHERE pr.post_id = p.post_id);
+
+UPDATE clip c
+SET c.COMMENT_COUNT    = (SELECT COUNT(*) FROM CLIP_COMMENT cc WHERE cc.CLIP_ID = c.CLIP_ID),
+    c.CO_COMMENT_COUNT = (SELECT COUNT(*)
+                          FROM CLIP_CO_COMMENT ccc
+                                   JOIN CLIP_COMMENT cc ON cc.CLIP_COMMENT_ID = ccc.CLIP_COMMENT_ID
+                          WHERE cc.CLIP_ID = c.CLIP_ID),
+    c.REPORT_COUNT     = (SELECT COUNT(*) FROM CLIP_REPORT cr WHERE cr.CLIP_ID = c.CLIP_ID);
+
+-- 카운터 재계산/대댓글 증감 서브쿼리용 인덱스
+CREATE INDEX idx_post_comment_post_id ON post_comment (post_id);
+CREATE INDEX idx_post_report_post_id ON post_report (post_id);
+CREATE INDEX idx_clip_comment_clip_id ON CLIP_COMMENT (CLIP_ID);
+CREATE INDEX idx_clip_co_comment_clip_comment_id ON CLIP_CO_COMMENT (CLIP_COMMENT_ID);
+CREATE INDEX idx_clip_report_clip_id ON CLIP_REPORT (CLIP_ID);
@@ -0,0 +1,18 @@
+-- 댓글/대댓글/클립 PK 를 IDENTITY 대신 TABLE(pooled, allocationSize 50) 전략으로 발급하기 위한 테이블
+-- pooled 옵티마이저는 NEXT_VAL 을 할당 구간의 상한으로 쓰므로, 기존 AUTO_INCREMENT 값과 겹치지 않도록 (현재 최대값 + 50)으로 초기화한다.
+CREATE TABLE id_generator
+(
+    SEQUENCE_NAME VARCHAR(64) NOT NULL PRIMARY KEY,
+    NEXT_VAL      BIGINT      NOT NULL
+);
+
+INSERT INTO id_generator (SEQUENCE_NAME, NEXT_VAL)
+SELECT 'CLIP', COALESCE(MAX(CLIP_ID), 0) + 50 FROM clip
+UNION ALL
+SELECT 'CLIP_COMMENT', COALESCE(MAX(CLIP_COMMENT_ID), 0) + 50 FROM CLIP_COMMENT
+UNION ALL
+SELECT 'CLIP_CO_COMMENT', COALESCE(MAX(CLIP_CO_COMMENT_ID), 0) + 50 FROM CLIP_CO_COMMENT
+UNION ALL
+SELECT 'post_comment', COALESCE(MAX(post_comment_id), 0) + 50 FROM post_comment
+UNION ALL
+SELECT 'post_co_comment', COALESCE(MAX(post_co_comment_id), 0) + 50 FROM post_co_comment;
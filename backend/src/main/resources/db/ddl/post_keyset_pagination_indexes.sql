@@ -0,0 +1,9 @@
+-- 포스트 / 포스트 댓글 / 포스트 대댓글 목록의 커서(작성 일시, ID) 기반 페이지 조회용 인덱스
+CREATE INDEX idx_post_created_datetime_post_id
+    ON post (created_datetime, post_id);
+
+CREATE INDEX idx_post_comment_created_datetime_id
+    ON post_comment (created_datetime, post_comment_id);
+
+CREATE INDEX idx_post_co_comment_created_datetime_id
+    ON post_co_comment (created_datetime, post_co_comment_id);
@@ -0,0 +1,6 @@
+-- 타임라인 fan-out(작성자의 팔로워 조회) 및 pull(작성자별 최신 공개 포스트 조회)용 인덱스
+CREATE INDEX idx_follow_followee_id_follower_id
+    ON follow (FOLLOWEE_ID, FOLLOWER_ID);
+
+CREATE INDEX idx_post_user_opened_created_datetime
+    ON post (user_id, is_opened, created_datetime, post_id);
@@ -0,0 +1,42 @@
+-- 같은 (provider, provider_id) 의 중복 사용자를 가장 먼저 만들어진 사용자(keep_id)로 합치는 일회성 마이그레이션
+-- user_provider_unique.sql 의 확인 쿼리로 대상을 본 뒤, 백업 후 수동으로 실행한다.
+-- 중복 사용자 ID 로 작성된 데이터를 모두 keep_id 로 옮긴 다음에만 중복 사용자 행을 지운다.
+CREATE TEMPORARY TABLE user_merge AS
+SELECT u.id AS duplicate_id, k.keep_id
+  FROM user u
+  JOIN (SELECT provider, provider_id, MIN(id) AS keep_id
+          FROM user
+         GROUP BY provider, provider_id
+        HAVING COUNT(*) > 1) k ON k.provider = u.provider AND k.provider_id = u.provider_id
+ WHERE u.id <> k.keep_id;
+
+START TRANSACTION;
+
+UPDATE post p JOIN user_merge m ON p.user_id = m.duplicate_id SET p.user_id = m.keep_id;
+UPDATE post_comment pc JOIN user_merge m ON pc.user_id = m.duplicate_id SET pc.user_id = m.keep_id;
+UPDATE post_co_comment pcc JOIN user_merge m ON pcc.user_id = m.duplicate_id SET pcc.user_id = m.keep_id;
+UPDATE post_report pr JOIN user_merge m ON pr.user_id = m.duplicate_id SET pr.user_id = m.keep_id;
+UPDATE clip c JOIN user_merge m ON c.USER_ID = m.duplicate_id SET c.USER_ID = m.keep_id;
+UPDATE CLIP_COMMENT cc JOIN user_merge m ON cc.USER_ID = m.duplicate_id SET cc.USER_ID = m.keep_id;
+UPDATE CLIP_CO_COMMENT ccc JOIN user_merge m ON ccc.USER_ID = m.duplicate_id SET ccc.USER_ID = m.keep_id;
+UPDATE bookmark b JOIN user_merge m ON b.USER_ID = m.duplicate_id SET b.USER_ID = m.keep_id;
+UPDATE user_preference up JOIN user_merge m ON up.user_id = m.duplicate_id SET up.user_id = m.keep_id;
+
+-- (USER_ID, CLIP_ID) 유니크 키 때문에 keep_id 가 이미 신고한 클립의 신고는 옮기지 못하고 남으므로 지운 뒤 신고 수를 다시 맞춘다.
+UPDATE IGNORE CLIP_REPORT cr JOIN user_merge m ON cr.USER_ID = m.duplicate_id SET cr.USER_ID = m.keep_id;
+DELETE cr FROM CLIP_REPORT cr JOIN user_merge m ON cr.USER_ID = m.duplicate_id;
+UPDATE clip c
+SET c.REPORT_COUNT = (SELECT COUNT(*) FROM CLIP_REPORT cr WHERE cr.CLIP_ID = c.CLIP_ID)
+WHERE c.REPORT_COUNT <> (SELECT COUNT(*) FROM CLIP_REPORT cr WHERE cr.CLIP_ID = c.CLIP_ID);
+
+-- 팔로우는 (FOLLOWER_ID, FOLLOWEE_ID) 가 키이므로 이미 있는 관계와 합쳐서 생긴 중복/자기 자신 팔로우는 지운다.
+UPDATE IGNORE follow f JOIN user_merge m ON f.FOLLOWER_ID = m.duplicate_id SET f.FOLLOWER_ID = m.keep_id;
+UPDATE IGNORE follow f JOIN user_merge m ON f.FOLLOWEE_ID = m.duplicate_id SET f.FOLLOWEE_ID = m.keep_id;
+DELETE f FROM follow f JOIN user_merge m ON f.FOLLOWER_ID = m.duplicate_id OR f.FOLLOWEE_ID = m.duplicate_id;
+DELETE f FROM follow f JOIN user_merge m ON f.FOLLOWER_ID = m.keep_id WHERE f.FOLLOWER_ID = f.FOLLOWEE_ID;
+
+DELETE u FROM user u JOIN user_merge m ON u.id = m.duplicate_id;
+
+COMMIT;
+
+DROP TEMPORARY TABLE user_merge;
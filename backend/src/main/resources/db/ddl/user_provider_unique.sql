@@ -0,0 +1,11 @@
+-- OAuth 사용자 upsert 용 (provider, provider_id) 유니크 키
+-- 1. 동시 첫 로그인으로 생긴 중복 사용자를 확인한다. (가장 먼저 만들어진 keep_id 만 남길 대상)
+SELECT provider, provider_id, MIN(id) AS keep_id, GROUP_CONCAT(id ORDER BY id) AS ids
+  FROM user
+ GROUP BY provider, provider_id
+HAVING COUNT(*) > 1;
+
+-- 2. 결과가 있으면 백업 후 user_provider_duplicate_merge.sql 로 작성 데이터를 keep_id 로 옮기고 중복 행을 지운다.
+--    이 파일은 행을 삭제하지 않으며, 중복이 남아 있으면 아래 제약 추가가 실패한다.
+ALTER TABLE user
+    ADD CONSTRAINT uk_user_provider_provider_id UNIQUE (provider, provider_id);
@@ -0,0 +1,45 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.streaming.ByteRange;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ByteRangeTest {
+
+    private static final long FILE_LENGTH = 1000;
+
+    @DisplayName("#01. 시작-끝, 시작-, 마지막 N 바이트 형식의 Range 헤더를 파일 길이에 맞춰 해석하는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void parseShouldResolveSingleRangeForms() {
+        // Act
+        ByteRange closed = ByteRange.parse("bytes=100-199", FILE_LENGTH);
+        ByteRange open = ByteRange.parse("bytes=900-", FILE_LENGTH);
+        ByteRange suffix = ByteRange.parse("bytes=-300", FILE_LENGTH);
+        ByteRange clamped = ByteRange.parse("bytes=500-5000", FILE_LENGTH);
+
+        // Assert
+        assertEquals(new ByteRange(100, 199, true), closed);
+        assertEquals(100, closed.length());
+        assertEquals(new ByteRange(900, 999, true), open);
+        assertEquals(new ByteRange(700, 999, true), suffix);
+        assertEquals(new ByteRange(500, 999, true), clamped);
+    }
+
+    @DisplayName("#02. 헤더가 없거나 여러 구간/잘못된 형식이면 전체 파일, 파일 범위를 벗어나면 416 으로 해석하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void parseShouldFallBackToFullOrUnsatisfiable() {
+        // Act & Assert
+        assertEquals(ByteRange.full(FILE_LENGTH), ByteRange.parse(null, FILE_LENGTH));
+        assertEquals(ByteRange.full(FILE_LENGTH), ByteRange.parse("bytes=0-1,5-9", FILE_LENGTH));
+        assertEquals(ByteRange.full(FILE_LENGTH), ByteRange.parse("items=0-1", FILE_LENGTH));
+        assertEquals(ByteRange.full(FILE_LENGTH), ByteRange.parse("bytes=20-10", FILE_LENGTH));
+        assertFalse(ByteRange.parse("bytes=1000-", FILE_LENGTH).isSatisfiable());
+        assertFalse(ByteRange.parse("bytes=1000-1999", FILE_LENGTH).isSatisfiable());
+        assertFalse(ByteRange.parse("bytes=-0", FILE_LENGTH).isSatisfiable());
+        assertTrue(ByteRange.parse("bytes=0-0", FILE_LENGTH).isSatisfiable());
+    }
+}
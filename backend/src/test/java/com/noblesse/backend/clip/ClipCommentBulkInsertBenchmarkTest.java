@@ -0,0 +1,102 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.ClipComment;
+import com.noblesse.backend.common.benchmark.BenchmarkJpaTest;
+import com.noblesse.backend.common.benchmark.JpaBenchmark;
+import com.noblesse.backend.common.benchmark.JpaBenchmark.Measurement;
+import jakarta.persistence.*;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IDENTITY 전략(기존)과 TABLE(pooled) 전략 + JDBC batch 의 댓글 INSERT 처리 시간과 SQL 수를 비교하는 벤치마크
+ * H2 기준 수치이며, MySQL 에서는 rewriteBatchedStatements 로 batch 가 multi-row INSERT 로 바뀌어 차이가 더 커진다.
+ */
+@BenchmarkJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=" + ClipCommentBulkInsertBenchmarkTest.BATCH_SIZE,
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipCommentBulkInsertBenchmarkTest {
+
+    static final int BATCH_SIZE = 50;
+    private static final int ROWS = 10_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("#01. IDENTITY 와 TABLE(pooled) + JDBC batch 의 댓글 INSERT 처리량 비교 벤치마크")
+    @Test
+    @Order(1)
+    void compareIdentityWithPooledBatchInsert() {
+        // Arrange
+        JpaBenchmark benchmark = new JpaBenchmark(entityManager, 1, 1);
+        Function<Integer, Object> identityComment = i -> new IdentityClipComment("댓글 " + i, (long) (i % 100), (long) (i % 10));
+        Function<Integer, Object> pooledComment = i -> new ClipComment("댓글 " + i, (long) (i % 100), (long) (i % 10));
+
+        // Act
+        Measurement<Integer> identityResult = benchmark.measure("IDENTITY", () -> insert(ROWS, identityComment));
+        Measurement<Integer> pooledResult = benchmark.measure("TABLE(pooled) + batch", () -> insert(ROWS, pooledComment));
+        JpaBenchmark.logRatio(identityResult, pooledResult);
+
+        // Assert
+        assertEquals(2L * ROWS, count("IdentityClipComment"));
+        assertEquals(2L * ROWS, count("ClipComment"));
+        assertEquals(ROWS, identityResult.entityInsertsPerOp());
+        assertEquals(ROWS, pooledResult.entityInsertsPerOp());
+        // IDENTITY 는 행마다 INSERT 를 따로 보내고, pooled 는 batch 당 INSERT 1 개 + ID 50 개 할당마다 id_generator 조회/갱신만 보낸다.
+        assertTrue(identityResult.statementsPerOp() >= ROWS, identityResult.toString());
+        assertTrue(pooledResult.statementsPerOp() < ROWS / 10, pooledResult.toString());
+    }
+
+    private int insert(int rows, Function<Integer, Object> entityOf) {
+        for (int i = 0; i < rows; i++) {
+            entityManager.persist(entityOf.apply(i));
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return rows;
+    }
+
+    private long count(String entityName) {
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entityName + " e", Long.class).getSingleResult();
+    }
+
+    /** 비교 기준용: 기존 ClipComment 와 같은 컬럼 구성에 IDENTITY 전략만 유지한 엔티티 */
+    @Entity(name = "IdentityClipComment")
+    @Table(name = "BENCHMARK_IDENTITY_CLIP_COMMENT")
+    static class IdentityClipComment {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "CLIP_COMMENT_ID")
+        private Long clipCommentId;
+
+        @Column(name = "CLIP_COMMENT_CONTENT")
+        private String clipCommentContent;
+
+        @Column(name = "USER_ID")
+        private Long userId;
+
+        @Column(name = "CLIP_ID")
+        private Long clipId;
+
+        protected IdentityClipComment() {}
+
+        IdentityClipComment(String clipCommentContent, Long userId, Long clipId) {
+            this.clipCommentContent = clipCommentContent;
+            this.userId = userId;
+            this.clipId = clipId;
+        }
+    }
+}
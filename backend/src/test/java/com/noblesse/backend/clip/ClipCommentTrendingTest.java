@@ -0,0 +1,99 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.ClipCoComment;
+import com.noblesse.backend.clip.domain.ClipComment;
+import com.noblesse.backend.clip.dto.ClipCoCommentRegistRequestDTO;
+import com.noblesse.backend.clip.dto.ClipCommentRegistRequestDTO;
+import com.noblesse.backend.clip.repository.ClipCoCommentRepository;
+import com.noblesse.backend.clip.repository.ClipCommentRepository;
+import com.noblesse.backend.clip.service.ClipCoCommentService;
+import com.noblesse.backend.clip.service.ClipCommentService;
+import com.noblesse.backend.trending.service.TrendingService;
+import com.noblesse.backend.trending.store.TrendingEvent;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+/**
+ * 댓글/대댓글 단건 등록이 트렌딩 점수를 커밋 이후에만 올리는지 확인하는 테스트
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipCommentTrendingTest {
+
+    @Mock
+    private ClipCommentRepository clipCommentRepository;
+
+    @Mock
+    private ClipCoCommentRepository clipCoCommentRepository;
+
+    @Mock
+    private TrendingService trendingService;
+
+    private ClipCommentService clipCommentService;
+    private ClipCoCommentService clipCoCommentService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void initMocks() {
+        closeable = openMocks(this);
+        clipCommentService = new ClipCommentService(clipCommentRepository, trendingService);
+        clipCoCommentService = new ClipCoCommentService(clipCoCommentRepository, clipCommentRepository, trendingService);
+        when(clipCommentRepository.save(any(ClipComment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(clipCoCommentRepository.save(any(ClipCoComment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(clipCommentRepository.findClipIdByClipCommentId(10L)).thenReturn(Optional.of(1L));
+
+        // 서비스 메서드가 트랜잭션 안에서 실행되는 상황을 흉내 낸다.
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void closeMocks() throws Exception {
+        TransactionSynchronizationManager.clearSynchronization();
+        closeable.close();
+    }
+
+    @DisplayName("#01. 댓글/대댓글 단건 등록은 커밋 이후에 트렌딩 점수를 올리는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void registShouldRecordTrendingAfterCommit() {
+        // Act
+        clipCommentService.registClipComment(new ClipCommentRegistRequestDTO("댓글", 100L, 1L));
+        clipCoCommentService.registClipCoComment(new ClipCoCommentRegistRequestDTO("대댓글", 100L, 10L));
+        verify(trendingService, never()).record(any(), any());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        verify(trendingService).record(1L, TrendingEvent.COMMENT);
+        verify(trendingService).record(1L, TrendingEvent.CO_COMMENT);
+    }
+
+    @DisplayName("#02. 트랜잭션이 롤백되면 트렌딩 점수를 올리지 않는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void registShouldNotRecordTrendingOnRollback() {
+        // Act
+        clipCommentService.registClipComment(new ClipCommentRegistRequestDTO("댓글", 100L, 1L));
+        clipCoCommentService.registClipCoComment(new ClipCoCommentRegistRequestDTO("대댓글", 100L, 10L));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verify(trendingService, never()).record(any(), any());
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,212 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.clip.ingestion.ClipIngestionPipeline;
+import com.noblesse.backend.clip.repository.*;
+import com.noblesse.backend.clip.service.ClipService;
+import com.noblesse.backend.clip.service.ClipThreadService;
+import com.noblesse.backend.common.batch.BatchResultDTO;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.mybatis.spring.boot.autoconfigure.MybatisAutoConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 클립 피드/사용자별 커서 페이지 조회와 단건 조회를 JPA / MyBatis 두 조회 경로 모두 H2 에서 확인하는 테스트
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@ImportAutoConfiguration(MybatisAutoConfiguration.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipFeedQueryTest {
+
+    private static final LocalDateTime UPLOADED = LocalDateTime.of(2024, 7, 1, 12, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ClipRepository clipRepository;
+
+    @Autowired
+    private ClipCommentRepository clipCommentRepository;
+
+    @Autowired
+    private ClipCoCommentRepository clipCoCommentRepository;
+
+    @Autowired
+    private ClipMapper clipMapper;
+
+    private Map<String, ClipReadRepository> readRepositories;
+    private Map<String, ClipService> readPaths;
+
+    // 같은 업로드 일시의 클립 세 건(ID 만 다름)과 더 오래된 클립 한 건, 피드에서 빠져야 하는 클립 두 건
+    private Long sameTimeOldest;
+    private Long sameTimeMiddle;
+    private Long sameTimeNewest;
+    private Long older;
+    private Long closed;
+    private Long pending;
+
+    @BeforeEach
+    void seedClips() {
+        sameTimeOldest = clip(1L, 10L, true, "READY", UPLOADED, 30_000L);
+        sameTimeMiddle = clip(1L, 10L, true, "READY", UPLOADED, 90_000L);
+        sameTimeNewest = clip(1L, 20L, true, "READY", UPLOADED, 10_000L);
+        older = clip(2L, 10L, true, "READY", UPLOADED.minusMinutes(1), 60_000L);
+        closed = clip(1L, 10L, false, "READY", UPLOADED.plusMinutes(1), 30_000L);
+        pending = clip(1L, 10L, true, "PENDING", UPLOADED.plusMinutes(1), 30_000L);
+        entityManager.flush();
+        entityManager.clear();
+
+        ClipIngestionPipeline clipIngestionPipeline = mock(ClipIngestionPipeline.class);
+        readRepositories = Map.of(
+                "jpa", new JpaClipReadRepository(clipRepository, new ClipFeedRepository(entityManager),
+                        clipCommentRepository, clipCoCommentRepository),
+                "mybatis", new MyBatisClipReadRepository(clipMapper)
+        );
+        readPaths = readRepositories.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        entry -> new ClipService(clipRepository, entry.getValue(), entityManager, clipIngestionPipeline)));
+    }
+
+    @DisplayName("#01. 같은 업로드 일시의 클립이 페이지 경계에 걸려도 클립 ID 로 이어서 중복/누락 없이 조회하는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void feedShouldContinueAcrossSameTimestampBoundary() {
+        readPaths.forEach((name, clipService) -> {
+            // Act
+            CursorPageDTO<ClipDTO> first = clipService.findClipFeed(null, 2, null, null, null, null);
+            CursorPageDTO<ClipDTO> second = clipService.findClipFeed(first.getNextCursor(), 2, null, null, null, null);
+
+            // Assert
+            assertEquals(List.of(sameTimeNewest, sameTimeMiddle), clipIds(first), name);
+            assertTrue(first.isHasNext(), name);
+            assertEquals(List.of(sameTimeOldest, older), clipIds(second), name);
+            assertFalse(second.isHasNext(), name);
+            assertNull(second.getNextCursor(), name);
+        });
+    }
+
+    @DisplayName("#02. 조건에 맞는 클립이 없거나 마지막 커서 이후를 조회하면 빈 페이지를 반환하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void feedShouldReturnEmptyPage() {
+        readPaths.forEach((name, clipService) -> {
+            // Act
+            CursorPageDTO<ClipDTO> noMatch = clipService.findClipFeed(null, 10, 999L, null, null, null);
+            String lastCursor = new DateTimeCursor(UPLOADED.minusMinutes(1), older).encode();
+            CursorPageDTO<ClipDTO> afterLast = clipService.findClipFeed(lastCursor, 10, null, null, null, null);
+
+            // Assert
+            assertTrue(noMatch.getContent().isEmpty(), name);
+            assertEquals(0, noMatch.getSize(), name);
+            assertFalse(noMatch.isHasNext(), name);
+            assertNull(noMatch.getNextCursor(), name);
+            assertTrue(afterLast.getContent().isEmpty(), name);
+            assertFalse(afterLast.isHasNext(), name);
+        });
+    }
+
+    @DisplayName("#03. 사용자/여행/재생 시간 조건 조합이 공개 + READY 클립에만 함께 적용되는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void feedShouldCombineFilters() {
+        readPaths.forEach((name, clipService) -> {
+            // Act & Assert
+            assertEquals(List.of(sameTimeMiddle, sameTimeOldest), clipIds(clipService.findClipFeed(null, 10, 1L, 10L, null, null)), name);
+            assertEquals(List.of(sameTimeMiddle), clipIds(clipService.findClipFeed(null, 10, 1L, 10L, 60, null)), name);
+            assertEquals(List.of(sameTimeOldest, older), clipIds(clipService.findClipFeed(null, 10, null, 10L, null, 60)), name);
+            assertEquals(List.of(sameTimeOldest, older), clipIds(clipService.findClipFeed(null, 10, null, null, 20, 70)), name);
+            assertEquals(List.of(older), clipIds(clipService.findClipFeed(null, 10, 2L, null, null, null)), name);
+            assertEquals(List.of(sameTimeNewest), clipIds(clipService.findClipFeed(null, 10, null, 20L, null, 10)), name);
+        });
+    }
+
+    @DisplayName("#04. 단건 조회와 클립 스레드 조회는 비공개이거나 처리 중인 클립을 없는 것으로 보는지 확인하는 테스트")
+    @Test
+    @Order(4)
+    void singleAndUserLookupsShouldOnlyReturnOpenReadyClips() {
+        readRepositories.forEach((name, clipReadRepository) -> {
+            // Arrange
+            ClipThreadService clipThreadService = new ClipThreadService(clipReadRepository);
+
+            // Act & Assert
+            assertTrue(clipReadRepository.findOpenClipById(sameTimeOldest).isPresent(), name);
+            assertTrue(clipReadRepository.findOpenClipById(closed).isEmpty(), name);
+            assertTrue(clipReadRepository.findOpenClipById(pending).isEmpty(), name);
+            assertEquals(sameTimeOldest, clipThreadService.findClipThread(sameTimeOldest, null, null).getClip().getClipId(), name);
+            assertThrows(ClipNotFoundException.class, () -> clipThreadService.findClipThread(closed, null, null), name);
+            assertThrows(ClipNotFoundException.class, () -> clipThreadService.findClipThread(pending, null, null), name);
+        });
+    }
+
+    @DisplayName("#05. 사용자별 클립 목록은 공개 + READY 클립만 커서 페이지로 나눠 조회하는지 확인하는 테스트")
+    @Test
+    @Order(5)
+    void clipsByUserShouldBePagedWithCursor() {
+        readPaths.forEach((name, clipService) -> {
+            // Act
+            CursorPageDTO<ClipDTO> first = clipService.findClipsByUserId(1L, null, 2);
+            CursorPageDTO<ClipDTO> second = clipService.findClipsByUserId(1L, first.getNextCursor(), 2);
+
+            // Assert
+            assertEquals(List.of(sameTimeNewest, sameTimeMiddle), clipIds(first), name);
+            assertTrue(first.isHasNext(), name);
+            assertEquals(List.of(sameTimeOldest), clipIds(second), name);
+            assertFalse(second.isHasNext(), name);
+        });
+    }
+
+    @DisplayName("#06. 클립 ID 일괄 조회는 공개 + READY 클립만 반환하고 나머지 ID 는 missingIds 로 알려주는지 확인하는 테스트")
+    @Test
+    @Order(6)
+    void clipsByIdsShouldHideClosedAndUnprocessedClips() {
+        readPaths.forEach((name, clipService) -> {
+            // Act
+            BatchResultDTO<ClipDTO> result = clipService.findClipsByClipIds(List.of(closed, sameTimeOldest, pending, 999L, older));
+
+            // Assert
+            assertEquals(List.of(sameTimeOldest, older), result.getContent().stream().map(ClipDTO::getClipId).collect(Collectors.toList()), name);
+            assertEquals(List.of(closed, pending, 999L), result.getMissingIds(), name);
+        });
+    }
+
+    private Long clip(Long userId, Long tripId, boolean isOpened, String status, LocalDateTime uploadDatetime, Long durationMillis) {
+        Clip clip = new Clip("클립", "https://clip/" + userId, isOpened, userId, tripId);
+        entityManager.persist(clip);
+        entityManager.flush();
+
+        // 업로드 일시는 @CreationTimestamp, 상태/재생 시간은 수집 파이프라인이 채우므로 직접 갱신한다.
+        entityManager.createNativeQuery("UPDATE clip SET UPLOAD_DATETIME = :uploadDatetime, STATUS = :status, DURATION_MILLIS = :durationMillis WHERE CLIP_ID = :clipId")
+                .setParameter("uploadDatetime", uploadDatetime)
+                .setParameter("status", status)
+                .setParameter("durationMillis", durationMillis)
+                .setParameter("clipId", clip.getClipId())
+                .executeUpdate();
+        return clip.getClipId();
+    }
+
+    private static List<Long> clipIds(CursorPageDTO<ClipDTO> page) {
+        return page.getContent().stream()
+                .map(ClipDTO::getClipId)
+                .collect(Collectors.toList());
+    }
+}
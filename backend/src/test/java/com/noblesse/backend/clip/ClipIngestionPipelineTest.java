@@ -0,0 +1,226 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.controller.ClipController;
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.domain.ClipStatus;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.dto.ClipRegistRequestDTO;
+import com.noblesse.backend.clip.exception.InvalidClipUrlException;
+import com.noblesse.backend.clip.ingestion.ClipIngestionPipeline;
+import com.noblesse.backend.clip.ingestion.ClipIngestionRejectedException;
+import com.noblesse.backend.clip.ingestion.ClipMetadata;
+import com.noblesse.backend.clip.ingestion.ClipMetadataExtractor;
+import com.noblesse.backend.clip.ingestion.ClipValidationException;
+import com.noblesse.backend.clip.repository.ClipReadRepository;
+import com.noblesse.backend.clip.repository.ClipRepository;
+import com.noblesse.backend.clip.service.ClipService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipIngestionPipelineTest {
+
+    private static final int WORKERS = 1;
+    private static final int QUEUE_CAPACITY = 1;
+    private static final long TIMEOUT_MS = 2_000;
+
+    @Mock
+    private ClipRepository clipRepository;
+
+    @Mock
+    private ClipReadRepository clipReadRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ClipMetadataExtractor clipMetadataExtractor;
+
+    private ClipIngestionPipeline clipIngestionPipeline;
+    private ClipService clipService;
+    private final AtomicLong clipIds = new AtomicLong();
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void initMocks() {
+        closeable = openMocks(this);
+        clipIngestionPipeline = new ClipIngestionPipeline(clipRepository, clipMetadataExtractor, WORKERS, QUEUE_CAPACITY);
+        clipService = new ClipService(clipRepository, clipReadRepository, entityManager, clipIngestionPipeline);
+
+        // save 는 ID 를 채운 클립을 돌려준다.
+        when(clipRepository.save(any(Clip.class))).thenAnswer(invocation -> {
+            Clip clip = invocation.getArgument(0);
+            ReflectionTestUtils.setField(clip, "clipId", clipIds.incrementAndGet());
+            return clip;
+        });
+        when(clipRepository.findClipUrlByClipId(anyLong()))
+                .thenAnswer(invocation -> Optional.of("https://cdn.example.com/" + invocation.getArgument(0) + ".mp4"));
+        when(clipMetadataExtractor.extract(anyString())).thenReturn(new ClipMetadata("video/mp4", 1024L));
+    }
+
+    @AfterEach
+    void closeMocks() throws Exception {
+        clipIngestionPipeline.shutdown();
+        closeable.close();
+    }
+
+    @DisplayName("#01. 클립 등록은 PENDING 으로 저장 후 202 를 반환하고, 워커가 메타데이터를 채워 READY 로 바꾸는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void registClipShouldAcceptThenMarkReady() {
+        // Arrange
+        ClipController clipController = new ClipController(clipService, null, null, clipIngestionPipeline, null, null);
+
+        // Act
+        ResponseEntity<ClipDTO> response = clipController.registClip(request());
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1L, response.getBody().getClipId());
+        assertEquals(ClipStatus.PENDING, response.getBody().getStatus());
+        verify(clipRepository, timeout(TIMEOUT_MS)).markReady(eq(1L), eq("video/mp4"), eq(1024L), isNull(), isNull(), isNull(), isNull());
+        verify(clipRepository, never()).markFailed(anyLong());
+        awaitAvailableSlots(WORKERS + QUEUE_CAPACITY);
+        assertEquals(1, clipIngestionPipeline.getStats().getCompleted());
+    }
+
+    @DisplayName("#02. 워커와 대기열이 모두 차면 저장 전에 거절하고, 처리가 끝나면 다시 받는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void insertClipShouldRejectWhenQueueIsFull() {
+        // Arrange
+        CountDownLatch release = blockWorkers();
+        clipService.insertClip(request());
+        clipService.insertClip(request());
+
+        // Act
+        assertThrows(ClipIngestionRejectedException.class, () -> clipService.insertClip(request()));
+
+        // Assert
+        verify(clipRepository, times(2)).save(any(Clip.class));
+        assertEquals(1, clipIngestionPipeline.getStats().getRejected());
+        assertEquals(0, clipIngestionPipeline.getStats().getAvailableSlots());
+
+        release.countDown();
+        verify(clipRepository, timeout(TIMEOUT_MS).times(2)).markReady(anyLong(), any(), any(), any(), any(), any(), any());
+        awaitAvailableSlots(WORKERS + QUEUE_CAPACITY);
+        assertDoesNotThrow(() -> clipService.insertClip(request()));
+    }
+
+    @DisplayName("#03. 저장에 실패하면 확보한 슬롯을 반납하는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void insertClipShouldReturnSlotWhenSaveFails() {
+        // Arrange
+        when(clipRepository.save(any(Clip.class))).thenThrow(new IllegalStateException("DB 오류"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> clipService.insertClip(request()));
+
+        // Assert
+        assertEquals(WORKERS + QUEUE_CAPACITY, clipIngestionPipeline.getStats().getAvailableSlots());
+        assertEquals(0, clipIngestionPipeline.getStats().getSubmitted());
+    }
+
+    @DisplayName("#04. 검증 실패는 FAILED 로 바꾸고, 일시적인 오류는 다음 sweep 을 위해 PENDING 으로 남기는지 확인하는 테스트")
+    @Test
+    @Order(4)
+    void processShouldMarkFailedOnlyOnValidationError() {
+        // Arrange
+        when(clipMetadataExtractor.extract("https://cdn.example.com/1.mp4"))
+                .thenThrow(new ClipValidationException("https://cdn.example.com/1.mp4", "HTTP 404"));
+        when(clipMetadataExtractor.extract("https://cdn.example.com/2.mp4"))
+                .thenThrow(new IllegalStateException("일시적인 오류"));
+
+        // Act
+        clipService.insertClip(request());
+        clipService.insertClip(request());
+
+        // Assert
+        verify(clipRepository, timeout(TIMEOUT_MS)).markFailed(1L);
+        awaitAvailableSlots(WORKERS + QUEUE_CAPACITY);
+        verify(clipRepository, never()).markFailed(2L);
+        verify(clipRepository, never()).markReady(anyLong(), any(), any(), any(), any(), any(), any());
+        assertEquals(2, clipIngestionPipeline.getStats().getFailed());
+    }
+
+    @DisplayName("#05. sweep 은 남은 PENDING 클립을 빈 슬롯만큼만 다시 제출하고 처리 중인 클립은 건너뛰는지 확인하는 테스트")
+    @Test
+    @Order(5)
+    void resubmitPendingClipsShouldRespectSlotsAndInFlightClips() {
+        // Arrange
+        CountDownLatch release = blockWorkers();
+        clipIngestionPipeline.reserve();
+        clipIngestionPipeline.submit(7L);
+        when(clipRepository.findPendingClipIdsUploadedBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(7L, 8L, 9L));
+
+        // Act
+        clipIngestionPipeline.resubmitPendingClips();
+
+        // Assert
+        assertEquals(2, clipIngestionPipeline.getStats().getSubmitted());
+        release.countDown();
+        verify(clipRepository, timeout(TIMEOUT_MS)).markReady(eq(7L), any(), any(), any(), any(), any(), any());
+        verify(clipRepository, timeout(TIMEOUT_MS)).markReady(eq(8L), any(), any(), any(), any(), any(), any());
+        awaitAvailableSlots(WORKERS + QUEUE_CAPACITY);
+        verify(clipRepository, never()).findClipUrlByClipId(9L);
+    }
+
+    @DisplayName("#06. 클립 등록 API 로 local: clipUrl 을 넘기면 저장 전에 거절하고, 업로드 완료 경로만 등록할 수 있는지 확인하는 테스트")
+    @Test
+    @Order(6)
+    void insertClipShouldRejectLocalClipUrl() {
+        // Arrange
+        ClipRegistRequestDTO local = new ClipRegistRequestDTO("제목", "local:2/other-user.mp4", true, 1L, 1L);
+
+        // Act & Assert
+        assertThrows(InvalidClipUrlException.class, () -> clipService.insertClip(local));
+        verify(clipRepository, never()).save(any(Clip.class));
+        assertEquals(WORKERS + QUEUE_CAPACITY, clipIngestionPipeline.getStats().getAvailableSlots());
+        assertDoesNotThrow(() -> clipService.insertUploadedClip(local));
+        verify(clipRepository).save(any(Clip.class));
+    }
+
+    private static ClipRegistRequestDTO request() {
+        return new ClipRegistRequestDTO("제목", "https://cdn.example.com/clip.mp4", true, 1L, 1L);
+    }
+
+    // 워커가 latch 가 열릴 때까지 첫 클립을 붙잡고 있게 한다.
+    private CountDownLatch blockWorkers() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(clipRepository.findClipUrlByClipId(anyLong())).thenAnswer(invocation -> {
+            release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return Optional.of("https://cdn.example.com/" + invocation.getArgument(0) + ".mp4");
+        });
+        return release;
+    }
+
+    // 슬롯은 markReady/markFailed 이후 finally 에서 반납되므로 잠시 기다린다.
+    private void awaitAvailableSlots(int expected) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (clipIngestionPipeline.getStats().getAvailableSlots() != expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, clipIngestionPipeline.getStats().getAvailableSlots());
+    }
+}
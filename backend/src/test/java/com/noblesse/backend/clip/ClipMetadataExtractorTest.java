@@ -0,0 +1,158 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.ingestion.ClipMetadata;
+import com.noblesse.backend.clip.ingestion.ClipMetadataExtractor;
+import com.noblesse.backend.clip.ingestion.ClipValidationException;
+import com.noblesse.backend.clip.storage.ClipStorage;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipMetadataExtractorTest {
+
+    @TempDir
+    Path storageRoot;
+
+    private HttpServer server;
+    private final AtomicInteger clipRequests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/clip.mp4", exchange -> {
+            clipRequests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "video/mp4");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/hop", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/clip.mp4");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/to-loopback", exchange -> {
+            exchange.getResponseHeaders().add("Location", "http://127.0.0.1:" + server.getAddress().getPort() + "/clip.mp4");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/loop", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/loop");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private ClipMetadataExtractor newExtractor(List<String> allowedHosts) {
+        return new ClipMetadataExtractor(Duration.ofSeconds(2), new ClipStorage(storageRoot.toString()), allowedHosts);
+    }
+
+    private String localhostUrl(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    @DisplayName("#01. 루프백/링크 로컬/사설 주소로 해석되는 URL 은 요청 전에 거절하는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void extractShouldRejectInternalAddresses() {
+        // Arrange
+        ClipMetadataExtractor extractor = newExtractor(List.of());
+        List<String> internalUrls = List.of(
+                localhostUrl("/clip.mp4"),
+                "http://127.0.0.1/clip.mp4",
+                "http://0.0.0.0/clip.mp4",
+                "http://169.254.169.254/latest/meta-data/",
+                "http://10.0.0.5/clip.mp4",
+                "http://172.16.0.1/clip.mp4",
+                "http://192.168.1.1/clip.mp4",
+                "http://100.64.0.1/clip.mp4",
+                "http://[::1]/clip.mp4",
+                "http://[fe80::1]/clip.mp4",
+                "http://[fd00::1]/clip.mp4"
+        );
+
+        // Act & Assert
+        for (String url : internalUrls) {
+            ClipValidationException exception = assertThrows(ClipValidationException.class, () -> extractor.extract(url), url);
+            assertTrue(exception.getMessage().contains("internal address"), url);
+        }
+        assertEquals(0, clipRequests.get());
+    }
+
+    @DisplayName("#02. 허용 호스트는 HEAD 요청으로 메타데이터를 읽고, 같은 호스트 안의 리다이렉트는 따라가는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void extractShouldFollowRedirectsOnAllowedHost() {
+        // Arrange
+        ClipMetadataExtractor extractor = newExtractor(List.of("localhost"));
+
+        // Act
+        ClipMetadata direct = extractor.extract(localhostUrl("/clip.mp4"));
+        ClipMetadata redirected = extractor.extract(localhostUrl("/hop"));
+
+        // Assert
+        assertEquals("video/mp4", direct.contentType());
+        assertEquals("video/mp4", redirected.contentType());
+        assertEquals(2, clipRequests.get());
+    }
+
+    @DisplayName("#03. 리다이렉트 대상이 내부 주소이면 따라가지 않고 거절하는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void extractShouldCheckEveryRedirectHop() {
+        // Arrange
+        ClipMetadataExtractor extractor = newExtractor(List.of("localhost"));
+
+        // Act
+        ClipValidationException exception = assertThrows(ClipValidationException.class,
+                () -> extractor.extract(localhostUrl("/to-loopback")));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("internal address"));
+        assertEquals(0, clipRequests.get());
+    }
+
+    @DisplayName("#04. 리다이렉트가 계속 이어지면 정해진 횟수 뒤에 거절하는지 확인하는 테스트")
+    @Test
+    @Order(4)
+    void extractShouldStopAfterTooManyRedirects() {
+        // Arrange
+        ClipMetadataExtractor extractor = newExtractor(List.of("localhost"));
+
+        // Act
+        ClipValidationException exception = assertThrows(ClipValidationException.class,
+                () -> extractor.extract(localhostUrl("/loop")));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("too many redirects"));
+    }
+
+    @DisplayName("#05. http/https 가 아닌 URL 은 거절하는지 확인하는 테스트")
+    @Test
+    @Order(5)
+    void extractShouldRejectUnsupportedSchemes() {
+        // Arrange
+        ClipMetadataExtractor extractor = newExtractor(List.of());
+
+        // Act & Assert
+        assertThrows(ClipValidationException.class, () -> extractor.extract("file:///etc/passwd"));
+        assertThrows(ClipValidationException.class, () -> extractor.extract("gopher://example.com/"));
+        assertThrows(ClipValidationException.class, () -> extractor.extract(" "));
+    }
+}
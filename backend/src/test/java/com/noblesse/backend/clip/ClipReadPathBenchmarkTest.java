@@ -0,0 +1,124 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.domain.ClipCoComment;
+import com.noblesse.backend.clip.domain.ClipComment;
+import com.noblesse.backend.clip.dto.ClipCommentDTO;
+import com.noblesse.backend.clip.repository.*;
+import com.noblesse.backend.common.benchmark.BenchmarkJpaTest;
+import com.noblesse.backend.common.benchmark.JpaBenchmark;
+import com.noblesse.backend.common.benchmark.JpaBenchmark.Measurement;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.mybatis.spring.boot.autoconfigure.MybatisAutoConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클립 조회 경로(피드, 사용자별 목록, 클립 + 댓글 + 대댓글)의 JPA 구현과 MyBatis 구현의 지연 시간을 비교하는 벤치마크
+ * clip.read-path 설정값을 정하기 위한 근거로 사용한다.
+ */
+@BenchmarkJpaTest
+@ImportAutoConfiguration(MybatisAutoConfiguration.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipReadPathBenchmarkTest {
+
+    private static final int CLIPS = 2_000;
+    private static final int COMMENTS_PER_CLIP = 20;
+    private static final int CO_COMMENTS_PER_COMMENT = 2;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ClipRepository clipRepository;
+
+    @Autowired
+    private ClipCommentRepository clipCommentRepository;
+
+    @Autowired
+    private ClipCoCommentRepository clipCoCommentRepository;
+
+    @Autowired
+    private ClipMapper clipMapper;
+
+    private ClipReadRepository jpa;
+    private ClipReadRepository myBatis;
+    private Long threadClipId;
+
+    @BeforeEach
+    void seedClips() {
+        for (int i = 0; i < CLIPS; i++) {
+            entityManager.persist(new Clip("클립 " + i, "https://clip/" + i, true, (long) (i % 50), (long) (i % 10)));
+        }
+        Clip threadClip = new Clip("스레드 클립", "https://clip/thread", true, 1L, 1L);
+        entityManager.persist(threadClip);
+        entityManager.flush();
+        threadClipId = threadClip.getClipId();
+
+        for (int i = 0; i < COMMENTS_PER_CLIP * 5; i++) {
+            ClipComment comment = new ClipComment("댓글 " + i, (long) i, threadClipId);
+            entityManager.persist(comment);
+            entityManager.flush();
+            for (int j = 0; j < CO_COMMENTS_PER_COMMENT; j++) {
+                entityManager.persist(new ClipCoComment("대댓글 " + j, (long) j, comment.getClipCommentId()));
+            }
+        }
+
+        // 새 클립은 PENDING 으로 저장되므로 피드 조회 대상이 되도록 READY 로 바꾼다.
+        entityManager.createQuery("UPDATE Clip c SET c.status = com.noblesse.backend.clip.domain.ClipStatus.READY")
+                .executeUpdate();
+        entityManager.flush();
+        entityManager.clear();
+
+        jpa = new JpaClipReadRepository(clipRepository, new ClipFeedRepository(entityManager),
+                clipCommentRepository, clipCoCommentRepository);
+        myBatis = new MyBatisClipReadRepository(clipMapper);
+    }
+
+    @DisplayName("#01. JPA 와 MyBatis 클립 조회 경로의 결과 일치 여부 및 지연 시간 비교 벤치마크")
+    @Test
+    @Order(1)
+    void compareJpaWithMyBatis() {
+        // Arrange
+        List<ClipCommentDTO> jpaThread = jpa.findClipCommentsWithCoComments(threadClipId, null, PAGE_SIZE);
+        List<ClipCommentDTO> myBatisThread = myBatis.findClipCommentsWithCoComments(threadClipId, null, PAGE_SIZE);
+
+        // Act & Assert
+        assertEquals(PAGE_SIZE, myBatisThread.size());
+        assertEquals(jpaThread.stream().map(ClipCommentDTO::getClipCommentId).toList(),
+                myBatisThread.stream().map(ClipCommentDTO::getClipCommentId).toList());
+        assertEquals(CO_COMMENTS_PER_COMMENT, myBatisThread.get(0).getCoComments().size());
+        assertEquals(jpa.findOpenClips(null, 3L, null, null, null, PAGE_SIZE).size(), myBatis.findOpenClips(null, 3L, null, null, null, PAGE_SIZE).size());
+        assertEquals(jpa.findOpenClips(7L, null, null, null, null, PAGE_SIZE).size(), myBatis.findOpenClips(7L, null, null, null, null, PAGE_SIZE).size());
+
+        JpaBenchmark benchmark = new JpaBenchmark(entityManager, WARMUP_ITERATIONS, MEASURED_ITERATIONS);
+        Measurement<?> feedResult = compare(benchmark, "feed", () -> jpa.findOpenClips(null, null, null, null, null, PAGE_SIZE),
+                () -> myBatis.findOpenClips(null, null, null, null, null, PAGE_SIZE));
+        Measurement<?> clipsByUserResult = compare(benchmark, "clips by user", () -> jpa.findOpenClips(7L, null, null, null, null, PAGE_SIZE),
+                () -> myBatis.findOpenClips(7L, null, null, null, null, PAGE_SIZE));
+        Measurement<?> threadResult = compare(benchmark, "clip thread", () -> jpa.findClipCommentsWithCoComments(threadClipId, null, PAGE_SIZE),
+                () -> myBatis.findClipCommentsWithCoComments(threadClipId, null, PAGE_SIZE));
+
+        // JPA 경로는 피드/사용자별 페이지가 SELECT 한 번, 스레드가 댓글 페이지 + 대댓글 IN 조회 두 번이다.
+        assertEquals(1, feedResult.statementsPerOp());
+        assertEquals(1, clipsByUserResult.statementsPerOp());
+        assertEquals(2, threadResult.statementsPerOp());
+        assertEquals(0, threadResult.entityLoadsPerOp());
+    }
+
+    private Measurement<?> compare(JpaBenchmark benchmark, String name, Supplier<List<?>> jpaQuery, Supplier<List<?>> myBatisQuery) {
+        Measurement<List<?>> jpaResult = benchmark.measure(name + " / JPA", jpaQuery);
+        Measurement<List<?>> myBatisResult = benchmark.measure(name + " / MyBatis", myBatisQuery);
+        JpaBenchmark.logRatio(jpaResult, myBatisResult);
+        return jpaResult;
+    }
+}
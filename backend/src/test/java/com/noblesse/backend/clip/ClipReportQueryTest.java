@@ -0,0 +1,118 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.domain.ClipReport;
+import com.noblesse.backend.clip.dto.ClipReportRegistRequestDTO;
+import com.noblesse.backend.clip.exception.DuplicateClipReportException;
+import com.noblesse.backend.clip.report.ClipReportAggregator;
+import com.noblesse.backend.clip.repository.ClipReportRepository;
+import com.noblesse.backend.clip.repository.ClipRepository;
+import com.noblesse.backend.clip.service.ClipReportService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클립 신고 수 증감/자동 숨김/중복 신고 제약을 H2 에서 확인하는 테스트
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipReportQueryTest {
+
+    private static final long AUTO_HIDE_THRESHOLD = 3;
+
+    @Autowired
+    private ClipRepository clipRepository;
+
+    @Autowired
+    private ClipReportRepository clipReportRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ClipReportService clipReportService;
+    private Long clipId;
+
+    @BeforeEach
+    void seedClip() {
+        Clip clip = new Clip("클립", "https://cdn.example.com/clip.mp4", true, 1L, 1L);
+        entityManager.persist(clip);
+        entityManager.flush();
+        clipId = clip.getClipId();
+
+        // 운영 DDL 의 DEFAULT 0 과 맞추기 위해 카운터 컬럼을 직접 채운다. (JPA 로는 쓰지 않는 컬럼)
+        entityManager.createNativeQuery("UPDATE clip SET REPORT_COUNT = 0 WHERE CLIP_ID = :clipId")
+                .setParameter("clipId", clipId)
+                .executeUpdate();
+
+        clipReportService = new ClipReportService(clipReportRepository, clipRepository,
+                new ClipReportAggregator(clipReportRepository), AUTO_HIDE_THRESHOLD);
+    }
+
+    @DisplayName("#01. 신고 수가 clip.REPORT_COUNT 에 누적되고, 임계치에 도달한 신고에서 클립이 비공개로 바뀌는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void reportCountShouldHideClipAtThreshold() {
+        // Act
+        for (long userId = 1; userId < AUTO_HIDE_THRESHOLD; userId++) {
+            report(userId);
+        }
+        boolean openedBeforeThreshold = reloadClip().getOpened();
+        report(AUTO_HIDE_THRESHOLD);
+
+        // Assert
+        Clip clip = reloadClip();
+        assertTrue(openedBeforeThreshold);
+        assertFalse(clip.getOpened());
+        assertEquals(AUTO_HIDE_THRESHOLD, clip.getReportCount());
+    }
+
+    @DisplayName("#02. 신고를 삭제하면 같은 트랜잭션에서 clip.REPORT_COUNT 를 줄이는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void deleteShouldDecrementReportCount() {
+        // Arrange
+        report(1L);
+        report(2L);
+        Long clipReportId = clipReportRepository.findClipReportsByClipId(clipId).get(0).getClipReportId();
+
+        // Act
+        clipReportService.deleteClipByClipId(clipReportId);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(1L, reloadClip().getReportCount());
+        assertTrue(reloadClip().getOpened());
+    }
+
+    @DisplayName("#03. 같은 사용자의 중복 신고는 서비스에서 거절되고, (USER_ID, CLIP_ID) 유니크 제약으로도 막히는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void duplicateReportShouldBeRejected() {
+        // Arrange
+        report(1L);
+
+        // Act & Assert
+        assertThrows(DuplicateClipReportException.class, () -> report(1L));
+        assertEquals(1L, reloadClip().getReportCount());
+        assertThrows(DataIntegrityViolationException.class,
+                () -> clipReportRepository.saveAndFlush(new ClipReport(1L, "신고", "내용", 1L, clipId)));
+    }
+
+    private void report(Long userId) {
+        clipReportService.registClipReport(new ClipReportRegistRequestDTO(1L, "신고", "내용", userId, clipId));
+    }
+
+    private Clip reloadClip() {
+        entityManager.clear();
+        return clipRepository.findById(clipId).orElseThrow();
+    }
+}
@@ -0,0 +1,127 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.ClipReport;
+import com.noblesse.backend.clip.dto.ClipReportRegistRequestDTO;
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.clip.exception.DuplicateClipReportException;
+import com.noblesse.backend.clip.report.ClipReportAggregator;
+import com.noblesse.backend.clip.report.ClipReportSummaryDTO;
+import com.noblesse.backend.clip.repository.ClipReportRepository;
+import com.noblesse.backend.clip.repository.ClipRepository;
+import com.noblesse.backend.clip.service.ClipReportService;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipReportServiceTest {
+
+    private static final long AUTO_HIDE_THRESHOLD = 3;
+
+    @Mock
+    private ClipReportRepository clipReportRepository;
+
+    @Mock
+    private ClipRepository clipRepository;
+
+    private ClipReportAggregator clipReportAggregator;
+
+    private ClipReportService clipReportService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void initMocks() {
+        closeable = openMocks(this);
+        clipReportAggregator = new ClipReportAggregator(clipReportRepository);
+        clipReportService = new ClipReportService(clipReportRepository, clipRepository, clipReportAggregator, AUTO_HIDE_THRESHOLD);
+        when(clipReportRepository.saveAndFlush(any(ClipReport.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(clipRepository.addReportCount(anyLong(), anyLong())).thenReturn(1);
+    }
+
+    @AfterEach
+    void closeMocks() throws Exception {
+        closeable.close();
+    }
+
+    @DisplayName("#01. 신고마다 DB 신고 수를 올리고 임계치 기준 숨김을 요청하며, 현황 집계에도 반영하는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void registClipReportShouldCountInDatabaseAndRequestHide() {
+        // Arrange
+        Long clipId = 1L;
+
+        // Act
+        for (int i = 0; i < AUTO_HIDE_THRESHOLD - 1; i++) {
+            clipReportService.registClipReport(new ClipReportRegistRequestDTO(1L, "신고", "내용", 100L + i, clipId));
+        }
+        clipReportService.registClipReport(new ClipReportRegistRequestDTO(2L, "신고", "내용", 200L, clipId));
+
+        // Assert
+        verify(clipRepository, times((int) AUTO_HIDE_THRESHOLD)).addReportCount(clipId, 1);
+        verify(clipRepository, times((int) AUTO_HIDE_THRESHOLD)).hideClipReportedAtLeast(clipId, AUTO_HIDE_THRESHOLD);
+        ClipReportSummaryDTO summary = clipReportService.findClipReportSummary(clipId);
+        assertEquals(AUTO_HIDE_THRESHOLD, summary.getTotalCount());
+        assertEquals(Map.of(1L, AUTO_HIDE_THRESHOLD - 1, 2L, 1L), summary.getCountsByCategory());
+    }
+
+    @DisplayName("#02. 기동 시 재집계 결과를 기준으로 신고가 많은 순으로 조회되는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void rebuildShouldSeedCountsForMostReportedClips() {
+        // Arrange
+        when(clipReportRepository.countGroupByClipIdAndReportCategoryId()).thenReturn(List.of(
+                new Object[]{1L, 1L, 2L},
+                new Object[]{2L, 1L, 4L},
+                new Object[]{2L, 3L, 1L}
+        ));
+
+        // Act
+        clipReportAggregator.rebuild();
+        List<ClipReportSummaryDTO> mostReported = clipReportService.findMostReportedClips(10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), mostReported.stream().map(ClipReportSummaryDTO::getClipId).toList());
+        assertEquals(5L, mostReported.get(0).getTotalCount());
+    }
+
+    @DisplayName("#03. 같은 사용자의 중복 신고는 저장 전에, 동시 중복 신고는 유니크 제약에서 거절하는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void registClipReportShouldRejectDuplicateReports() {
+        // Arrange
+        when(clipReportRepository.existsByUserIdAndClipId(100L, 1L)).thenReturn(true);
+        when(clipReportRepository.saveAndFlush(argThat(report -> report != null && Long.valueOf(200L).equals(report.getUserId()))))
+                .thenThrow(new DataIntegrityViolationException("uk_clip_report_user_clip"));
+
+        // Act & Assert
+        assertThrows(DuplicateClipReportException.class,
+                () -> clipReportService.registClipReport(new ClipReportRegistRequestDTO(1L, "신고", "내용", 100L, 1L)));
+        assertThrows(DuplicateClipReportException.class,
+                () -> clipReportService.registClipReport(new ClipReportRegistRequestDTO(1L, "신고", "내용", 200L, 1L)));
+        verify(clipReportRepository, times(1)).saveAndFlush(any(ClipReport.class));
+        verify(clipRepository, never()).addReportCount(anyLong(), anyLong());
+        assertEquals(0, clipReportService.findClipReportSummary(1L).getTotalCount());
+    }
+
+    @DisplayName("#04. 없는 클립에 대한 신고는 ClipNotFoundException 으로 거절하는지 확인하는 테스트")
+    @Test
+    @Order(4)
+    void registClipReportShouldRejectUnknownClip() {
+        // Arrange
+        when(clipRepository.addReportCount(99L, 1)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(ClipNotFoundException.class,
+                () -> clipReportService.registClipReport(new ClipReportRegistRequestDTO(1L, "신고", "내용", 100L, 99L)));
+        verify(clipRepository, never()).hideClipReportedAtLeast(anyLong(), anyLong());
+    }
+}
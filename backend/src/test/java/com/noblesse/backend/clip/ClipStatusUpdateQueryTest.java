@@ -0,0 +1,112 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.domain.ClipStatus;
+import com.noblesse.backend.clip.repository.ClipRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클립 처리 파이프라인이 쓰는 상태 갱신/조회 쿼리를 H2 에서 확인하는 테스트
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipStatusUpdateQueryTest {
+
+    @Autowired
+    private ClipRepository clipRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("#01. markReady 는 PENDING 클립에만 메타데이터를 채우고 READY 로 바꾸는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void markReadyShouldOnlyUpdatePendingClip() {
+        // Arrange
+        Long clipId = pendingClip();
+
+        // Act
+        int first = clipRepository.markReady(clipId, "video/mp4", 1024L, 15_000L, 1920, 1080, "avc1");
+        int second = clipRepository.markReady(clipId, "video/quicktime", 1L, 1L, 1, 1, "hvc1");
+        int failed = clipRepository.markFailed(clipId);
+        entityManager.clear();
+
+        // Assert
+        Clip clip = clipRepository.findById(clipId).orElseThrow();
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(0, failed);
+        assertEquals(ClipStatus.READY, clip.getStatus());
+        assertEquals("video/mp4", clip.getContentType());
+        assertEquals(15_000L, clip.getDurationMillis());
+        assertEquals("avc1", clip.getVideoCodec());
+    }
+
+    @DisplayName("#02. markFailed 는 PENDING 클립만 FAILED 로 바꾸고, 이후 markReady 로 덮어쓰지 않는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void markFailedShouldOnlyUpdatePendingClip() {
+        // Arrange
+        Long clipId = pendingClip();
+
+        // Act
+        int failed = clipRepository.markFailed(clipId);
+        int ready = clipRepository.markReady(clipId, "video/mp4", 1024L, null, null, null, null);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, failed);
+        assertEquals(0, ready);
+        assertEquals(ClipStatus.FAILED, clipRepository.findById(clipId).orElseThrow().getStatus());
+    }
+
+    @DisplayName("#03. sweep 조회는 기준 시각 이전에 올라온 PENDING 클립만 오래된 순으로 반환하는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void findPendingClipIdsShouldReturnOldPendingClipsOldestFirst() {
+        // Arrange
+        Long newer = pendingClip();
+        Long older = pendingClip();
+        Long ready = pendingClip();
+        clipRepository.markReady(ready, "video/mp4", 1L, null, null, null, null);
+        LocalDateTime now = LocalDateTime.now();
+        setUploadDatetime(newer, now.minusMinutes(5));
+        setUploadDatetime(older, now.minusMinutes(10));
+        setUploadDatetime(ready, now.minusMinutes(20));
+        Long recent = pendingClip();
+        setUploadDatetime(recent, now);
+
+        // Act
+        List<Long> pendingClipIds = clipRepository.findPendingClipIdsUploadedBefore(now.minusMinutes(1), PageRequest.ofSize(10));
+
+        // Assert
+        assertEquals(List.of(older, newer), pendingClipIds);
+    }
+
+    private Long pendingClip() {
+        Clip clip = new Clip("클립", "https://cdn.example.com/clip.mp4", true, 1L, 1L);
+        entityManager.persist(clip);
+        entityManager.flush();
+        return clip.getClipId();
+    }
+
+    private void setUploadDatetime(Long clipId, LocalDateTime uploadDatetime) {
+        entityManager.createNativeQuery("UPDATE clip SET UPLOAD_DATETIME = :uploadDatetime WHERE CLIP_ID = :clipId")
+                .setParameter("uploadDatetime", uploadDatetime)
+                .setParameter("clipId", clipId)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,153 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.clip.repository.ClipFeedRepository;
+import com.noblesse.backend.clip.repository.JpaClipReadRepository;
+import com.noblesse.backend.clip.storage.ClipStorage;
+import com.noblesse.backend.clip.streaming.ClipStreamSourceResolver;
+import com.noblesse.backend.clip.streaming.ClipStreamingService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.ServletOutputStream;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클립 스트리밍이 조회용 커넥션을 돌려준 뒤에 파일을 전송하는지 Hikari 풀 기준으로 확인하는 테스트
+ * 테스트 메서드 자체가 트랜잭션을 열면 커넥션이 묶이므로 테스트 트랜잭션은 끈다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:clip_streaming;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ClipStreamSourceResolver.class, JpaClipReadRepository.class, ClipFeedRepository.class, ClipStorage.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipStreamingConnectionTest {
+
+    private static final Path STORAGE_ROOT = createStorageRoot();
+    private static final byte[] CONTENT = "clip-bytes".getBytes();
+
+    @DynamicPropertySource
+    static void storageRoot(DynamicPropertyRegistry registry) {
+        registry.add("clip.storage.root", STORAGE_ROOT::toString);
+    }
+
+    @Autowired
+    private ClipStreamSourceResolver clipStreamSourceResolver;
+
+    @Autowired
+    private ClipStorage clipStorage;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ClipStreamingService clipStreamingService;
+
+    @BeforeEach
+    void setUp() {
+        clipStreamingService = new ClipStreamingService(clipStreamSourceResolver, 1, 2);
+    }
+
+    @DisplayName("#01. 응답을 쓰는 동안에는 트랜잭션도, 풀에서 빌려 간 커넥션도 없는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void streamShouldNotHoldConnectionWhileWriting() throws IOException {
+        // Arrange
+        Long clipId = seedClip("opened.mp4", true);
+        AtomicInteger activeConnectionsWhileWriting = new AtomicInteger(-1);
+        AtomicBoolean transactionActiveWhileWriting = new AtomicBoolean(true);
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                activeConnectionsWhileWriting.set(((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections());
+                transactionActiveWhileWriting.set(TransactionSynchronizationManager.isActualTransactionActive());
+                return super.getOutputStream();
+            }
+        };
+
+        // Act
+        clipStreamingService.stream(clipId, new MockHttpServletRequest("GET", "/clip/" + clipId + "/stream"), response);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(CONTENT, response.getContentAsByteArray());
+        assertEquals(0, activeConnectionsWhileWriting.get());
+        assertFalse(transactionActiveWhileWriting.get());
+    }
+
+    @DisplayName("#02. 비공개 클립 조회가 실패해도 커넥션과 전송 슬롯을 돌려주는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void failedLookupShouldReleaseConnectionAndSlot() throws IOException {
+        // Arrange
+        Long closedClipId = seedClip("closed.mp4", false);
+        Long openedClipId = seedClip("opened-again.mp4", true);
+
+        // Act & Assert
+        assertThrows(ClipNotFoundException.class, () -> clipStreamingService.stream(
+                closedClipId, new MockHttpServletRequest("GET", "/clip/" + closedClipId + "/stream"), new MockHttpServletResponse()));
+        assertEquals(0, ((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        clipStreamingService.stream(openedClipId, new MockHttpServletRequest("GET", "/clip/" + openedClipId + "/stream"), response);
+        assertEquals(200, response.getStatus());
+        assertEquals(0, clipStreamingService.getStats().getActiveStreams());
+    }
+
+    private Long seedClip(String fileName, boolean isOpened) throws IOException {
+        Path file = Files.write(STORAGE_ROOT.resolve(fileName), CONTENT);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Clip clip = new Clip("클립", clipStorage.toClipUrl(file), isOpened, 1L, 1L);
+            entityManager.persist(clip);
+            entityManager.flush();
+            entityManager.createNativeQuery("UPDATE clip SET STATUS = 'READY' WHERE CLIP_ID = :clipId")
+                    .setParameter("clipId", clip.getClipId())
+                    .executeUpdate();
+            return clip.getClipId();
+        });
+    }
+
+    private static Path createStorageRoot() {
+        try {
+            return Files.createTempDirectory("clip-streaming-test");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
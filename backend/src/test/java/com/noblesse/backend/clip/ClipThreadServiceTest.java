@@ -0,0 +1,103 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.domain.Clip;
+import com.noblesse.backend.clip.dto.ClipCoCommentDTO;
+import com.noblesse.backend.clip.dto.ClipCommentDTO;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.dto.ClipThreadDTO;
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.clip.repository.ClipCoCommentRepository;
+import com.noblesse.backend.clip.repository.ClipCommentRepository;
+import com.noblesse.backend.clip.repository.ClipFeedRepository;
+import com.noblesse.backend.clip.repository.ClipRepository;
+import com.noblesse.backend.clip.repository.JpaClipReadRepository;
+import com.noblesse.backend.clip.service.ClipThreadService;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipThreadServiceTest {
+
+    @Mock
+    private ClipRepository clipRepository;
+
+    @Mock
+    private ClipCommentRepository clipCommentRepository;
+
+    @Mock
+    private ClipCoCommentRepository clipCoCommentRepository;
+
+    @Mock
+    private ClipFeedRepository clipFeedRepository;
+
+    private ClipThreadService clipThreadService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void initMocks() {
+        closeable = openMocks(this);
+        clipThreadService = new ClipThreadService(new JpaClipReadRepository(
+                clipRepository, clipFeedRepository, clipCommentRepository, clipCoCommentRepository));
+    }
+
+    @AfterEach
+    void closeMocks() throws Exception {
+        closeable.close();
+    }
+
+    @DisplayName("#01. 클립 댓글 한 페이지와 해당 댓글들의 대댓글만 조회해 트리로 묶는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void findClipThreadShouldNestCoCommentsUnderPagedComments() {
+        // Arrange
+        Long clipId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        List<ClipCommentDTO> fetched = List.of(
+                new ClipCommentDTO(10L, "첫 댓글", now, now, 100L, clipId),
+                new ClipCommentDTO(11L, "둘째 댓글", now.plusMinutes(1), now, 101L, clipId),
+                new ClipCommentDTO(12L, "다음 페이지 댓글", now.plusMinutes(2), now, 102L, clipId)
+        );
+        when(clipRepository.findOpenClipDTOById(clipId)).thenReturn(Optional.of(new ClipDTO(new Clip("제목", "https://clip/1", true, 100L, 5L))));
+        when(clipCommentRepository.findFirstClipCommentDTOsByClipId(eq(clipId), any(Pageable.class))).thenReturn(fetched);
+        when(clipCoCommentRepository.findClipCoCommentDTOsByClipCommentIdIn(List.of(10L, 11L, 12L))).thenReturn(List.of(
+                new ClipCoCommentDTO(20L, "대댓글", now, now, 103L, 10L)
+        ));
+
+        // Act
+        ClipThreadDTO thread = clipThreadService.findClipThread(clipId, null, 2);
+
+        // Assert
+        List<ClipCommentDTO> comments = thread.getComments().getContent();
+        assertEquals("제목", thread.getClip().getClipTitle());
+        assertEquals(2, comments.size());
+        assertTrue(thread.getComments().isHasNext());
+        assertEquals(11L, DateTimeCursor.decode(thread.getComments().getNextCursor()).getId());
+        assertEquals(1, comments.get(0).getCoComments().size());
+        assertTrue(comments.get(1).getCoComments().isEmpty());
+        verify(clipCoCommentRepository, times(1)).findClipCoCommentDTOsByClipCommentIdIn(anyCollection());
+    }
+
+    @DisplayName("#02. 존재하지 않는 클립의 스레드 조회 시 예외가 발생하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void findClipThreadShouldThrowWhenClipMissing() {
+        // Arrange
+        when(clipRepository.findOpenClipDTOById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ClipNotFoundException.class, () -> clipThreadService.findClipThread(99L, null, null));
+        verifyNoInteractions(clipCommentRepository, clipCoCommentRepository);
+    }
+}
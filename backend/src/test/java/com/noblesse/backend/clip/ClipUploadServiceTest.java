@@ -0,0 +1,136 @@
+package com.noblesse.backend.clip;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.noblesse.backend.clip.dto.ClipDTO;
+import com.noblesse.backend.clip.dto.ClipRegistRequestDTO;
+import com.noblesse.backend.clip.service.ClipService;
+import com.noblesse.backend.clip.storage.ClipFileNotFoundException;
+import com.noblesse.backend.clip.storage.ClipStorage;
+import com.noblesse.backend.clip.upload.ClipUploadCreateRequestDTO;
+import com.noblesse.backend.clip.upload.ClipUploadIncompleteException;
+import com.noblesse.backend.clip.upload.ClipUploadNotFoundException;
+import com.noblesse.backend.clip.upload.ClipUploadService;
+import com.noblesse.backend.clip.upload.ClipUploadStatusDTO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipUploadServiceTest {
+
+    private static final int CHUNK_SIZE = 4;
+
+    @TempDir
+    Path storageRoot;
+
+    @Mock
+    private ClipService clipService;
+
+    private ClipStorage clipStorage;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void initMocks() {
+        closeable = openMocks(this);
+        clipStorage = new ClipStorage(storageRoot.toString());
+        when(clipService.insertUploadedClip(any(ClipRegistRequestDTO.class))).thenReturn(new ClipDTO());
+    }
+
+    @AfterEach
+    void closeMocks() throws Exception {
+        closeable.close();
+    }
+
+    private ClipUploadService newUploadService() {
+        return new ClipUploadService(clipService, clipStorage, new ObjectMapper(),
+                DataSize.ofBytes(CHUNK_SIZE), DataSize.ofMegabytes(1), Duration.ofHours(1));
+    }
+
+    private static ByteArrayInputStream chunkOf(byte[] content, int chunkIndex) {
+        int from = chunkIndex * CHUNK_SIZE;
+        return new ByteArrayInputStream(Arrays.copyOfRange(content, from, Math.min(from + CHUNK_SIZE, content.length)));
+    }
+
+    @DisplayName("#01. 순서와 상관없이 받은 청크가 재시작 후에도 유지되고, 나머지를 받아 완료하면 local clipUrl 로 클립이 등록되는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void uploadShouldResumeAfterRestartAndRegisterClip() throws Exception {
+        // Arrange
+        byte[] content = "travel-video-bytes".getBytes();   // 18 bytes -> 청크 5개 (마지막 2 bytes)
+        ClipUploadService uploadService = newUploadService();
+        String uploadId = uploadService.createUpload(1L,
+                new ClipUploadCreateRequestDTO("trip.MP4", (long) content.length, "여행 클립", true, 2L)).getUploadId();
+        uploadService.writeChunk(1L, uploadId, 4, chunkOf(content, 4));
+        uploadService.writeChunk(1L, uploadId, 1, chunkOf(content, 1));
+
+        // Act
+        ClipUploadService restarted = newUploadService();
+        ClipUploadStatusDTO resumed = restarted.getStatus(1L, uploadId);
+        for (int chunkIndex : resumed.getMissingChunks()) {
+            restarted.writeChunk(1L, uploadId, chunkIndex, chunkOf(content, chunkIndex));
+        }
+        restarted.completeUpload(1L, uploadId);
+
+        // Assert
+        assertEquals(List.of(0, 2, 3), resumed.getMissingChunks());
+        ArgumentCaptor<ClipRegistRequestDTO> captor = ArgumentCaptor.forClass(ClipRegistRequestDTO.class);
+        verify(clipService).insertUploadedClip(captor.capture());
+        assertEquals("local:1/" + uploadId + ".mp4", captor.getValue().getClipUrl());
+        assertEquals(1L, captor.getValue().getUserId());
+        assertArrayEquals(content, Files.readAllBytes(clipStorage.resolve(captor.getValue().getClipUrl())));
+    }
+
+    @DisplayName("#02. 빠진 청크가 있으면 완료가 거절되고 클립이 등록되지 않는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void completeShouldRejectMissingChunks() {
+        // Arrange
+        byte[] content = "12345678".getBytes();
+        ClipUploadService uploadService = newUploadService();
+        String uploadId = uploadService.createUpload(1L,
+                new ClipUploadCreateRequestDTO("trip.mp4", (long) content.length, "여행 클립", true, null)).getUploadId();
+        uploadService.writeChunk(1L, uploadId, 0, chunkOf(content, 0));
+
+        // Act & Assert
+        assertThrows(ClipUploadIncompleteException.class, () -> uploadService.completeUpload(1L, uploadId));
+        verify(clipService, never()).insertUploadedClip(any());
+        assertEquals(List.of(1), uploadService.getStatus(1L, uploadId).getMissingChunks());
+    }
+
+    @DisplayName("#03. 다른 사용자의 업로드는 없는 업로드로 처리하고, 업로드 중인 파일은 clipUrl 로 가리킬 수 없는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void uploadShouldBeVisibleOnlyToOwner() {
+        // Arrange
+        byte[] content = "12345678".getBytes();
+        ClipUploadService uploadService = newUploadService();
+        String uploadId = uploadService.createUpload(1L,
+                new ClipUploadCreateRequestDTO("trip.mp4", (long) content.length, "여행 클립", true, null)).getUploadId();
+        uploadService.writeChunk(1L, uploadId, 0, chunkOf(content, 0));
+        uploadService.writeChunk(1L, uploadId, 1, chunkOf(content, 1));
+
+        // Act & Assert
+        assertThrows(ClipUploadNotFoundException.class, () -> uploadService.getStatus(2L, uploadId));
+        assertThrows(ClipUploadNotFoundException.class, () -> uploadService.writeChunk(2L, uploadId, 0, chunkOf(content, 0)));
+        assertThrows(ClipUploadNotFoundException.class, () -> uploadService.completeUpload(2L, uploadId));
+        assertThrows(ClipUploadNotFoundException.class, () -> uploadService.cancelUpload(2L, uploadId));
+        assertThrows(ClipFileNotFoundException.class, () -> clipStorage.resolve("local:.uploads/" + uploadId + ".part"));
+        verify(clipService, never()).insertUploadedClip(any());
+        assertTrue(uploadService.getStatus(1L, uploadId).getMissingChunks().isEmpty());
+    }
+}
@@ -0,0 +1,89 @@
+package com.noblesse.backend.clip;
+
+import com.noblesse.backend.clip.ingestion.Mp4Metadata;
+import com.noblesse.backend.clip.ingestion.Mp4MetadataParser;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class Mp4MetadataParserTest {
+
+    @TempDir
+    Path directory;
+
+    private static byte[] box(String type, byte[]... children) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (byte[] child : children) {
+            body.writeBytes(child);
+        }
+        return ByteBuffer.allocate(8 + body.size())
+                .putInt(8 + body.size())
+                .put(type.getBytes(StandardCharsets.US_ASCII))
+                .put(body.toByteArray())
+                .array();
+    }
+
+    // version 0 mvhd: version/flags, creation, modification, timescale, duration (+ 나머지 필드는 0)
+    private static byte[] mvhd(int timescale, int duration) {
+        return box("mvhd", ByteBuffer.allocate(100).putInt(0).putInt(0).putInt(0).putInt(timescale).putInt(duration).array());
+    }
+
+    // version 0 tkhd: 76 byte 위치부터 16.16 고정 소수점 width, height
+    private static byte[] tkhd(int width, int height) {
+        return box("tkhd", ByteBuffer.allocate(84).putInt(76, width << 16).putInt(80, height << 16).array());
+    }
+
+    private static byte[] trak(int width, int height, String handlerType, String codec) {
+        byte[] hdlr = box("hdlr", ByteBuffer.allocate(24).putInt(8, ByteBuffer.wrap(handlerType.getBytes(StandardCharsets.US_ASCII)).getInt()).array());
+        byte[] stsd = box("stsd", ByteBuffer.allocate(16).putInt(4, 1).putInt(8, 16)
+                .put(12, codec.getBytes(StandardCharsets.US_ASCII)).array());
+        return box("trak", tkhd(width, height), box("mdia", hdlr, box("minf", box("stbl", stsd))));
+    }
+
+    @DisplayName("#01. moov 가 mdat 뒤에 있어도 재생 시간과 영상 트랙의 해상도/코덱을 읽는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void parseShouldReadDurationResolutionAndCodec() throws Exception {
+        // Arrange
+        Path file = directory.resolve("clip.mp4");
+        ByteArrayOutputStream mp4 = new ByteArrayOutputStream();
+        mp4.writeBytes(box("ftyp", "isom".getBytes(StandardCharsets.US_ASCII)));
+        mp4.writeBytes(box("mdat", new byte[4096]));
+        mp4.writeBytes(box("moov",
+                mvhd(600, 7500),
+                trak(0, 0, "soun", "mp4a"),
+                trak(1920, 1080, "vide", "hvc1")));
+        Files.write(file, mp4.toByteArray());
+
+        // Act
+        Mp4Metadata metadata = Mp4MetadataParser.parse(file);
+
+        // Assert
+        assertEquals(new Mp4Metadata(12_500L, 1920, 1080, "hvc1"), metadata);
+    }
+
+    @DisplayName("#02. MP4 가 아니거나 박스 크기가 파일을 벗어나면 예외 없이 빈 메타데이터를 반환하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void parseShouldReturnEmptyForNonMp4OrTruncatedFile() throws Exception {
+        // Arrange
+        Path text = directory.resolve("notes.txt");
+        Files.writeString(text, "this is not a video container");
+        Path truncated = directory.resolve("truncated.mp4");
+        byte[] moov = box("moov", mvhd(1000, 5000));
+        Files.write(truncated, Arrays.copyOf(moov, moov.length - 10));
+
+        // Act & Assert
+        assertEquals(Mp4Metadata.EMPTY, Mp4MetadataParser.parse(text));
+        assertEquals(Mp4Metadata.EMPTY, Mp4MetadataParser.parse(truncated));
+    }
+}
@@ -0,0 +1,27 @@
+package com.noblesse.backend.common.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.lang.annotation.*;
+
+/**
+ * H2 위에서 도는 JPA 벤치마크 공통 설정
+ * 기본 test 태스크에서는 제외되며 `./gradlew benchmark` 로 실행한다.
+ * JpaBenchmark 가 실행한 SQL 수를 세도록 Hibernate 통계를 켜 둔다.
+ * 벤치마크별 설정(JDBC batch 크기 등)은 @TestPropertySource 로 덧붙인다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@Tag("benchmark")
+public @interface BenchmarkJpaTest {
+}
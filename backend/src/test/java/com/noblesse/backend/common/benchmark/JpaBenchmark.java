@@ -0,0 +1,91 @@
+package com.noblesse.backend.common.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크 공통 측정 루프
+ * 워밍업 후 매 반복마다 영속성 컨텍스트를 비우고 작업을 실행해, 1회당 지연 시간/할당량과
+ * Hibernate 통계 기준 PreparedStatement 수/엔티티 로드 수/엔티티 INSERT 수를 잰다.
+ * 통계는 Hibernate 를 거친 SQL 만 세므로 MyBatis 경로의 SQL 은 포함되지 않는다.
+ */
+public class JpaBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(JpaBenchmark.class);
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+    private final int warmupIterations;
+    private final int measuredIterations;
+
+    public JpaBenchmark(EntityManager entityManager, int warmupIterations, int measuredIterations) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+    /** 작업을 워밍업 후 반복 실행해 1회당 평균 측정값과 마지막 실행 결과를 반환하는 메서드 */
+    public <T> Measurement<T> measure(String name, Supplier<T> task) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < warmupIterations; i++) {
+            entityManager.clear();
+            task.get();
+        }
+
+        long startStatements = statistics.getPrepareStatementCount();
+        long startEntityLoads = statistics.getEntityLoadCount();
+        long startEntityInserts = statistics.getEntityInsertCount();
+        long totalBytes = 0;
+        long totalNanos = 0;
+        T result = null;
+        for (int i = 0; i < measuredIterations; i++) {
+            entityManager.clear();
+            long startBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+            long startNanos = System.nanoTime();
+
+            result = task.get();
+
+            totalNanos += System.nanoTime() - startNanos;
+            totalBytes += threadMXBean.getCurrentThreadAllocatedBytes() - startBytes;
+        }
+
+        Measurement<T> measurement = new Measurement<>(name, result,
+                totalNanos / measuredIterations,
+                totalBytes / measuredIterations,
+                (statistics.getPrepareStatementCount() - startStatements) / measuredIterations,
+                (statistics.getEntityLoadCount() - startEntityLoads) / measuredIterations,
+                (statistics.getEntityInsertCount() - startEntityInserts) / measuredIterations);
+        log.info("{}", measurement);
+        return measurement;
+    }
+
+    /** 두 측정값의 지연 시간/할당량 비율(candidate / baseline)을 로그로 남기는 메서드 */
+    public static void logRatio(Measurement<?> baseline, Measurement<?> candidate) {
+        log.info("[{} / {}] latency ratio = {}, allocation ratio = {}",
+                candidate.name(), baseline.name(),
+                String.format("%.2f", (double) candidate.nanosPerOp() / baseline.nanosPerOp()),
+                String.format("%.2f", (double) candidate.bytesPerOp() / baseline.bytesPerOp()));
+    }
+
+    public record Measurement<T>(String name, T result, long nanosPerOp, long bytesPerOp,
+                                 long statementsPerOp, long entityLoadsPerOp, long entityInsertsPerOp) {
+
+        public double millisPerOp() {
+            return nanosPerOp / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%s] latency=%.3f ms/op, allocated=%,d bytes/op, statements=%d/op, entity loads=%d/op, entity inserts=%d/op",
+                    name, millisPerOp(), bytesPerOp, statementsPerOp, entityLoadsPerOp, entityInsertsPerOp);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.noblesse.backend.common.counter;
+
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class StripedCounterMapTest {
+
+    @DisplayName("#01. 여러 스레드의 동시 증감이 유실 없이 누적되는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void concurrentAddsShouldNotBeLost() throws InterruptedException {
+        // Arrange
+        StripedCounterMap<Long> counters = new StripedCounterMap<>();
+        int threadCount = 8;
+        int incrementsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // Act
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    counters.increment(1L);
+                    counters.add(2L, -1);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        Map<Long, Long> drained = counters.drain();
+
+        // Assert
+        assertEquals((long) threadCount * incrementsPerThread, drained.get(1L));
+        assertEquals(-(long) threadCount * incrementsPerThread, drained.get(2L));
+    }
+
+    @DisplayName("#02. drain 이후에는 0 으로 되돌아가고, 증감량이 0 인 키는 제외되는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void drainShouldResetAndSkipZeroDeltas() {
+        // Arrange
+        StripedCounterMap<Long> counters = new StripedCounterMap<>();
+        counters.add(1L, 3);
+        counters.add(2L, 1);
+        counters.add(2L, -1);
+
+        // Act
+        Map<Long, Long> first = counters.drain();
+        counters.increment(1L);
+        Map<Long, Long> second = counters.drain();
+
+        // Assert
+        assertEquals(Map.of(1L, 3L), first);
+        assertEquals(Map.of(1L, 1L), second);
+        assertEquals(0, counters.get(1L));
+    }
+
+    @DisplayName("#03. drain 전까지 남은 키 개수와 증감량 합계가 집계되는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void pendingMetricsShouldReflectUndrainedDeltas() {
+        // Arrange
+        StripedCounterMap<Long> counters = new StripedCounterMap<>();
+        counters.add(1L, 5);
+        counters.increment(2L);
+        counters.add(3L, 1);
+        counters.add(3L, -1);
+
+        // Act
+        int keysBefore = counters.pendingKeyCount();
+        long totalBefore = counters.pendingTotal();
+        counters.drain();
+
+        // Assert
+        assertEquals(2, keysBefore);
+        assertEquals(6, totalBefore);
+        assertEquals(0, counters.pendingKeyCount());
+        assertEquals(0, counters.pendingTotal());
+    }
+
+    @DisplayName("#04. 직전 drain 이후 증감이 없던 키는 다음 drain 에서 맵에서 빠지는지 확인하는 테스트")
+    @Test
+    @Order(4)
+    void drainShouldRemoveIdleKeys() {
+        // Arrange
+        StripedCounterMap<Long> counters = new StripedCounterMap<>();
+        counters.add(1L, 2);
+        counters.add(2L, 1);
+        counters.add(2L, -1);
+        counters.increment(3L);
+
+        // Act
+        counters.drain();
+        int afterFirst = counters.size();
+        counters.increment(3L);
+        counters.drain();
+        int afterSecond = counters.size();
+        counters.drain();
+        int afterThird = counters.size();
+        counters.increment(1L);
+
+        // Assert
+        assertEquals(2, afterFirst);
+        assertEquals(1, afterSecond);
+        assertEquals(0, afterThird);
+        assertEquals(1, counters.get(1L));
+    }
+
+    @DisplayName("#05. drain 이 키를 빼는 동안 들어온 증감도 유실/중복 없이 이후 drain 에 포함되는지 확인하는 테스트")
+    @Test
+    @Order(5)
+    void concurrentAddsShouldSurviveKeyRemoval() throws InterruptedException {
+        // Arrange
+        StripedCounterMap<Long> counters = new StripedCounterMap<>();
+        int threadCount = 4;
+        int incrementsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Map<Long, Long> totals = new HashMap<>();
+
+        // Act
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    // 증가와 감소를 번갈아 넣어 합계가 0 인 순간(= 키를 빼는 순간)을 자주 만든다.
+                    counters.increment(1L);
+                    counters.add(1L, -1);
+                    counters.increment(2L);
+                }
+                latch.countDown();
+            });
+        }
+        Thread drainer = new Thread(() -> {
+            while (running.get()) {
+                counters.drain().forEach((key, delta) -> totals.merge(key, delta, Long::sum));
+            }
+        });
+        drainer.start();
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        running.set(false);
+        drainer.join();
+        executor.shutdown();
+        counters.drain().forEach((key, delta) -> totals.merge(key, delta, Long::sum));
+
+        // Assert
+        assertEquals(0L, totals.getOrDefault(1L, 0L));
+        assertEquals((long) threadCount * incrementsPerThread, totals.get(2L));
+        assertEquals(0, counters.pendingTotal());
+    }
+}
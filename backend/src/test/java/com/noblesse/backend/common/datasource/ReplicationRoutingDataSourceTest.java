@@ -0,0 +1,96 @@
+package com.noblesse.backend.common.datasource;
+
+import org.junit.jupiter.api.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReplicationRoutingDataSourceTest {
+
+    private static final String WHICH_NODE = "SELECT name FROM node";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2Node("primary");
+        DataSource replica = h2Node("replica");
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(primary, replica, tracker);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesTracker.clear();
+    }
+
+    @DisplayName("#01. 읽기 전용 트랜잭션은 replica 로 라우팅되는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void readOnlyTransactionShouldUseReplica() {
+        // Act
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class));
+
+        // Assert
+        assertEquals("replica", node);
+    }
+
+    @DisplayName("#02. 읽기/쓰기 트랜잭션과 트랜잭션 밖의 조회는 primary 로 라우팅되는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void readWriteTransactionAndNonTransactionalQueryShouldUsePrimary() {
+        // Act
+        String transactional = readWriteTransaction.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class));
+        String nonTransactional = jdbcTemplate.queryForObject(WHICH_NODE, String.class);
+
+        // Assert
+        assertEquals("primary", transactional);
+        assertEquals("primary", nonTransactional);
+    }
+
+    @DisplayName("#03. 쓰기를 한 사용자만 read-your-writes 구간 동안 primary 에서 읽는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void readYourWritesShouldPinOnlyTheWritingClientToPrimary() {
+        // Arrange
+        ReadYourWritesTracker.bind("1");
+        readWriteTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        // Act
+        String writer = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class));
+        ReadYourWritesTracker.bind("2");
+        String otherClient = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class));
+
+        // Assert
+        assertEquals("primary", writer);
+        assertEquals("replica", otherClient);
+    }
+
+    private static DataSource h2Node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,135 @@
+package com.noblesse.backend.common.datasource;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JPA(Hibernate) 트랜잭션 단위 라우팅 테스트
+ * OSIV 가 꺼져 있으면 요청 안의 트랜잭션마다 EntityManager 와 커넥션을 새로 얻으므로,
+ * 읽기 전용 트랜잭션 뒤에 오는 읽기/쓰기 트랜잭션도 primary 로 간다.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReplicationRoutingJpaTest {
+
+    private JdbcTemplate primaryJdbcTemplate;
+    private JdbcTemplate replicaJdbcTemplate;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2Node("primary");
+        DataSource replica = h2Node("replica");
+        primaryJdbcTemplate = new JdbcTemplate(primary);
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(primary, replica, new ReadYourWritesTracker(Duration.ofSeconds(5)));
+        routingDataSource.afterPropertiesSet();
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+        entityManagerFactoryBean.setPackagesToScan(ReplicationRoutingJpaTest.class.getPackageName());
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactoryBean.destroy();
+        ReadYourWritesTracker.clear();
+    }
+
+    @DisplayName("#01. 한 요청에서 읽기 전용 트랜잭션 뒤의 읽기/쓰기 트랜잭션이 primary 로 가는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void readWriteTransactionAfterReadOnlyTransactionShouldReachPrimary() {
+        // Act
+        String readNode = readOnlyTransaction.execute(status -> entityManager.find(Node.class, 1L).getName());
+        String writeNode = readWriteTransaction.execute(status -> {
+            entityManager.persist(new Node(2L, "written"));
+            return entityManager.createQuery("SELECT n.name FROM Node n WHERE n.id = 1", String.class).getSingleResult();
+        });
+
+        // Assert
+        assertEquals("replica", readNode);
+        assertEquals("primary", writeNode);
+        assertEquals(1, primaryJdbcTemplate.queryForObject("SELECT COUNT(*) FROM node WHERE id = 2", Integer.class));
+        assertEquals(0, replicaJdbcTemplate.queryForObject("SELECT COUNT(*) FROM node WHERE id = 2", Integer.class));
+    }
+
+    @DisplayName("#02. 트랜잭션마다 데이터소스를 고를 수 있도록 open-in-view 가 꺼져 있는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void openInViewShouldBeDisabled() {
+        // Arrange
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+
+        // Act
+        Properties properties = yaml.getObject();
+
+        // Assert
+        assertNotNull(properties);
+        assertEquals("false", properties.getProperty("spring.jpa.open-in-view"));
+    }
+
+    private static DataSource h2Node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:jpa_" + name + "_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (id, name) VALUES (1, ?)", name);
+        return dataSource;
+    }
+
+    @Entity(name = "Node")
+    @Table(name = "node")
+    public static class Node {
+
+        @Id
+        private Long id;
+
+        private String name;
+
+        protected Node() {
+        }
+
+        Node(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
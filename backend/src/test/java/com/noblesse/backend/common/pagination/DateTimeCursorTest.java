@@ -0,0 +1,54 @@
+package com.noblesse.backend.common.pagination;
+
+import org.junit.jupiter.api.*;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class DateTimeCursorTest {
+
+    @DisplayName("#01. 인코딩한 커서를 다시 해석하면 같은 (일시, ID) 를 얻는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void decodeShouldRestoreEncodedCursor() {
+        // Arrange
+        DateTimeCursor cursor = new DateTimeCursor(LocalDateTime.of(2024, 8, 1, 12, 30), 42L);
+
+        // Act
+        DateTimeCursor decoded = DateTimeCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor.getDateTime(), decoded.getDateTime());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @DisplayName("#02. 잘못된 커서는 400 으로 응답하는 InvalidCursorException 으로 거절되는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void decodeShouldRejectMalformedCursor() {
+        // Arrange
+        String notBase64 = "%%%";
+        String noDelimiter = encode("2024-08-01T12:30");
+        String badDateTime = encode("yesterday|42");
+        String badId = encode("2024-08-01T12:30|abc");
+
+        // Act & Assert
+        for (String token : new String[]{notBase64, noDelimiter, badDateTime, badId}) {
+            assertThrows(InvalidCursorException.class, () -> DateTimeCursor.decode(token));
+        }
+        ResponseStatus status = AnnotatedElementUtils.findMergedAnnotation(InvalidCursorException.class, ResponseStatus.class);
+        assertNotNull(status);
+        assertEquals(HttpStatus.BAD_REQUEST, status.code());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
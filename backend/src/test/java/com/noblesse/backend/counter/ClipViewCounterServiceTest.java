@@ -0,0 +1,143 @@
+package com.noblesse.backend.counter;
+
+import com.noblesse.backend.clip.exception.ClipNotFoundException;
+import com.noblesse.backend.trending.service.TrendingService;
+import com.noblesse.backend.trending.store.TrendingEvent;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClipViewCounterServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TrendingService trendingService;
+
+    private ClipViewCounterService clipViewCounterService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void initMocks() {
+        closeable = openMocks(this);
+        clipViewCounterService = new ClipViewCounterService(jdbcTemplate, trendingService, 100, Duration.ofMinutes(1));
+
+        // 1, 2 번 클립만 공개된 READY 클립이다.
+        when(jdbcTemplate.queryForObject(contains("FROM clip WHERE"), eq(Long.class), anyLong(), eq("READY")))
+                .thenAnswer(invocation -> {
+                    long clipId = invocation.getArgument(2);
+                    return clipId == 1L || clipId == 2L ? 1L : 0L;
+                });
+    }
+
+    @AfterEach
+    void closeMocks() throws Exception {
+        closeable.close();
+    }
+
+    @DisplayName("#01. flush 는 누적된 조회수를 클립별 한 행씩 batch upsert 로 반영하고 비워지는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void flushShouldBatchUpsertDrainedViews() {
+        // Arrange
+        clipViewCounterService.recordView(1L);
+        clipViewCounterService.recordView(1L);
+        clipViewCounterService.recordView(2L);
+
+        // Act
+        clipViewCounterService.flush();
+        clipViewCounterService.flush();
+
+        // Assert
+        Map<Long, Long> upserted = captureBatchArgs(1).get(0);
+        assertEquals(Map.of(1L, 2L, 2L, 1L), upserted);
+        ClipViewStatsDTO stats = clipViewCounterService.getStats();
+        assertEquals(0, stats.getPendingViews());
+        assertEquals(3, stats.getFlushedViews());
+        verify(trendingService, times(2)).record(1L, TrendingEvent.VIEW);
+    }
+
+    @DisplayName("#02. upsert 가 실패하면 꺼낸 조회수를 되돌려 다음 flush 에서 다시 반영하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void flushShouldRestoreDeltasOnFailure() {
+        // Arrange
+        clipViewCounterService.recordView(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[]{1});
+
+        // Act
+        clipViewCounterService.flush();
+        long pendingAfterFailure = clipViewCounterService.getStats().getPendingViews();
+        clipViewCounterService.recordView(1L);
+        clipViewCounterService.flush();
+
+        // Assert
+        assertEquals(1, pendingAfterFailure);
+        List<Map<Long, Long>> batches = captureBatchArgs(2);
+        assertEquals(Map.of(1L, 1L), batches.get(0));
+        assertEquals(Map.of(1L, 2L), batches.get(1));
+        assertEquals(1, clipViewCounterService.getStats().getFlushFailures());
+        assertEquals(0, clipViewCounterService.getStats().getPendingViews());
+    }
+
+    @DisplayName("#03. 종료 시 남은 조회수를 flush 하는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void flushOnShutdownShouldUpsertPendingViews() {
+        // Arrange
+        clipViewCounterService.recordView(2L);
+
+        // Act
+        clipViewCounterService.flushOnShutdown();
+
+        // Assert
+        assertEquals(Map.of(2L, 1L), captureBatchArgs(1).get(0));
+    }
+
+    @DisplayName("#04. 없거나 비공개/처리 중인 클립의 조회는 거절하고, 확인 결과는 캐시해 다시 조회하지 않는지 확인하는 테스트")
+    @Test
+    @Order(4)
+    void recordViewShouldRejectClipsThatAreNotViewable() {
+        // Act & Assert
+        assertThrows(ClipNotFoundException.class, () -> clipViewCounterService.recordView(99L));
+        assertThrows(ClipNotFoundException.class, () -> clipViewCounterService.recordView(99L));
+        assertThrows(ClipNotFoundException.class, () -> clipViewCounterService.recordView(null));
+        clipViewCounterService.recordView(1L);
+        clipViewCounterService.recordView(1L);
+
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class), eq(99L), eq("READY"));
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class), eq(1L), eq("READY"));
+        verify(trendingService, never()).record(eq(99L), any());
+        assertEquals(2, clipViewCounterService.getStats().getPendingViews());
+
+        clipViewCounterService.flush();
+        assertEquals(Map.of(1L, 2L), captureBatchArgs(1).get(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<Long, Long>> captureBatchArgs(int expectedCalls) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(expectedCalls)).batchUpdate(contains("ON DUPLICATE KEY UPDATE"), captor.capture());
+        return captor.getAllValues().stream()
+                .map(batchArgs -> batchArgs.stream()
+                        .collect(Collectors.toMap(args -> (Long) args[0], args -> (Long) args[1])))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.noblesse.backend.oauth2;
+
+import com.noblesse.backend.oauth2.cache.UserProfileCache;
+import com.noblesse.backend.oauth2.config.SecurityConfig;
+import com.noblesse.backend.oauth2.controller.OAuthController;
+import com.noblesse.backend.oauth2.entity.OAuthUser;
+import com.noblesse.backend.oauth2.repository.OAuthRepository;
+import com.noblesse.backend.oauth2.service.PrincipalOauth2UserService;
+import com.noblesse.backend.oauth2.util.JwtUtil;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /home 이 사용자 프로필을 UserProfileCache 에서 꺼내 응답하는지 MockMvc 로 확인하는 테스트
+ */
+@WebMvcTest(controllers = OAuthController.class, properties = {
+        "CLIENT_ID=test-client",
+        "CLIENT_SECRET=test-secret",
+        "JWT_SECRET=triplay-test-secret-key-at-least-256-bits!!",
+        "JWT_EXPIRATION_MS=60000"
+})
+@Import({SecurityConfig.class, JwtUtil.class, UserProfileCache.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HomeProfileCacheMockMvcTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private PrincipalOauth2UserService principalOauth2UserService;
+
+    @MockBean
+    private OAuthRepository oAuthRepository;
+
+    @DisplayName("#01. 같은 사용자의 /home 반복 요청은 첫 요청에서만 DB 를 조회하고 이후에는 캐시로 응답하는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void homeShouldBeServedFromCache() throws Exception {
+        // Arrange
+        OAuthUser user = new OAuthUser("여행자", "traveler@example.com", "naver", "provider-id");
+        user.setId(42L);
+        when(oAuthRepository.findById(42L)).thenReturn(Optional.of(user));
+        String authorization = "Bearer " + jwtUtil.generateToken(42L);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/home").header(HttpHeaders.AUTHORIZATION, authorization))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.userId").value(42))
+                    .andExpect(jsonPath("$.userName").value("여행자"))
+                    .andExpect(jsonPath("$.username").value("여행자"));
+        }
+        verify(oAuthRepository, times(1)).findById(42L);
+    }
+}
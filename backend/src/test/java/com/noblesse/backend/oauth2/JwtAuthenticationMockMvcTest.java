@@ -0,0 +1,122 @@
+package com.noblesse.backend.oauth2;
+
+import com.noblesse.backend.oauth2.config.SecurityConfig;
+import com.noblesse.backend.oauth2.repository.OAuthRepository;
+import com.noblesse.backend.oauth2.security.JwtUserPrincipal;
+import com.noblesse.backend.oauth2.service.PrincipalOauth2UserService;
+import com.noblesse.backend.oauth2.util.JwtUtil;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/** 필터 체인이 Bearer JWT 만으로 인증하고 세션을 만들지 않는지 MockMvc 로 확인하는 테스트
+ */
+@WebMvcTest(controllers = JwtAuthenticationMockMvcTest.ApiProbeController.class, properties = {
+        "CLIENT_ID=test-client",
+        "CLIENT_SECRET=test-secret",
+        "JWT_SECRET=" + JwtAuthenticationMockMvcTest.SECRET,
+        "JWT_EXPIRATION_MS=60000"
+})
+@Import({SecurityConfig.class, JwtUtil.class, JwtAuthenticationMockMvcTest.ApiProbeController.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class JwtAuthenticationMockMvcTest {
+
+    static final String SECRET = "triplay-test-secret-key-at-least-256-bits!!";
+    private static final String PROBE_URL = "/api/test/me";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private PrincipalOauth2UserService principalOauth2UserService;
+
+    @MockBean
+    private OAuthRepository oAuthRepository;
+
+    @DisplayName("#01. 토큰이 없으면 로그인 페이지로 보내지 않고 401 을 반환하며 세션을 만들지 않는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void requestWithoutTokenShouldBeUnauthorized() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get(PROBE_URL))
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+
+        // Assert
+        assertNoSession(result);
+    }
+
+    @DisplayName("#02. 유효한 Bearer 토큰은 DB 조회 없이 JwtUserPrincipal 로 인증되고 세션을 만들지 않는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void validBearerTokenShouldAuthenticateWithoutDatabaseLookup() throws Exception {
+        // Arrange
+        String token = jwtUtil.generateToken(42L);
+
+        // Act
+        MvcResult result = mockMvc.perform(get(PROBE_URL).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(content().string("42"))
+                .andReturn();
+
+        // Assert
+        assertNoSession(result);
+        verifyNoInteractions(oAuthRepository);
+    }
+
+    @DisplayName("#03. 만료되었거나 변조된 토큰은 401 을 반환하는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void expiredOrTamperedTokenShouldBeUnauthorized() throws Exception {
+        // Arrange
+        String expired = new JwtUtil(SECRET, -1_000, 100).generateToken(42L);
+        String[] victim = jwtUtil.generateToken(42L).split("\\.");
+        String[] attacker = jwtUtil.generateToken(7L).split("\\.");
+        // 다른 사용자의 payload 에 원래 서명을 붙인다.
+        String tampered = victim[0] + "." + attacker[1] + "." + victim[2];
+
+        // Act & Assert
+        for (String token : new String[]{expired, tampered, "not-a-jwt"}) {
+            MvcResult result = mockMvc.perform(get(PROBE_URL).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isUnauthorized())
+                    .andReturn();
+            assertNoSession(result);
+        }
+    }
+
+    private static void assertNoSession(MvcResult result) {
+        assertNull(result.getRequest().getSession(false));
+        assertNull(result.getResponse().getCookie("JSESSIONID"));
+        assertFalse(String.valueOf(result.getResponse().getHeader(HttpHeaders.SET_COOKIE)).contains("JSESSIONID"));
+    }
+
+    // Bearer 인증 결과만 돌려주는 /api/** 검증용 컨트롤러
+    @RestController
+    static class ApiProbeController {
+
+        @GetMapping(PROBE_URL)
+        public String me(@AuthenticationPrincipal Object principal) {
+            return principal instanceof JwtUserPrincipal jwtUserPrincipal
+                    ? String.valueOf(jwtUserPrincipal.userId())
+                    : "unexpected principal";
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.noblesse.backend.oauth2;
+
+import com.noblesse.backend.oauth2.util.JwtUtil;
+import com.noblesse.backend.oauth2.util.VerifiedToken;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class JwtUtilTest {
+
+    private static final String SECRET = "triplay-test-secret-key-at-least-256-bits!!";
+
+    @DisplayName("#01. 검증된 토큰은 다시 검증할 때 캐시된 검증 결과를 반환하고 사용자 ID 를 추출하는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void verifyShouldCacheClaimsOfValidToken() {
+        // Arrange
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+        String token = jwtUtil.generateToken(42L);
+
+        // Act & Assert
+        VerifiedToken verified = jwtUtil.verify(token);
+        assertSame(verified, jwtUtil.verify(token));
+        assertEquals("42", verified.subject());
+        assertNotNull(verified.expiresAt());
+        assertTrue(jwtUtil.validateToken(token));
+        assertEquals(42L, jwtUtil.extractUserId(token));
+    }
+
+    @DisplayName("#02. 서명이 다르거나 만료된 토큰은 검증에 실패하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void verifyShouldRejectForgedAndExpiredTokens() {
+        // Arrange
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+        JwtUtil otherIssuer = new JwtUtil(SECRET.replace('t', 'x'), 60_000, 100);
+        JwtUtil expiredIssuer = new JwtUtil(SECRET, -1_000, 100);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtUtil.verify(otherIssuer.generateToken(42L)));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(expiredIssuer.generateToken(42L)));
+        assertFalse(jwtUtil.validateToken(""));
+    }
+}
@@ -0,0 +1,107 @@
+package com.noblesse.backend.oauth2;
+
+import com.noblesse.backend.oauth2.repository.OAuthUserUpsertRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 MySQL 에서 동시 첫 로그인 upsert 를 검증하는 테스트 (./gradlew mysqlTest, MYSQL_TEST_URL 필요)
+ * ON DUPLICATE KEY UPDATE 와 생성 키 반환은 H2 와 동작이 달라 MySQL 에서만 실행한다.
+ */
+@Tag("mysql")
+@EnabledIfEnvironmentVariable(named = "MYSQL_TEST_URL", matches = ".+")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class OAuthUserUpsertConcurrencyTest {
+
+    private static final String PROVIDER = "upsert-test";
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+
+    private JdbcTemplate jdbcTemplate;
+    private OAuthUserUpsertRepository upsertRepository;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("MYSQL_TEST_URL"),
+                System.getenv().getOrDefault("MYSQL_TEST_USERNAME", "root"),
+                System.getenv().getOrDefault("MYSQL_TEST_PASSWORD", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, user_name VARCHAR(255), email VARCHAR(255), " +
+                "provider VARCHAR(255), provider_id VARCHAR(255), " +
+                "CONSTRAINT uk_user_provider_provider_id UNIQUE (provider, provider_id))");
+        jdbcTemplate.update("DELETE FROM user WHERE provider = ?", PROVIDER);
+        upsertRepository = new OAuthUserUpsertRepository(jdbcTemplate);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        jdbcTemplate.update("DELETE FROM user WHERE provider = ?", PROVIDER);
+    }
+
+    @DisplayName("#01. 같은 사용자의 첫 로그인이 동시에 몰려도 한 행만 저장되고 모든 요청이 같은 사용자 ID 를 받는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void concurrentFirstLoginsShouldCreateOneUser() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // Arrange
+            String providerId = "provider-id-" + round;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return upsertRepository.upsert("여행자", "traveler@example.com", PROVIDER, providerId);
+                }));
+            }
+
+            // Act
+            start.countDown();
+            Set<Long> userIds = new HashSet<>();
+            for (Future<Long> result : results) {
+                userIds.add(result.get(10, TimeUnit.SECONDS));
+            }
+
+            // Assert
+            Long storedId = jdbcTemplate.queryForObject(
+                    "SELECT id FROM user WHERE provider = ? AND provider_id = ?", Long.class, PROVIDER, providerId);
+            assertEquals(Set.of(storedId), userIds);
+        }
+        assertEquals(ROUNDS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user WHERE provider = ?", Integer.class, PROVIDER));
+    }
+
+    @DisplayName("#02. 이미 가입한 사용자의 upsert 는 새 행 없이 기존 사용자 ID 를 반환하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void upsertShouldReturnExistingUserId() {
+        // Arrange
+        Long created = upsertRepository.upsert("여행자", "traveler@example.com", PROVIDER, "existing");
+
+        // Act
+        Long returned = upsertRepository.upsert("다른 이름", "other@example.com", PROVIDER, "existing");
+
+        // Assert
+        assertEquals(created, returned);
+        assertEquals("여행자", jdbcTemplate.queryForObject(
+                "SELECT user_name FROM user WHERE id = ?", String.class, created));
+    }
+}
@@ -0,0 +1,171 @@
+package com.noblesse.backend.oauth2;
+
+import com.noblesse.backend.oauth2.cache.UserProfileCache;
+import com.noblesse.backend.oauth2.cache.UserProfileCacheInvalidationListener;
+import com.noblesse.backend.oauth2.dto.UserProfileDTO;
+import com.noblesse.backend.oauth2.entity.OAuthUser;
+import com.noblesse.backend.oauth2.repository.OAuthRepository;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+/**
+ * 사용자 프로필 캐시의 single-flight 적재와 커밋 이후 무효화를 확인하는 테스트
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserProfileCacheTest {
+
+    private static final int THREADS = 16;
+
+    @Mock
+    private OAuthRepository oAuthRepository;
+
+    private UserProfileCache userProfileCache;
+    private UserProfileCacheInvalidationListener invalidationListener;
+    private ExecutorService executor;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void initMocks() {
+        closeable = openMocks(this);
+        userProfileCache = new UserProfileCache(oAuthRepository, 100, Duration.ofMinutes(10));
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("userProfileCache", userProfileCache);
+        invalidationListener = new UserProfileCacheInvalidationListener(beanFactory.getBeanProvider(UserProfileCache.class));
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void closeMocks() throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        closeable.close();
+    }
+
+    @DisplayName("#01. 같은 키의 동시 캐시 미스는 DB 조회와 provider loader 를 한 번만 실행하는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void concurrentMissesShouldLoadOnce() throws Exception {
+        // Arrange
+        CountDownLatch ready = new CountDownLatch(THREADS * 2);
+        CountDownLatch release = new CountDownLatch(1);
+        when(oAuthRepository.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(user(1L, "여행자"));
+        });
+        AtomicInteger providerLoads = new AtomicInteger();
+
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                return userProfileCache.findById(1L).orElseThrow().getUserName();
+            }));
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                return userProfileCache.getUserIdByProvider("naver", "provider-id", () -> {
+                    providerLoads.incrementAndGet();
+                    awaitQuietly(release);
+                    return 1L;
+                });
+            }));
+        }
+
+        // Act
+        ready.await(5, TimeUnit.SECONDS);
+        // 모든 요청이 적재 중인 값을 기다리도록 잠시 붙잡아 둔다.
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        for (Future<?> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        }
+        verify(oAuthRepository, times(1)).findById(1L);
+        assertEquals(1, providerLoads.get());
+    }
+
+    @DisplayName("#02. OAuthUser 변경은 커밋 이후에 캐시를 무효화해 다음 조회에서 새 값을 적재하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void changeShouldEvictAfterCommit() {
+        // Arrange
+        OAuthUser before = user(1L, "before");
+        OAuthUser after = user(1L, "after");
+        when(oAuthRepository.findById(1L)).thenReturn(Optional.of(before), Optional.of(after));
+        assertEquals("before", userProfileCache.findById(1L).orElseThrow().getUserName());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        invalidationListener.onChanged(after);
+        String beforeCommit = userProfileCache.findById(1L).orElseThrow().getUserName();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        assertEquals("before", beforeCommit);
+        assertEquals("after", userProfileCache.findById(1L).orElseThrow().getUserName());
+        verify(oAuthRepository, times(2)).findById(1L);
+    }
+
+    @DisplayName("#03. 트랜잭션이 롤백되면 캐시를 무효화하지 않는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void changeShouldNotEvictOnRollback() {
+        // Arrange
+        when(oAuthRepository.findById(1L)).thenReturn(Optional.of(user(1L, "before")));
+        UserProfileDTO cached = userProfileCache.findById(1L).orElseThrow();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        invalidationListener.onChanged(user(1L, "rolled-back"));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertSame(cached, userProfileCache.findById(1L).orElseThrow());
+        verify(oAuthRepository, times(1)).findById(1L);
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static OAuthUser user(Long id, String userName) {
+        OAuthUser user = new OAuthUser(userName, "traveler@example.com", "naver", "provider-id");
+        user.setId(id);
+        return user;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
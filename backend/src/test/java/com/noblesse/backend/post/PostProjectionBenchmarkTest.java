@@ -0,0 +1,73 @@
+package com.noblesse.backend.post;
+
+import com.noblesse.backend.common.benchmark.BenchmarkJpaTest;
+import com.noblesse.backend.common.benchmark.JpaBenchmark;
+import com.noblesse.backend.common.benchmark.JpaBenchmark.Measurement;
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.post.query.infrastructure.persistence.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 엔티티 조회 후 DTO 변환(기존 방식)과 DTO 프로젝션 조회의 할당량/지연 시간을 비교하는 벤치마크
+ */
+@BenchmarkJpaTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PostProjectionBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seedPosts() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(new Post(null, "Title " + i, "Content " + i, now.minusSeconds(i), now, true, (long) (i % 100), 1L, 1L));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 서비스의 읽기 전용 트랜잭션과 같은 조건(스냅샷 미보관)에서 비교한다.
+        entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+    }
+
+    @DisplayName("#01. 엔티티 조회 후 DTO 변환과 DTO 프로젝션 조회의 할당량/지연 시간 비교 벤치마크")
+    @Test
+    @Order(1)
+    void compareEntityHydrationWithProjection() {
+        // Arrange
+        JpaBenchmark benchmark = new JpaBenchmark(entityManager, WARMUP_ITERATIONS, MEASURED_ITERATIONS);
+
+        // Act
+        Measurement<List<PostDTO>> entityResult = benchmark.measure("entity + PostDTO(Post)", () -> postRepository.findAll().stream()
+                .map(PostDTO::new)
+                .collect(Collectors.toList()));
+        Measurement<List<PostDTO>> projectionResult = benchmark.measure("DTO projection", () -> postRepository.findAllPostDTOs());
+        JpaBenchmark.logRatio(entityResult, projectionResult);
+
+        // Assert
+        assertEquals(ROWS, entityResult.result().size());
+        assertEquals(ROWS, projectionResult.result().size());
+        // 두 방식 모두 SELECT 한 번이고, 프로젝션은 엔티티를 하나도 만들지 않는다.
+        assertEquals(1, entityResult.statementsPerOp());
+        assertEquals(1, projectionResult.statementsPerOp());
+        assertEquals(ROWS, entityResult.entityLoadsPerOp());
+        assertEquals(0, projectionResult.entityLoadsPerOp());
+    }
+}
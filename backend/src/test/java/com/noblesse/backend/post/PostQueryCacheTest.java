@@ -0,0 +1,108 @@
+package com.noblesse.backend.post;
+
+import com.noblesse.backend.common.cache.CacheStatsDTO;
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.common.exception.PostNotFoundException;
+import com.noblesse.backend.post.query.application.cache.PostQueryCache;
+import com.noblesse.backend.post.query.application.service.PostQueryService;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PostQueryCacheTest {
+
+    private PostQueryService postQueryService;
+    private PostQueryCache postQueryCache;
+
+    @BeforeEach
+    void setUp() {
+        postQueryService = mock(PostQueryService.class);
+        postQueryCache = new PostQueryCache(postQueryService, 100, 100, Duration.ofMinutes(5));
+    }
+
+    @DisplayName("#01. 같은 포스트 ID에 대한 동시 캐시 미스는 한 번의 조회로 합쳐지는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void concurrentMissesShouldCollapseIntoSingleLoad() throws Exception {
+        // Arrange
+        int threadCount = 8;
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        PostDTO post = new PostDTO(1L, "Test Title", "Test Content", true, 1L);
+
+        when(postQueryService.getPostById(1L)).thenAnswer(invocation -> {
+            loaderEntered.countDown();
+            releaseLoader.await(5, TimeUnit.SECONDS);
+            return post;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            // Act
+            List<Future<PostDTO>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> postQueryCache.getPostById(1L)));
+            }
+            assertTrue(loaderEntered.await(5, TimeUnit.SECONDS));
+            releaseLoader.countDown();
+
+            // Assert
+            for (Future<PostDTO> result : results) {
+                assertSame(post, result.get(5, TimeUnit.SECONDS));
+            }
+            verify(postQueryService, times(1)).getPostById(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("#02. 포스트 무효화 이후에는 다시 DB에서 조회하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void evictPostShouldForceReload() {
+        // Arrange
+        when(postQueryService.getPostById(1L))
+                .thenReturn(new PostDTO(1L, "Before", "Content", true, 1L))
+                .thenReturn(new PostDTO(1L, "After", "Content", true, 1L));
+
+        // Act
+        PostDTO first = postQueryCache.getPostById(1L);
+        PostDTO cached = postQueryCache.getPostById(1L);
+        postQueryCache.evictPost(1L);
+        PostDTO reloaded = postQueryCache.getPostById(1L);
+
+        // Assert
+        assertEquals("Before", first.getPostTitle());
+        assertSame(first, cached);
+        assertEquals("After", reloaded.getPostTitle());
+        verify(postQueryService, times(2)).getPostById(1L);
+
+        CacheStatsDTO stats = postQueryCache.getStats().get(0);
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+    }
+
+    @DisplayName("#03. 존재하지 않는 포스트는 캐시하지 않고 `PostNotFoundException`을 그대로 던지는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void missingPostShouldNotBeCached() {
+        // Arrange
+        when(postQueryService.getPostById(1L)).thenThrow(new PostNotFoundException(1L));
+
+        // Act & Assert
+        assertThrows(PostNotFoundException.class, () -> postQueryCache.getPostById(1L));
+        assertThrows(PostNotFoundException.class, () -> postQueryCache.getPostById(1L));
+        verify(postQueryService, times(2)).getPostById(1L);
+    }
+}
@@ -1,5 +1,8 @@
 package com.noblesse.backend.post;
 
+import com.noblesse.backend.common.batch.BatchResultDTO;
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
 import com.noblesse.backend.post.common.dto.PostCoCommentDTO;
 import com.noblesse.backend.post.common.dto.PostCommentDTO;
 import com.noblesse.backend.post.common.dto.PostDTO;
@@ -23,6 +26,7 @@ import org.mockito.Mock;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -32,6 +36,7 @@ import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -78,8 +83,8 @@ public class PostQueryServiceTest {
         Long postId = 1L;
         Post post = new Post(postId, "Test Title", "Test Content", LocalDateTime.now(), LocalDateTime.now(), true, 1L, 1L, 1L);
 
-        when(postRepository.findById(postId))
-                .thenReturn(Optional.of(post));
+        when(postRepository.findPostDTOById(postId))
+                .thenReturn(Optional.of(new PostDTO(post)));
 
         // Act
         PostDTO result = postQueryService.getPostById(postId);
@@ -93,7 +98,7 @@ public class PostQueryServiceTest {
         assertNotNull(result);
         assertEquals("Test Title", result.getPostTitle());
         assertEquals("Test Content", result.getPostContent());
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findPostDTOById(postId);
     }
 
     @DisplayName(value = "#02. 포스트가 존재하지 않으면 `PostNotFoundException`을 리턴받는 테스트")
@@ -103,7 +108,7 @@ public class PostQueryServiceTest {
         // Arrange
         Long postId = 1L;
 
-        when(postRepository.findById(postId))
+        when(postRepository.findPostDTOById(postId))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -112,7 +117,7 @@ public class PostQueryServiceTest {
                 () -> postQueryService.getPostById(postId)
         );
         assertEquals(String.format("포스트 ID %d 를 찾을 수 없어요...", postId), thrown.getMessage());
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findPostDTOById(postId);
     }
 
     @DisplayName(value = "#03. post 테이블에 존재하는 모든 포스트를 페이지로 조회하는 테스트")
@@ -125,8 +130,8 @@ public class PostQueryServiceTest {
                 new Post(2L, "Title 2", "Content 2", LocalDateTime.now(), LocalDateTime.now(), true, 2L, 2L, 2L)
         );
 
-        when(postRepository.findAll())
-                .thenReturn(posts);
+        when(postRepository.findAllPostDTOs())
+                .thenReturn(toPostDTOs(posts));
 
         // Act
         List<PostDTO> result = postQueryService.getAllPosts();
@@ -136,7 +141,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.size());
         assertEquals("Title 1", result.get(0).getPostTitle());
         assertEquals("Title 2", result.get(1).getPostTitle());
-        verify(postRepository, times(1)).findAll();
+        verify(postRepository, times(1)).findAllPostDTOs();
     }
 
     @DisplayName(value = "#04. userId로 해당 사용자가 작성한 모든 포스트를 조회하는 테스트")
@@ -150,8 +155,8 @@ public class PostQueryServiceTest {
                 new Post(2L, "Title 2", "Content 2", LocalDateTime.now(), LocalDateTime.now(), true, userId, 2L, 2L)
         );
 
-        when(postRepository.findByUserId(userId))
-                .thenReturn(posts);
+        when(postRepository.findPostDTOsByUserId(userId))
+                .thenReturn(toPostDTOs(posts));
 
         // Act
         List<PostDTO> result = postQueryService.getPostsByUserId(userId);
@@ -161,7 +166,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.size());
         assertEquals("Title 1", result.get(0).getPostTitle());
         assertEquals("Title 2", result.get(1).getPostTitle());
-        verify(postRepository, times(1)).findByUserId(userId);
+        verify(postRepository, times(1)).findPostDTOsByUserId(userId);
     }
 
     /**
@@ -177,8 +182,8 @@ public class PostQueryServiceTest {
         Post post = Post.builder().postId(1L).build();
         PostComment postComment = new PostComment(1L, "Test Content", LocalDateTime.now(), LocalDateTime.now(), 1L, post);
 
-        when(postCommentRepository.findById(postCommentId))
-                .thenReturn(Optional.of(postComment));
+        when(postCommentRepository.findPostCommentDTOById(postCommentId))
+                .thenReturn(Optional.of(new PostCommentDTO(postComment)));
 
         // Act
         PostCommentDTO result = postQueryService.getPostCommentById(postCommentId);
@@ -192,7 +197,7 @@ public class PostQueryServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals("Test Content", result.getPostCommentContent());
-        verify(postCommentRepository, times(1)).findById(postCommentId);
+        verify(postCommentRepository, times(1)).findPostCommentDTOById(postCommentId);
     }
 
     @DisplayName(value = "#06. 포스트 댓글이 존재하지 않으면 `PostCommentNotFoundException`을 리턴받는 테스트")
@@ -202,7 +207,7 @@ public class PostQueryServiceTest {
         // Arrange
         Long postCommentId = 1L;
 
-        when(postCommentRepository.findById(postCommentId))
+        when(postCommentRepository.findPostCommentDTOById(postCommentId))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -211,7 +216,7 @@ public class PostQueryServiceTest {
                 () -> postQueryService.getPostCommentById(postCommentId)
         );
         assertEquals(String.format("포스트 댓글 ID %d 를 찾을 수 없어요...", postCommentId), thrown.getMessage());
-        verify(postCommentRepository, times(1)).findById(postCommentId);
+        verify(postCommentRepository, times(1)).findPostCommentDTOById(postCommentId);
     }
 
     @DisplayName(value = "#07. post_comment 테이블에 존재하는 모든 포스트 댓글을 페이지로 조회하는 테스트")
@@ -225,8 +230,8 @@ public class PostQueryServiceTest {
                 new PostComment(2L, "Test Content 2", LocalDateTime.now(), LocalDateTime.now(), 2L, post)
         );
 
-        when(postCommentRepository.findAll())
-                .thenReturn(postComments);
+        when(postCommentRepository.findAllPostCommentDTOs())
+                .thenReturn(toPostCommentDTOs(postComments));
 
         // Act
         List<PostCommentDTO> result = postQueryService.getAllPostComments();
@@ -236,7 +241,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.size());
         assertEquals("Test Content 1", result.get(0).getPostCommentContent());
         assertEquals("Test Content 2", result.get(1).getPostCommentContent());
-        verify(postCommentRepository, times(1)).findAll();
+        verify(postCommentRepository, times(1)).findAllPostCommentDTOs();
     }
 
     @DisplayName(value = "#08. userId로 해당 사용자가 작성한 모든 포스트 댓글을 조회하는 테스트")
@@ -252,8 +257,8 @@ public class PostQueryServiceTest {
                 new PostComment(2L, "Test Content 2", LocalDateTime.now(), LocalDateTime.now(), 2L, post)
         );
 
-        when(postCommentRepository.findByUserId(userId))
-                .thenReturn(postComments);
+        when(postCommentRepository.findPostCommentDTOsByUserId(userId))
+                .thenReturn(toPostCommentDTOs(postComments));
 
         // Act
         List<PostCommentDTO> result = postQueryService.getPostCommentsByUserId(userId);
@@ -263,7 +268,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.size());
         assertEquals("Test Content 1", result.get(0).getPostCommentContent());
         assertEquals("Test Content 2", result.get(1).getPostCommentContent());
-        verify(postCommentRepository, times(1)).findByUserId(userId);
+        verify(postCommentRepository, times(1)).findPostCommentDTOsByUserId(userId);
     }
 
     /**
@@ -280,8 +285,8 @@ public class PostQueryServiceTest {
         PostComment postComment = new PostComment(1L, "Parent Comment", LocalDateTime.now(), LocalDateTime.now(), 1L, post);
         PostCoComment postCoComment = new PostCoComment(1L, "Test Co Comment", LocalDateTime.now(), LocalDateTime.now(), 1L, postComment);
 
-        when(postCoCommentRepository.findById(postCoCommentId))
-                .thenReturn(Optional.of(postCoComment));
+        when(postCoCommentRepository.findPostCoCommentDTOById(postCoCommentId))
+                .thenReturn(Optional.of(new PostCoCommentDTO(postCoComment)));
 
         // Act
         PostCoCommentDTO result = postQueryService.getPostCoCommentById(postCoCommentId);
@@ -295,7 +300,7 @@ public class PostQueryServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals("Test Co Comment", result.getPostCoCommentContent());
-        verify(postCoCommentRepository, times(1)).findById(postCoCommentId);
+        verify(postCoCommentRepository, times(1)).findPostCoCommentDTOById(postCoCommentId);
     }
 
     @DisplayName(value = "#10. 포스트 대댓글이 존재하지 않으면 `PostCoCommentNotFoundException`을 리턴받는 테스트")
@@ -305,7 +310,7 @@ public class PostQueryServiceTest {
         // Arrange
         Long postCoCommentId = 1L;
 
-        when(postCoCommentRepository.findById(postCoCommentId))
+        when(postCoCommentRepository.findPostCoCommentDTOById(postCoCommentId))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -313,7 +318,7 @@ public class PostQueryServiceTest {
                 PostCoCommentNotFoundException.class,
                 () -> postQueryService.getPostCoCommentById(postCoCommentId));
         assertEquals(String.format("포스트 대댓글 ID %d 를 찾을 수 없어요...", postCoCommentId), thrown.getMessage());
-        verify(postCoCommentRepository, times(1)).findById(postCoCommentId);
+        verify(postCoCommentRepository, times(1)).findPostCoCommentDTOById(postCoCommentId);
     }
 
     @DisplayName(value = "#11. post_co_comment 테이블에 존재하는 모든 포스트 대댓글을 페이지로 조회하는 테스트")
@@ -328,8 +333,8 @@ public class PostQueryServiceTest {
                 new PostCoComment(2L, "Test Co Comment 2", LocalDateTime.now(), LocalDateTime.now(), 2L, postComment)
         );
 
-        when(postCoCommentRepository.findAll())
-                .thenReturn(postCoComments);
+        when(postCoCommentRepository.findAllPostCoCommentDTOs())
+                .thenReturn(toPostCoCommentDTOs(postCoComments));
 
         // Act
         List<PostCoCommentDTO> result = postQueryService.getAllPostCoComments();
@@ -339,7 +344,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.size());
         assertEquals("Test Co Comment 1", result.get(0).getPostCoCommentContent());
         assertEquals("Test Co Comment 2", result.get(1).getPostCoCommentContent());
-        verify(postCoCommentRepository, times(1)).findAll();
+        verify(postCoCommentRepository, times(1)).findAllPostCoCommentDTOs();
     }
 
     @DisplayName(value = "#12. userId로 해당 사용자가 작성한 모든 포스트 대댓글을 조회하는 테스트")
@@ -356,8 +361,8 @@ public class PostQueryServiceTest {
                 new PostCoComment(2L, "Test Co Comment 2", LocalDateTime.now(), LocalDateTime.now(), 2L, postComment)
         );
 
-        when(postCoCommentRepository.findByUserId(userId))
-                .thenReturn(postCoComments);
+        when(postCoCommentRepository.findPostCoCommentDTOsByUserId(userId))
+                .thenReturn(toPostCoCommentDTOs(postCoComments));
 
         // Act                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                           org.springframework.http.ResponseEntity
         List<PostCoCommentDTO> result = postQueryService.getPostCoCommentsByUserId(userId);
@@ -367,7 +372,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.size());
         assertEquals("Test Co Comment 1", result.get(0).getPostCoCommentContent());
         assertEquals("Test Co Comment 2", result.get(1).getPostCoCommentContent());
-        verify(postCoCommentRepository, times(1)).findByUserId(userId);
+        verify(postCoCommentRepository, times(1)).findPostCoCommentDTOsByUserId(userId);
     }
 
     /**
@@ -383,8 +388,8 @@ public class PostQueryServiceTest {
         Post post = Post.builder().postId(1L).build();
         PostReport postReport = new PostReport(postReportId, "Test Content", LocalDateTime.now(), LocalDateTime.now(), true, 1L, 1L, post);
 
-        when(postReportRepository.findById(postReportId))
-                .thenReturn(Optional.of(postReport));
+        when(postReportRepository.findPostReportDTOById(postReportId))
+                .thenReturn(Optional.of(new PostReportDTO(postReport)));
 
         // Act
         PostReportDTO result = postQueryService.getPostReportById(postReportId);
@@ -396,7 +401,7 @@ public class PostQueryServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals("Test Content", result.getPostReportContent());
-        verify(postReportRepository, times(1)).findById(postReportId);
+        verify(postReportRepository, times(1)).findPostReportDTOById(postReportId);
     }
 
     @DisplayName(value = "#14. 포스트 신고가 존재하지 않으면 `PostReportNotFoundException`을 리턴받는 테스트")
@@ -405,7 +410,7 @@ public class PostQueryServiceTest {
     void getPostReportByIdShouldThrowExceptionWhenPostReportDoesNotExist() {
         // Arrange
         Long postReportId = 1L;
-        when(postReportRepository.findById(postReportId))
+        when(postReportRepository.findPostReportDTOById(postReportId))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -414,7 +419,7 @@ public class PostQueryServiceTest {
                 () -> postQueryService.getPostReportById(postReportId)
         );
         assertEquals(String.format("포스트 신고 ID %d 를 찾을 수 없어요...", postReportId), thrown.getMessage());
-        verify(postReportRepository, times(1)).findById(postReportId);
+        verify(postReportRepository, times(1)).findPostReportDTOById(postReportId);
     }
 
     @DisplayName(value = "#15. post_report 테이블에 존재하는 모든 포스트 신고를 페이지로 조회하는 테스트")
@@ -430,8 +435,8 @@ public class PostQueryServiceTest {
         );
         Page<PostReport> postReportPage = new PageImpl<>(postReports, pageRequest, postReports.size());
 
-        when(postReportRepository.findAll(pageRequest))
-                .thenReturn(postReportPage);
+        when(postReportRepository.findAllPostReportDTOs(pageRequest))
+                .thenReturn(postReportPage.map(PostReportDTO::new));
 
         // Act
         Page<PostReportDTO> result = postQueryService.getAllPostReports(pageRequest);
@@ -441,7 +446,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.getContent().size());
         assertEquals("어그로 포스트 1", result.getContent().get(0).getPostReportContent());
         assertEquals("어그로 포스트 2", result.getContent().get(1).getPostReportContent());
-        verify(postReportRepository, times(1)).findAll(pageRequest);
+        verify(postReportRepository, times(1)).findAllPostReportDTOs(pageRequest);
     }
 
     @DisplayName(value = "#16. userId로 해당 사용자의 모든 포스트 신고를 조회하는 테스트")
@@ -457,8 +462,8 @@ public class PostQueryServiceTest {
                 new PostReport(2L, "Test Content 2", LocalDateTime.now(), LocalDateTime.now(), true, 2L, 2L, post)
         );
 
-        when(postReportRepository.findByUserId(userId))
-                .thenReturn(postReports);
+        when(postReportRepository.findPostReportDTOsByUserId(userId))
+                .thenReturn(toPostReportDTOs(postReports));
 
         // Act
         List<PostReportDTO> result = postQueryService.getPostReportsByUserId(userId);
@@ -468,7 +473,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.size());
         assertEquals("Test Content 1", result.get(0).getPostReportContent());
         assertEquals("Test Content 2", result.get(1).getPostReportContent());
-        verify(postReportRepository, times(1)).findByUserId(userId);
+        verify(postReportRepository, times(1)).findPostReportDTOsByUserId(userId);
     }
 
     @DisplayName("#17. 특정 포스트에 대한 모든 신고를 조회하는 테스트")
@@ -482,8 +487,8 @@ public class PostQueryServiceTest {
                 new PostReport(2L, "어그로 포스트 2", LocalDateTime.now(), LocalDateTime.now(), true, 2L, 2L, post)
         );
 
-        when(postReportRepository.findByPostId(post.getPostId()))
-                .thenReturn(postReports);
+        when(postReportRepository.findPostReportDTOsByPostId(post.getPostId()))
+                .thenReturn(toPostReportDTOs(postReports));
 
         // Act
         List<PostReportDTO> result = postQueryService.getPostReportsByPostId(post.getPostId());
@@ -493,7 +498,7 @@ public class PostQueryServiceTest {
         assertEquals(2, result.size());
         assertEquals("어그로 포스트 1", result.get(0).getPostReportContent());
         assertEquals("어그로 포스트 2", result.get(1).getPostReportContent());
-        verify(postReportRepository, times(1)).findByPostId(post.getPostId());
+        verify(postReportRepository, times(1)).findPostReportDTOsByPostId(post.getPostId());
     }
 
     /**
@@ -508,7 +513,7 @@ public class PostQueryServiceTest {
                 new Post(2L, "Title 2", "Content 2", LocalDateTime.now(), LocalDateTime.now(), true, 2L, 2L, 2L)
         );
 
-        when(postRepository.findAll()).thenReturn(mockPosts);
+        when(postRepository.findAllPostDTOs()).thenReturn(toPostDTOs(mockPosts));
 
         List<PostDTO> result = postQueryService.getAllPosts();
 
@@ -525,7 +530,7 @@ public class PostQueryServiceTest {
         String maxLengthTitle = "a".repeat(255); // 가정: 제목 최대 길이가 255
         Post post = new Post(1L, maxLengthTitle, "Content", LocalDateTime.now(), LocalDateTime.now(), true, 1L, 1L, 1L);
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(postRepository.findPostDTOById(1L)).thenReturn(Optional.of(new PostDTO(post)));
 
         PostDTO result = postQueryService.getPostById(1L);
 
@@ -541,7 +546,7 @@ public class PostQueryServiceTest {
                 new Post(2L, "A Post", "Content", LocalDateTime.now().minusHours(1), LocalDateTime.now(), true, 1L, 1L, 1L)
         );
 
-        when(postRepository.findAll()).thenReturn(mockPosts);
+        when(postRepository.findAllPostDTOs()).thenReturn(toPostDTOs(mockPosts));
 
         List<PostDTO> result = postQueryService.getAllPosts();
 
@@ -554,7 +559,7 @@ public class PostQueryServiceTest {
     @Test
     @Order(21)
     void testEmptyPostList() {
-        when(postRepository.findAll()).thenReturn(new ArrayList<>());
+        when(postRepository.findAllPostDTOs()).thenReturn(new ArrayList<>());
 
         List<PostDTO> result = postQueryService.getAllPosts();
 
@@ -575,8 +580,8 @@ public class PostQueryServiceTest {
                 new Post(2L, "Post 2", "Content", startDate.plusDays(2), startDate.plusDays(2), true, 2L, 1L, 1L)
         );
 
-        when(postRepository.findByCreatedDateTimeBetweenAndUserIdInAndIsOpenedTrue(startDate, endDate, userIds))
-                .thenReturn(mockPosts);
+        when(postRepository.findOpenPostDTOs(startDate, endDate, userIds))
+                .thenReturn(toPostDTOs(mockPosts));
 
         List<PostDTO> result = postQueryService.searchPosts(startDate, endDate, userIds, true);
 
@@ -596,7 +601,7 @@ public class PostQueryServiceTest {
             largePosts.add(new Post((long) i, "Title " + i, "Content " + i, LocalDateTime.now(), LocalDateTime.now(), true, 1L, 1L, 1L));
         }
 
-        when(postRepository.findAll()).thenReturn(largePosts);
+        when(postRepository.findAllPostDTOs()).thenReturn(toPostDTOs(largePosts));
 
         long startTime = System.currentTimeMillis();
         List<PostDTO> result = postQueryService.getAllPosts();
@@ -624,8 +629,8 @@ public class PostQueryServiceTest {
         Post mockPost = new Post(1L, "Test Title", "Test Content", LocalDateTime.now(), LocalDateTime.now(), true, 1L, 1L, 1L);
 
         // postRepository의 findById 메서드가 호출될 때 앞서 생성한 mockPost를 반환하도록 설정함
-        when(postRepository.findById(1L))
-                .thenReturn(Optional.of(mockPost));
+        when(postRepository.findPostDTOById(1L))
+                .thenReturn(Optional.of(new PostDTO(mockPost)));
 
         // threadCount 만큼의 스레드를 생성하고 실행함
         for (int i = 0; i < threadCount; i++) {
@@ -669,12 +674,12 @@ public class PostQueryServiceTest {
         List<PostCoComment> coComments1 = Arrays.asList(coComment1, coComment2);
 
         PostCoComment coComment3 = new PostCoComment(3L, "Test Co Comment 3", LocalDateTime.now(), LocalDateTime.now(), 3L, comment2);
-        List<PostCoComment> coComments2 = List.of(coComment3);
+        List<PostCoComment> coComments = new ArrayList<>(coComments1);
+        coComments.add(coComment3);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(postCommentRepository.findByPostId(postId)).thenReturn(comments);
-        when(postCoCommentRepository.findByPostCommentId(1L)).thenReturn(coComments1);
-        when(postCoCommentRepository.findByPostCommentId(2L)).thenReturn(coComments2);
+        when(postRepository.findPostDTOById(postId)).thenReturn(Optional.of(new PostDTO(post)));
+        when(postCommentRepository.findPostCommentDTOsByPostId(postId)).thenReturn(toPostCommentDTOs(comments));
+        when(postCoCommentRepository.findPostCoCommentDTOsByPostCommentIdIn(List.of(1L, 2L))).thenReturn(toPostCoCommentDTOs(coComments));
 
         // Act
         PostDTO result = postQueryService.getPostWithCommentsAndCoComments(postId);
@@ -696,9 +701,117 @@ public class PostQueryServiceTest {
         assertEquals("Test Co Comment 2", firstComment.getCoComments().get(1).getPostCoCommentContent());
         assertEquals("Test Co Comment 3", secondComment.getCoComments().get(0).getPostCoCommentContent());
 
-        verify(postRepository, times(1)).findById(postId);
-        verify(postCommentRepository, times(1)).findByPostId(postId);
-        verify(postCoCommentRepository, times(1)).findByPostCommentId(1L);
-        verify(postCoCommentRepository, times(1)).findByPostCommentId(2L);
+        verify(postRepository, times(1)).findPostDTOById(postId);
+        verify(postCommentRepository, times(1)).findPostCommentDTOsByPostId(postId);
+        verify(postCoCommentRepository, times(1)).findPostCoCommentDTOsByPostCommentIdIn(List.of(1L, 2L));
+        verify(postCoCommentRepository, never()).findByPostCommentId(anyLong());
+    }
+
+    @DisplayName("#26. 댓글이 없는 포스트는 대댓글을 조회하지 않는지 확인하는 테스트")
+    @Test
+    @Order(26)
+    void getPostWithCommentsAndCoCommentsShouldSkipCoCommentQueryWhenNoComments() {
+        // Arrange
+        Long postId = 1L;
+        Post post = Post.builder().postId(postId).postTitle("Test Title").build();
+
+        when(postRepository.findPostDTOById(postId)).thenReturn(Optional.of(new PostDTO(post)));
+        when(postCommentRepository.findPostCommentDTOsByPostId(postId)).thenReturn(new ArrayList<>());
+
+        // Act
+        PostDTO result = postQueryService.getPostWithCommentsAndCoComments(postId);
+
+        // Assert
+        assertNotNull(result);
+        assertTrue(result.getComments().isEmpty());
+        verify(postCoCommentRepository, never()).findPostCoCommentDTOsByPostCommentIdIn(anyList());
+    }
+
+    @DisplayName("#27. 커서 없이 포스트 목록을 조회하면 첫 페이지와 다음 커서를 반환하는 테스트")
+    @Test
+    @Order(27)
+    void getPostsShouldReturnFirstPageWithNextCursor() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        List<Post> posts = Arrays.asList(
+                new Post(3L, "Title 3", "Content 3", now, now, true, 1L, 1L, 1L),
+                new Post(2L, "Title 2", "Content 2", now.minusMinutes(1), now, true, 1L, 1L, 1L),
+                new Post(1L, "Title 1", "Content 1", now.minusMinutes(2), now, true, 1L, 1L, 1L)
+        );
+
+        when(postRepository.findLatest(any(Pageable.class))).thenReturn(toPostDTOs(posts));
+
+        // Act
+        CursorPageDTO<PostDTO> result = postQueryService.getPosts(null, 2);
+
+        // Assert
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        DateTimeCursor next = DateTimeCursor.decode(result.getNextCursor());
+        assertEquals(2L, next.getId());
+        assertEquals(now.minusMinutes(1), next.getDateTime());
+        verify(postRepository, times(1)).findLatest(PageRequest.ofSize(3));
+        verify(postRepository, never()).findAllPostDTOs();
+    }
+
+    @DisplayName("#28. 커서로 포스트 목록을 조회하면 커서 이후의 마지막 페이지를 반환하는 테스트")
+    @Test
+    @Order(28)
+    void getPostsShouldReturnLastPageAfterCursor() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = new DateTimeCursor(now, 2L).encode();
+        List<Post> posts = List.of(
+                new Post(1L, "Title 1", "Content 1", now.minusMinutes(1), now, true, 1L, 1L, 1L)
+        );
+
+        when(postRepository.findOlderThan(eq(now), eq(2L), any(Pageable.class))).thenReturn(toPostDTOs(posts));
+
+        // Act
+        CursorPageDTO<PostDTO> result = postQueryService.getPosts(cursor, 2);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @DisplayName("#29. ID 목록으로 포스트를 일괄 조회하면 요청 순서를 유지하고 없는 ID 를 따로 반환하는 테스트")
+    @Test
+    @Order(29)
+    void getPostsByIdsShouldKeepRequestOrderAndReportMissingIds() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        List<Post> posts = Arrays.asList(
+                new Post(1L, "Title 1", "Content 1", now, now, true, 1L, 1L, 1L),
+                new Post(3L, "Title 3", "Content 3", now, now, true, 1L, 1L, 1L)
+        );
+
+        when(postRepository.findPostDTOsByPostIdIn(List.of(3L, 2L, 1L))).thenReturn(toPostDTOs(posts));
+
+        // Act
+        BatchResultDTO<PostDTO> result = postQueryService.getPostsByIds(Arrays.asList(3L, 2L, 3L, 1L));
+
+        // Assert
+        assertEquals(List.of(3L, 1L), result.getContent().stream().map(PostDTO::getPostId).collect(Collectors.toList()));
+        assertEquals(List.of(2L), result.getMissingIds());
+        verify(postRepository, times(1)).findPostDTOsByPostIdIn(List.of(3L, 2L, 1L));
+        verify(postRepository, never()).findPostDTOById(anyLong());
+    }
+
+    private static List<PostDTO> toPostDTOs(List<Post> posts) {
+        return posts.stream().map(PostDTO::new).collect(Collectors.toList());
+    }
+
+    private static List<PostCommentDTO> toPostCommentDTOs(List<PostComment> postComments) {
+        return postComments.stream().map(PostCommentDTO::new).collect(Collectors.toList());
+    }
+
+    private static List<PostCoCommentDTO> toPostCoCommentDTOs(List<PostCoComment> postCoComments) {
+        return postCoComments.stream().map(PostCoCommentDTO::new).collect(Collectors.toList());
+    }
+
+    private static List<PostReportDTO> toPostReportDTOs(List<PostReport> postReports) {
+        return postReports.stream().map(PostReportDTO::new).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,76 @@
+package com.noblesse.backend.post;
+
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.post.query.infrastructure.persistence.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PostDTO 프로젝션 쿼리가 카운터 컬럼까지 채우는지 H2 에서 확인하는 테스트
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PostRepositoryProjectionTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long postId;
+
+    @BeforeEach
+    void seedPost() {
+        Post post = new Post(null, "제목", "본문", LocalDateTime.now(), LocalDateTime.now(), true, 1L, 1L, 1L);
+        entityManager.persist(post);
+        entityManager.flush();
+        postId = post.getPostId();
+
+        // 카운터 컬럼은 JPA 로 쓰지 않으므로 EngagementCounterService 처럼 UPDATE 로 채운다.
+        entityManager.createNativeQuery("UPDATE post SET comment_count = 3, co_comment_count = 5, report_count = 1 WHERE post_id = :postId")
+                .setParameter("postId", postId)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @DisplayName("#01. 단건 프로젝션 조회가 댓글/대댓글/신고 수를 채우는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void findPostDTOByIdShouldIncludeCounts() {
+        // Act
+        PostDTO post = postRepository.findPostDTOById(postId).orElseThrow();
+
+        // Assert
+        assertEquals(3L, post.getCommentCount());
+        assertEquals(5L, post.getCoCommentCount());
+        assertEquals(1L, post.getReportCount());
+    }
+
+    @DisplayName("#02. 목록 프로젝션 조회가 엔티티 변환과 같은 카운트를 반환하는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void projectionCountsShouldMatchEntityConversion() {
+        // Act
+        List<PostDTO> projected = postRepository.findPostDTOsByPostIdIn(List.of(postId));
+        PostDTO converted = new PostDTO(postRepository.findById(postId).orElseThrow());
+
+        // Assert
+        assertEquals(1, projected.size());
+        assertEquals(converted.getCommentCount(), projected.get(0).getCommentCount());
+        assertEquals(converted.getCoCommentCount(), projected.get(0).getCoCommentCount());
+        assertEquals(converted.getReportCount(), projected.get(0).getReportCount());
+    }
+}
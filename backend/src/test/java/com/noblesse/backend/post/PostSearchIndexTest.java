@@ -0,0 +1,93 @@
+package com.noblesse.backend.post;
+
+import com.noblesse.backend.post.query.application.search.PostSearchIndex;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PostSearchIndexTest {
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex();
+    }
+
+    @DisplayName("#01. 조사가 붙은 어절도 한글 바이그램으로 검색되는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void searchShouldMatchKoreanWordWithParticle() {
+        // Arrange
+        postSearchIndex.index(1L, "여행 후기", "제주도에서 보낸 3박 4일", true);
+        postSearchIndex.index(2L, "맛집 정리", "부산 해운대 근처 맛집", true);
+
+        // Act
+        PostSearchIndex.SearchResult result = postSearchIndex.search("제주도", 0, 10);
+
+        // Assert
+        assertEquals(1, result.totalHits());
+        assertEquals(1L, result.hits().get(0).postId());
+    }
+
+    @DisplayName("#02. 비공개 포스트는 색인되지 않고, 비공개로 전환되면 색인에서 제거되는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void searchShouldRespectIsOpened() {
+        // Arrange
+        postSearchIndex.index(1L, "제주 여행", "공개 포스트", true);
+        postSearchIndex.index(2L, "제주 여행", "비공개 포스트", false);
+
+        // Act
+        postSearchIndex.index(1L, "제주 여행", "공개 포스트", false);
+        PostSearchIndex.SearchResult result = postSearchIndex.search("제주", 0, 10);
+
+        // Assert
+        assertEquals(0, result.totalHits());
+        assertEquals(0, postSearchIndex.size());
+    }
+
+    @DisplayName("#03. 제목에 검색어가 있는 포스트가 더 높은 순위로 조회되는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void searchShouldRankTitleMatchesHigher() {
+        // Arrange
+        postSearchIndex.index(1L, "일상 기록", "오늘은 강릉 바다를 보러 갔다", true);
+        postSearchIndex.index(2L, "강릉 바다 여행", "오늘은 바다를 보러 갔다", true);
+
+        // Act
+        PostSearchIndex.SearchResult result = postSearchIndex.search("강릉", 0, 10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), postIds(result));
+    }
+
+    @DisplayName("#04. offset, limit 으로 상위 결과를 페이지 단위로 나누어 조회하는 테스트")
+    @Test
+    @Order(4)
+    void searchShouldPaginateRankedHits() {
+        // Arrange
+        for (long postId = 1; postId <= 5; postId++) {
+            postSearchIndex.index(postId, "서울 여행 " + postId, "서울 ".repeat((int) postId), true);
+        }
+
+        // Act
+        PostSearchIndex.SearchResult firstPage = postSearchIndex.search("서울", 0, 2);
+        PostSearchIndex.SearchResult lastPage = postSearchIndex.search("서울", 4, 2);
+
+        // Assert
+        assertEquals(5, firstPage.totalHits());
+        assertEquals(List.of(5L, 4L), postIds(firstPage));
+        assertEquals(List.of(1L), postIds(lastPage));
+    }
+
+    private static List<Long> postIds(PostSearchIndex.SearchResult result) {
+        return result.hits().stream()
+                .map(PostSearchIndex.Hit::postId)
+                .collect(Collectors.toList());
+    }
+}
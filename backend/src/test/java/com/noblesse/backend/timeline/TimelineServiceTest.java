@@ -0,0 +1,194 @@
+package com.noblesse.backend.timeline;
+
+import com.noblesse.backend.common.pagination.CursorPageDTO;
+import com.noblesse.backend.common.pagination.DateTimeCursor;
+import com.noblesse.backend.follow.FollowRepository;
+import com.noblesse.backend.post.common.dto.PostDTO;
+import com.noblesse.backend.post.common.entity.Post;
+import com.noblesse.backend.post.query.infrastructure.persistence.repository.PostRepository;
+import com.noblesse.backend.timeline.repository.TimelinePostRepository;
+import com.noblesse.backend.timeline.service.TimelineFanOutService;
+import com.noblesse.backend.timeline.service.TimelineService;
+import com.noblesse.backend.timeline.store.Timeline;
+import com.noblesse.backend.timeline.store.TimelineEntry;
+import com.noblesse.backend.timeline.store.TimelineStore;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TimelineServiceTest {
+
+    private static final Long FOLLOWER_ID = 1L;
+    private static final Long CELEBRITY_ID = 900L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 7, 1, 12, 0);
+
+    @Mock
+    private TimelineStore timelineStore;
+
+    @Mock
+    private TimelineFanOutService timelineFanOutService;
+
+    @Mock
+    private TimelinePostRepository timelinePostRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private TimelineService timelineService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void initMocks() {
+        closeable = openMocks(this);
+        timelineService = new TimelineService(timelineStore, timelineFanOutService, timelinePostRepository, followRepository, postRepository);
+        when(timelineFanOutService.getCelebrityIds()).thenReturn(Set.of());
+        when(postRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            return StreamSupport.stream(ids.spliterator(), false)
+                    .map(id -> post(id, 10L))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @AfterEach
+    void closeMocks() throws Exception {
+        closeable.close();
+    }
+
+    @DisplayName("#01. 메모리 타임라인과 pull 대상 작성자의 포스트를 최신순으로 병합하는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void getTimelineShouldMergeSourcesNewestFirst() {
+        // Arrange
+        givenTimeline(false, entry(1L, 10L, 10), entry(3L, 10L, 8));
+        when(timelineFanOutService.getCelebrityIds()).thenReturn(Set.of(CELEBRITY_ID));
+        when(followRepository.findFolloweeIdsAmong(FOLLOWER_ID, Set.of(CELEBRITY_ID))).thenReturn(List.of(CELEBRITY_ID));
+        when(timelinePostRepository.findLatestByUserIdIn(eq(List.of(CELEBRITY_ID)), any(Pageable.class)))
+                .thenReturn(List.of(entry(2L, CELEBRITY_ID, 9), entry(4L, CELEBRITY_ID, 7)));
+
+        // Act
+        CursorPageDTO<PostDTO> page = timelineService.getTimeline(FOLLOWER_ID, null, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L, 4L), postIds(page));
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        verify(timelinePostRepository, never()).findLatestByFollowerId(any(), any());
+    }
+
+    @DisplayName("#02. 병합 결과를 페이지 크기로 자르고 마지막 항목으로 다음 커서를 만드는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void getTimelineShouldTruncateToPageSize() {
+        // Arrange
+        givenTimeline(false, entry(1L, 10L, 10), entry(2L, 10L, 9), entry(3L, 10L, 8));
+
+        // Act
+        CursorPageDTO<PostDTO> page = timelineService.getTimeline(FOLLOWER_ID, null, 2);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), postIds(page));
+        assertEquals(2, page.getSize());
+        assertTrue(page.isHasNext());
+        DateTimeCursor next = DateTimeCursor.decode(page.getNextCursor());
+        assertEquals(BASE.plusMinutes(9), next.getDateTime());
+        assertEquals(2L, next.getId());
+    }
+
+    @DisplayName("#03. 다음 커서로 이어서 조회하면 같은 시각의 더 작은 ID 부터 중복 없이 이어지는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void getTimelineShouldContinueFromCursor() {
+        // Arrange
+        givenTimeline(false, entry(5L, 10L, 10), entry(4L, 10L, 10), entry(3L, 10L, 10), entry(1L, 10L, 8));
+
+        // Act
+        CursorPageDTO<PostDTO> first = timelineService.getTimeline(FOLLOWER_ID, null, 2);
+        CursorPageDTO<PostDTO> second = timelineService.getTimeline(FOLLOWER_ID, first.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of(5L, 4L), postIds(first));
+        assertEquals(List.of(3L, 1L), postIds(second));
+        assertFalse(second.isHasNext());
+    }
+
+    @DisplayName("#04. 메모리 타임라인이 잘려 있으면 DB 에서 이어 읽고, 겹치는 포스트는 한 번만 담아 페이지를 이어가는지 확인하는 테스트")
+    @Test
+    @Order(4)
+    void getTimelineShouldFallBackToDatabaseWhenTruncated() {
+        // Arrange
+        givenTimeline(true, entry(5L, 10L, 10), entry(4L, 10L, 9));
+        // DB 의 최신 구간은 메모리 타임라인과 겹친다.
+        when(timelinePostRepository.findLatestByFollowerId(eq(FOLLOWER_ID), any(Pageable.class)))
+                .thenReturn(List.of(entry(5L, 10L, 10), entry(4L, 10L, 9), entry(2L, 10L, 5)));
+        when(timelinePostRepository.findOlderByFollowerId(eq(FOLLOWER_ID), eq(BASE.plusMinutes(9)), eq(4L), any(Pageable.class)))
+                .thenReturn(List.of(entry(2L, 10L, 5), entry(1L, 10L, 4)));
+
+        // Act
+        CursorPageDTO<PostDTO> first = timelineService.getTimeline(FOLLOWER_ID, null, 2);
+        CursorPageDTO<PostDTO> second = timelineService.getTimeline(FOLLOWER_ID, first.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of(5L, 4L), postIds(first));
+        assertTrue(first.isHasNext());
+        assertEquals(List.of(2L, 1L), postIds(second));
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        verify(timelinePostRepository).findLatestByFollowerId(eq(FOLLOWER_ID), any(Pageable.class));
+        verify(timelinePostRepository).findOlderByFollowerId(eq(FOLLOWER_ID), eq(BASE.plusMinutes(9)), eq(4L), any(Pageable.class));
+    }
+
+    @DisplayName("#05. 비공개로 바뀐 포스트는 페이지에서 빠지는지 확인하는 테스트")
+    @Test
+    @Order(5)
+    void getTimelineShouldSkipClosedPosts() {
+        // Arrange
+        givenTimeline(false, entry(2L, 10L, 10), entry(1L, 10L, 9));
+        when(postRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(post(1L, 10L), closedPost(2L, 10L)));
+
+        // Act
+        CursorPageDTO<PostDTO> page = timelineService.getTimeline(FOLLOWER_ID, null, 10);
+
+        // Assert
+        assertEquals(List.of(1L), postIds(page));
+    }
+
+    private void givenTimeline(boolean truncated, TimelineEntry... entries) {
+        when(timelineStore.get(FOLLOWER_ID)).thenReturn(new Timeline(100, Arrays.asList(entries), truncated));
+    }
+
+    private static TimelineEntry entry(Long postId, Long authorId, int minute) {
+        return new TimelineEntry(postId, authorId, BASE.plusMinutes(minute));
+    }
+
+    private static Post post(Long postId, Long userId) {
+        return Post.builder().postId(postId).postTitle("제목 " + postId).isOpened(true).userId(userId).build();
+    }
+
+    private static Post closedPost(Long postId, Long userId) {
+        return Post.builder().postId(postId).postTitle("제목 " + postId).isOpened(false).userId(userId).build();
+    }
+
+    private static List<Long> postIds(CursorPageDTO<PostDTO> page) {
+        return page.getContent().stream()
+                .map(PostDTO::getPostId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,77 @@
+package com.noblesse.backend.trending;
+
+import com.noblesse.backend.trending.store.TrendingScoreBoard;
+import com.noblesse.backend.trending.store.TrendingScoreBoard.ScoredClip;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TrendingScoreBoardTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(1);
+    private static final long NOW = TrendingScoreBoard.EPOCH_MILLIS + Duration.ofDays(365).toMillis();
+
+    @DisplayName("#01. 반감기가 지난 이벤트 점수가 절반으로 감쇠해 최근 이벤트보다 순위가 낮아지는지 확인하는 테스트")
+    @Test
+    @Order(1)
+    void olderEventsShouldDecayByHalfLife() {
+        // Arrange
+        TrendingScoreBoard scoreBoard = new TrendingScoreBoard(HALF_LIFE, 100);
+
+        // Act
+        scoreBoard.add(1L, 4.0, NOW - HALF_LIFE.toMillis() * 2);     // 현재 점수 1.0
+        scoreBoard.add(2L, 1.5, NOW);                                // 현재 점수 1.5
+        scoreBoard.add(3L, 1.0, NOW - HALF_LIFE.toMillis());         // 현재 점수 0.5
+        scoreBoard.add(3L, 1.0, NOW - HALF_LIFE.toMillis());         // 누적 1.0
+        scoreBoard.add(3L, 1.0, NOW);                                // 누적 2.0
+        List<ScoredClip> top = scoreBoard.top(10, NOW);
+
+        // Assert
+        assertEquals(List.of(3L, 2L, 1L), top.stream().map(ScoredClip::clipId).toList());
+        assertEquals(2.0, top.get(0).score(), 1e-9);
+        assertEquals(1.0, top.get(2).score(), 1e-9);
+    }
+
+    @DisplayName("#02. 상위 k 개만 점수 순으로 반환하고, 최대 개수를 넘으면 점수가 가장 낮은 클립이 밀려나는지 확인하는 테스트")
+    @Test
+    @Order(2)
+    void topShouldReturnKHighestAndEvictLowestOverCapacity() {
+        // Arrange
+        TrendingScoreBoard scoreBoard = new TrendingScoreBoard(HALF_LIFE, 3);
+
+        // Act
+        for (long clipId = 1; clipId <= 4; clipId++) {
+            scoreBoard.add(clipId, clipId, NOW);
+        }
+        List<ScoredClip> top = scoreBoard.top(2, NOW);
+
+        // Assert
+        assertEquals(3, scoreBoard.size());
+        assertEquals(List.of(4L, 3L), top.stream().map(ScoredClip::clipId).toList());
+        assertFalse(scoreBoard.snapshot().containsKey(1L));
+    }
+
+    @DisplayName("#03. 최소 점수 아래로 감쇠한 클립만 정리되고 스냅샷 병합 시 점수가 합산되는지 확인하는 테스트")
+    @Test
+    @Order(3)
+    void pruneShouldDropDecayedClipsAndMergeShouldAccumulate() {
+        // Arrange
+        TrendingScoreBoard scoreBoard = new TrendingScoreBoard(HALF_LIFE, 100);
+        scoreBoard.add(1L, 1.0, NOW - HALF_LIFE.toMillis() * 10);    // 현재 점수 약 0.001
+        scoreBoard.add(2L, 1.0, NOW);
+        double snapshotLogScore = scoreBoard.snapshot().get(2L);
+
+        // Act
+        int pruned = scoreBoard.prune(0.05, NOW);
+        scoreBoard.merge(2L, snapshotLogScore);
+
+        // Assert
+        assertEquals(1, pruned);
+        assertEquals(List.of(2L), scoreBoard.top(10, NOW).stream().map(ScoredClip::clipId).toList());
+        assertEquals(2.0, scoreBoard.top(1, NOW).get(0).score(), 1e-9);
+    }
+}